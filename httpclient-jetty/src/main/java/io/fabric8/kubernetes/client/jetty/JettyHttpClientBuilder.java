@@ -76,6 +76,10 @@ public class JettyHttpClientBuilder
       sharedWebSocketClient.setConnectTimeout(connectTimeout.toMillis());
     }
     sharedHttpClient.setFollowRedirects(followRedirects);
+    if (responseCompression) {
+      // decompression is performed by the StandardHttpClient, so that it behaves the same across clients
+      sharedHttpClient.getContentDecoderFactories().clear();
+    }
     // long running http requests count against this and eventually exhaust
     // the work that can be done
     sharedHttpClient.setMaxConnectionsPerDestination(MAX_CONNECTIONS);
@@ -51,6 +51,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -123,6 +126,10 @@ public class Config {
   public static final String KUBERNETES_SERVICE_ACCOUNT_TOKEN_PATH = "/var/run/secrets/kubernetes.io/serviceaccount/token";
   public static final String KUBERNETES_SERVICE_ACCOUNT_CA_CRT_PATH = "/var/run/secrets/kubernetes.io/serviceaccount/ca.crt";
   public static final String KUBERNETES_HTTP2_DISABLE = "http2.disable";
+  public static final String KUBERNETES_RESPONSE_COMPRESSION = "kubernetes.response.compression";
+  public static final String KUBERNETES_QPS = "kubernetes.qps";
+  public static final String KUBERNETES_BURST = "kubernetes.burst";
+  public static final String KUBERNETES_BULK_CONCURRENCY = "kubernetes.bulk.concurrency";
   public static final String KUBERNETES_HTTP_PROXY = "http.proxy";
   public static final String KUBERNETES_HTTPS_PROXY = "https.proxy";
   public static final String KUBERNETES_ALL_PROXY = "all.proxy";
@@ -146,6 +153,8 @@ public class Config {
 
   public static final int DEFAULT_UPLOAD_REQUEST_TIMEOUT = 120 * 1000;
 
+  public static final int DEFAULT_BULK_CONCURRENCY = 1;
+
   public static final String HTTP_PROTOCOL_PREFIX = "http://";
   public static final String HTTPS_PROTOCOL_PREFIX = "https://";
 
@@ -176,6 +185,8 @@ public class Config {
   private volatile String oauthToken;
   @JsonIgnore
   private volatile String autoOAuthToken;
+  @JsonIgnore
+  private volatile Instant autoOAuthTokenExpiration;
   private OAuthTokenProvider oauthTokenProvider;
   private long websocketPingInterval = DEFAULT_WEBSOCKET_PING_INTERVAL;
   private int connectionTimeout = 10 * 1000;
@@ -212,6 +223,10 @@ public class Config {
    */
 
   private boolean http2Disable;
+  private boolean responseCompression;
+  private double qps;
+  private int burst;
+  private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
   private String httpProxy;
   private String httpsProxy;
   private String proxyUsername;
@@ -337,7 +352,7 @@ public class Config {
         errorMessages, userAgent, tlsVersions, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, null, null, DEFAULT_REQUEST_RETRY_BACKOFFLIMIT, DEFAULT_REQUEST_RETRY_BACKOFFINTERVAL,
-        DEFAULT_UPLOAD_REQUEST_TIMEOUT);
+        DEFAULT_UPLOAD_REQUEST_TIMEOUT, false, 0, 0, DEFAULT_BULK_CONCURRENCY);
   }
 
   @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false)
@@ -352,7 +367,8 @@ public class Config {
       String proxyPassword, String trustStoreFile, String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase,
       String impersonateUsername, String[] impersonateGroups, Map<String, List<String>> impersonateExtras,
       OAuthTokenProvider oauthTokenProvider, Map<String, String> customHeaders, int requestRetryBackoffLimit,
-      int requestRetryBackoffInterval, int uploadRequestTimeout) {
+      int requestRetryBackoffInterval, int uploadRequestTimeout, boolean responseCompression, double qps, int burst,
+      int bulkConcurrency) {
     this.apiVersion = apiVersion;
     this.namespace = namespace;
     this.trustCerts = trustCerts;
@@ -379,6 +395,10 @@ public class Config {
     this.requestConfig.setImpersonateExtras(impersonateExtras);
 
     this.http2Disable = http2Disable;
+    this.responseCompression = responseCompression;
+    this.qps = qps;
+    this.burst = burst;
+    this.bulkConcurrency = bulkConcurrency;
     this.httpProxy = httpProxy;
     this.httpsProxy = httpsProxy;
     this.noProxy = noProxy;
@@ -501,6 +521,11 @@ public class Config {
     }
 
     config.setHttp2Disable(Utils.getSystemPropertyOrEnvVar(KUBERNETES_HTTP2_DISABLE, config.isHttp2Disable()));
+    config.setResponseCompression(
+        Utils.getSystemPropertyOrEnvVar(KUBERNETES_RESPONSE_COMPRESSION, config.isResponseCompression()));
+    config.setQps(Double.parseDouble(Utils.getSystemPropertyOrEnvVar(KUBERNETES_QPS, String.valueOf(config.getQps()))));
+    config.setBurst(Utils.getSystemPropertyOrEnvVar(KUBERNETES_BURST, config.getBurst()));
+    config.setBulkConcurrency(Utils.getSystemPropertyOrEnvVar(KUBERNETES_BULK_CONCURRENCY, config.getBulkConcurrency()));
 
     config.setHttpProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpProxy()));
     config.setHttpsProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpsProxy()));
@@ -784,6 +809,7 @@ public class Config {
         ExecCredential ec = getExecCredentialFromExecConfig(exec, configFile);
         if (ec != null && ec.status != null && ec.status.token != null) {
           config.setAutoOAuthToken(ec.status.token);
+          config.setAutoOAuthTokenExpiration(parseExpirationTimestamp(ec.status.expirationTimestamp));
         } else {
           LOGGER.warn("No token returned");
         }
@@ -794,6 +820,18 @@ public class Config {
     }
   }
 
+  private static Instant parseExpirationTimestamp(String expirationTimestamp) {
+    if (Utils.isNullOrEmpty(expirationTimestamp)) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(expirationTimestamp).toInstant();
+    } catch (DateTimeParseException e) {
+      LOGGER.warn("Invalid exec credential expirationTimestamp {}", expirationTimestamp);
+      return null;
+    }
+  }
+
   protected static ExecCredential getExecCredentialFromExecConfig(ExecConfig exec, File configFile)
       throws IOException, InterruptedException {
     String apiVersion = exec.getApiVersion();
@@ -895,7 +933,8 @@ public class Config {
   @JsonIgnoreProperties(ignoreUnknown = true)
   public static final class ExecCredentialStatus {
     public String token;
-    // TODO clientCertificateData, clientKeyData, expirationTimestamp
+    public String expirationTimestamp;
+    // TODO clientCertificateData, clientKeyData
   }
 
   private static boolean tryNamespaceFromPath(Config config) {
@@ -1262,6 +1301,55 @@ public class Config {
     this.http2Disable = http2Disable;
   }
 
+  /**
+   * @return true if gzip compressed responses should be requested from the server
+   */
+  @JsonProperty("responseCompression")
+  public boolean isResponseCompression() {
+    return responseCompression;
+  }
+
+  public void setResponseCompression(boolean responseCompression) {
+    this.responseCompression = responseCompression;
+  }
+
+  /**
+   * @return the maximum sustained requests per second sent by the client, 0 or less for no limit
+   */
+  @JsonProperty("qps")
+  public double getQps() {
+    return qps;
+  }
+
+  public void setQps(double qps) {
+    this.qps = qps;
+  }
+
+  /**
+   * @return the maximum number of requests sent at once when limited by {@link #getQps()}
+   */
+  @JsonProperty("burst")
+  public int getBurst() {
+    return burst;
+  }
+
+  public void setBurst(int burst) {
+    this.burst = burst;
+  }
+
+  /**
+   * @return the maximum number of requests issued at once by operations on lists of resources, 1 or less to issue
+   *         them one at a time
+   */
+  @JsonProperty("bulkConcurrency")
+  public int getBulkConcurrency() {
+    return bulkConcurrency;
+  }
+
+  public void setBulkConcurrency(int bulkConcurrency) {
+    this.bulkConcurrency = bulkConcurrency;
+  }
+
   public void setHttpProxy(String httpProxy) {
     this.httpProxy = httpProxy;
   }
@@ -1509,4 +1597,16 @@ public class Config {
     this.autoOAuthToken = autoOAuthToken;
   }
 
+  /**
+   * @return the expiry of the auto configured OAuth token, when provided by an exec credential plugin, or null
+   */
+  @JsonIgnore
+  public Instant getAutoOAuthTokenExpiration() {
+    return autoOAuthTokenExpiration;
+  }
+
+  public void setAutoOAuthTokenExpiration(Instant autoOAuthTokenExpiration) {
+    this.autoOAuthTokenExpiration = autoOAuthTokenExpiration;
+  }
+
 }
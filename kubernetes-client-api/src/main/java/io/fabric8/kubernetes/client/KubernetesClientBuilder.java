@@ -21,10 +21,14 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.VirtualThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -34,6 +38,8 @@ import java.util.function.Supplier;
  */
 public class KubernetesClientBuilder {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesClientBuilder.class);
+
   @FunctionalInterface
   public interface ExecutorSupplier extends Supplier<Executor> {
 
@@ -41,6 +47,16 @@ public class KubernetesClientBuilder {
 
     }
 
+    /**
+     * Provide the {@link ThreadFactory} for tasks that need a thread of their own for their whole duration, such as
+     * pumping the input of an exec, rather than sharing the supplied {@link Executor}.
+     *
+     * @return the {@link ThreadFactory}, or null to use the default
+     */
+    default ThreadFactory getDedicatedThreadFactory() {
+      return null;
+    }
+
   }
 
   private Config config;
@@ -147,6 +163,24 @@ public class KubernetesClientBuilder {
     return this;
   }
 
+  /**
+   * Configure the client to run async tasks, such as {@link ResourceEventHandler} calls, on virtual threads. The
+   * input of an exec is also pumped by a virtual thread. Blocking client calls made from these tasks then park a
+   * virtual thread rather than occupying a platform thread.
+   * <p>
+   * Virtual threads require Java 21 or later. On earlier versions the default {@link ExecutorSupplier} is used.
+   *
+   * @return this builder
+   */
+  public KubernetesClientBuilder withVirtualThreads() {
+    if (VirtualThreads.isSupported()) {
+      this.executorSupplier = VirtualThreads.EXECUTOR_SUPPLIER;
+    } else {
+      LOGGER.warn("Virtual threads are not supported by this Java runtime, using the default executor");
+    }
+    return this;
+  }
+
   /**
    * Provide additional configuration for the {@link HttpClient} that is created for this {@link KubernetesClient}.
    *
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the basic {@link NonNamespaceOperation} operations, see {@link AsyncResource}.
+ * <p>
+ * The item operations apply to the context item or name, as with the blocking operations. A collection
+ * {@link #delete()} that requires more than one request is performed on the client executor.
+ *
+ * @param <T> the resource type
+ * @param <L> the list type
+ */
+public interface AsyncOperation<T, L> extends AsyncResource<T> {
+
+  /**
+   * @return a future completing with the list of resources matching the operation.
+   */
+  CompletableFuture<L> list();
+
+  /**
+   * @param listOptions the list options, see {@link Listable#list(ListOptions)}
+   * @return a future completing with the list of resources matching the operation and options.
+   */
+  CompletableFuture<L> list(ListOptions listOptions);
+
+  /**
+   * @param name the name of the resource
+   * @return the non-blocking operations for the named resource
+   */
+  AsyncResource<T> withName(String name);
+
+  /**
+   * @param item the resource
+   * @return the non-blocking operations for the given resource
+   */
+  AsyncResource<T> resource(T item);
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the basic {@link Resource} operations.
+ * <p>
+ * The returned futures are completed by the http client once the response has been read, no thread is parked
+ * waiting for the request. Dependent stages should not block as they may run on the http client threads.
+ * <p>
+ * The other settings of the operation chain, such as the namespace, dryRun, fieldManager, grace period, or
+ * propagation policy, are applied as with the blocking variants.
+ *
+ * @param <T> the resource type
+ */
+public interface AsyncResource<T> {
+
+  /**
+   * Get the current state from the api server.
+   *
+   * @return a future completing with the item or null if the item doesn't exist.
+   */
+  CompletableFuture<T> get();
+
+  /**
+   * Create the item of this operation.
+   *
+   * @return a future completing with the created item as returned by the api server.
+   */
+  CompletableFuture<T> create();
+
+  /**
+   * Patch the resource using the given patch.
+   *
+   * @param patchContext the patch type and options, a strategic merge is used if null
+   * @param patch the patch, as json or yaml
+   * @return a future completing with the patched item as returned by the api server.
+   */
+  CompletableFuture<T> patch(PatchContext patchContext, String patch);
+
+  /**
+   * Perform a server-side apply of the item of this operation.
+   *
+   * @return a future completing with the applied item as returned by the api server.
+   * @see ServerSideApplicable#serverSideApply()
+   */
+  CompletableFuture<T> serverSideApply();
+
+  /**
+   * Delete the resource.
+   *
+   * @return a future completing with the details of the deleted items, empty if the resource did not exist.
+   */
+  CompletableFuture<List<StatusDetails>> delete();
+
+}
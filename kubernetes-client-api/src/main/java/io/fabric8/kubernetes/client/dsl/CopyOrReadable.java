@@ -47,4 +47,26 @@ public interface CopyOrReadable {
    */
   CopyOrReadable withReadyWaitTimeout(Integer timeout);
 
+  /**
+   * Compress the tar stream of directory reads and copies, and of path uploads, with gzip.
+   * <p>
+   * The tar in the container must support the <code>z</code> option. Compressed uploads are verified
+   * with a checksum before being extracted.
+   */
+  CopyOrReadable withCompression();
+
+  /**
+   * Split directory uploads into up to the given number of tar streams, uploaded concurrently
+   * with separate execs. Each stream is verified with a checksum before being extracted.
+   *
+   * @param streams the maximum number of concurrent streams
+   */
+  CopyOrReadable withParallelStreams(int streams);
+
+  /**
+   * Resume file uploads from the size of the existing remote file, only sending the missing bytes.
+   * The whole remote file is then verified with a checksum.
+   */
+  CopyOrReadable withResumableUpload();
+
 }
@@ -15,6 +15,13 @@
  */
 package io.fabric8.kubernetes.client.dsl;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.api.model.Table;
+import io.fabric8.kubernetes.client.informers.MultiNamespaceSharedIndexInformer;
+
+import java.util.Collection;
 import java.util.stream.Stream;
 
 public interface FilterWatchListDeletable<T, L, R>
@@ -37,4 +44,53 @@ public interface FilterWatchListDeletable<T, L, R>
    */
   Stream<R> resources();
 
+  /**
+   * Get, list, watch and inform on the metadata of the resources only, as {@link PartialObjectMetadata}.
+   * <p>
+   * For those operations the other fields, such as the spec, status or data, are neither transferred nor cached,
+   * which considerably reduces the network and memory usage for controllers only interested in names, labels, owner
+   * references or resource versions. The responses of the other operations, such as edits and patches, are still the
+   * full objects.
+   *
+   * @return the operations on the metadata of the resources matching the current context
+   */
+  FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly();
+
+  /**
+   * List the resources as a server-side {@link Table}, the columns printed by kubectl get, with the metadata of each
+   * object.
+   *
+   * @return the table
+   */
+  default Table listAsTable() {
+    return listAsTable(new ListOptions(), true);
+  }
+
+  /**
+   * List the resources as a server-side {@link Table}, the columns printed by kubectl get.
+   * <p>
+   * The table is computed by the API server, so only the cells, and optionally the object metadata, are
+   * transferred and parsed.
+   *
+   * @param listOptions the options, such as the limit and continue token
+   * @param includeMetadata true to include the metadata of each object in the rows, false for the cells only
+   * @return the table
+   */
+  Table listAsTable(ListOptions listOptions, boolean includeMetadata);
+
+  /**
+   * Create an informer for the resources in the given namespaces, rather than the namespace of this context, with the
+   * label and field selectors of this context.
+   * <p>
+   * For a large number of namespaces a single cluster wide watch is used, otherwise a watch per namespace. Namespaces
+   * may be added or removed while the informer is running, see {@link MultiNamespaceSharedIndexInformer}.
+   * <p>
+   * You are expected to call stop to terminate the underlying Watches.
+   *
+   * @param namespaces the namespaces
+   * @param resync the resync period or 0 for no resync
+   * @return a non-running {@link MultiNamespaceSharedIndexInformer}
+   */
+  MultiNamespaceSharedIndexInformer<T> multiNamespaceInformer(Collection<String> namespaces, long resync);
+
 }
@@ -122,6 +122,40 @@ public interface Informable<T> {
    */
   SharedIndexInformer<T> runnableInformer(long resync);
 
+  /**
+   * Similar to {@link #runnableInformer(long)}, but the informer is shared by all callers on the same client for the
+   * same resource type, namespace, name, label and field selectors, and resync period, so that there is a single list,
+   * watch and store for all of them.
+   * <p>
+   * The returned {@link SharedIndexInformer} is a reference to the shared informer, which may already be running.
+   * Handlers added through it are removed when it is stopped, and the shared informer is stopped once all references
+   * are. Options that can only be set before the informer is running, such as the item store, are applied by the first
+   * reference to start it. Setting a different one through another reference fails with a
+   * {@link io.fabric8.kubernetes.client.KubernetesClientException}. Likewise, the indexers of
+   * {@link #withIndexers(Map)} are added to the shared informer, and fail if another caller added a different indexer
+   * with the same name.
+   *
+   * @param resync the resync period of the shared informer and of the handlers added through the reference, or 0 for
+   *        no resync
+   * @return a reference to the shared {@link SharedIndexInformer}
+   */
+  SharedIndexInformer<T> sharedRunnableInformer(long resync);
+
+  /**
+   * Similar to {@link #inform(ResourceEventHandler, long)}, but using the informer shared by all callers on the same
+   * client for the same resource type, namespace, name, label and field selectors, and resync period - see
+   * {@link #sharedRunnableInformer(long)}.
+   * <p>
+   * This call will be blocking for the initial list and watch if the shared informer is not yet running.
+   * <p>
+   * You are expected to call stop to remove the handler and release the shared informer.
+   *
+   * @param handler to notify
+   * @param resync the resync period or 0 for no resync
+   * @return a running reference to the shared {@link SharedIndexInformer}
+   */
+  SharedIndexInformer<T> sharedInform(ResourceEventHandler<? super T> handler, long resync);
+
   /**
    * Return a {@link Future} when the list at this context satisfies the given {@link Predicate}.
    * The predicate will be tested against the state of the underlying informer store on every event.
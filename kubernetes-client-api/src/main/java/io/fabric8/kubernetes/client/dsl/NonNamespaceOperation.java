@@ -26,4 +26,13 @@ package io.fabric8.kubernetes.client.dsl;
 public interface NonNamespaceOperation<T, L, R> extends
     Nameable<R>,
     AnyNamespaceOperation<T, L, R> {
+
+  /**
+   * Non-blocking variants of the basic operations, which return {@link java.util.concurrent.CompletableFuture}s
+   * rather than waiting for the api server response.
+   *
+   * @return the non-blocking operations
+   */
+  AsyncOperation<T, L> async();
+
 }
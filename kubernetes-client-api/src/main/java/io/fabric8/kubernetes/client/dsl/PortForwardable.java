@@ -54,6 +54,22 @@ public interface PortForwardable {
    */
   LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort);
 
+  /**
+   * Listen on port <code>localPort</code> on selected IP <code>inetAddress</code>, forwarding to <code>port</code>
+   * in the pod. Up to <code>streamsPerConnection</code> local connections share a single WebSocket connection,
+   * which saves an upgrade and handshake for the others, e.g. for connection pools.
+   * <p>
+   * The remote port is connected for all the streams of a WebSocket when it opens, and a connection closed by the
+   * pod is only seen locally once every stream of its WebSocket is done.
+   *
+   * @param port port in integer
+   * @param localInetAddress {@link InetAddress} selected IP Address, null for all local addresses
+   * @param localPort local port in integer, 0 for a random port
+   * @param streamsPerConnection the number of local connections per WebSocket, between 1 and 127
+   * @return PortForward interface
+   */
+  LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort, int streamsPerConnection);
+
   /**
    * Create a server socket on a random local port. Every connection to the local port will be forwarded to the remote port on
    * the resource.
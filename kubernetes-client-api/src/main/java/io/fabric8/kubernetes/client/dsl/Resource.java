@@ -85,4 +85,12 @@ public interface Resource<T> extends
    */
   T item();
 
+  /**
+   * Non-blocking variants of the basic operations, which return {@link java.util.concurrent.CompletableFuture}s
+   * rather than waiting for the api server response.
+   *
+   * @return the non-blocking operations
+   */
+  AsyncResource<T> async();
+
 }
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.controller;
+
+import io.fabric8.kubernetes.client.extended.workqueue.WorkQueue;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Runs a {@link Reconciler} on a number of workers, fed with keys from informer events through a
+ * {@link WorkQueue}.
+ * <p>
+ * Use a {@link ControllerBuilder} to create.
+ */
+public class Controller implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(Controller.class);
+
+  static class Source<T> {
+    private final SharedIndexInformer<T> informer;
+    private final Function<T, String> keyFunction;
+    // the handler registered by the controller, removed once closed
+    private ResourceEventHandler<T> handler;
+
+    Source(SharedIndexInformer<T> informer, Function<T, String> keyFunction) {
+      this.informer = informer;
+      this.keyFunction = keyFunction;
+    }
+  }
+
+  private final String name;
+  private final Reconciler reconciler;
+  private final List<Source<?>> sources;
+  private final WorkQueue<String> workQueue;
+  private final int workers;
+  private final Executor executor;
+  private CompletableFuture<Void> startFuture;
+
+  Controller(String name, Reconciler reconciler, List<Source<?>> sources, WorkQueue<String> workQueue, int workers,
+      Executor executor) {
+    this.name = name;
+    this.reconciler = reconciler;
+    this.sources = sources;
+    this.workQueue = workQueue;
+    this.workers = workers;
+    this.executor = executor;
+  }
+
+  /**
+   * Register with the informers, starting them if needed, and once they have all synced start the workers.
+   * <p>
+   * Calling start again returns the same future.
+   *
+   * @return a future that completes once the workers have been started
+   */
+  public synchronized CompletableFuture<Void> start() {
+    if (workQueue.isShutDown()) {
+      throw new IllegalStateException("Cannot restart a closed controller");
+    }
+    if (startFuture != null) {
+      return startFuture;
+    }
+    LOGGER.debug("Starting controller {} with {} workers", name, workers);
+    CompletableFuture<?>[] informerFutures = new CompletableFuture<?>[sources.size()];
+    for (int i = 0; i < sources.size(); i++) {
+      informerFutures[i] = register(sources.get(i)).start().toCompletableFuture();
+    }
+    startFuture = CompletableFuture.allOf(informerFutures).thenRun(() -> {
+      for (int i = 0; i < workers; i++) {
+        executor.execute(this::worker);
+      }
+    });
+    return startFuture;
+  }
+
+  private <T> SharedIndexInformer<T> register(Source<T> source) {
+    source.handler = new ResourceEventHandler<T>() {
+      @Override
+      public void onAdd(T obj) {
+        enqueue(source, obj);
+      }
+
+      @Override
+      public void onUpdate(T oldObj, T newObj) {
+        enqueue(source, newObj);
+      }
+
+      @Override
+      public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+        enqueue(source, obj);
+      }
+    };
+    return source.informer.addEventHandler(source.handler);
+  }
+
+  private <T> void enqueue(Source<T> source, T obj) {
+    String key = source.keyFunction.apply(obj);
+    if (key != null) {
+      workQueue.add(key);
+    }
+  }
+
+  private void worker() {
+    while (true) {
+      String key;
+      try {
+        key = workQueue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (key == null) {
+        return;
+      }
+      if (workQueue.isShutDown()) {
+        // the queue still hands out the remaining keys, but the backlog is abandoned once closed
+        workQueue.done(key);
+        return;
+      }
+      try {
+        reconciler.reconcile(key);
+        workQueue.forget(key);
+      } catch (Exception e) {
+        if (e instanceof InterruptedException) {
+          Thread.currentThread().interrupt();
+        }
+        if (workQueue.isShutDown()) {
+          LOGGER.debug("Controller {} failed to reconcile {} after being closed", name, key, e);
+        } else {
+          LOGGER.warn("Controller {} failed to reconcile {} after {} retries, requeuing", name, key,
+              workQueue.numRequeues(key), e);
+          workQueue.addRateLimited(key);
+        }
+      } finally {
+        workQueue.done(key);
+      }
+    }
+  }
+
+  /**
+   * Stop the workers once they complete their current reconciliation, and remove the handlers from the informers.
+   * The informers are not stopped as they may be shared.
+   */
+  @Override
+  public synchronized void close() {
+    workQueue.shutDown();
+    sources.forEach(Controller::unregister);
+    if (startFuture != null) {
+      startFuture.cancel(true);
+    }
+  }
+
+  private static <T> void unregister(Source<T> source) {
+    if (source.handler != null) {
+      source.informer.removeEventHandler(source.handler);
+      source.handler = null;
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public WorkQueue<String> getWorkQueue() {
+    return workQueue;
+  }
+
+  static <T> Source<T> source(SharedIndexInformer<T> informer, Function<T, String> keyFunction) {
+    return new Source<>(Objects.requireNonNull(informer), Objects.requireNonNull(keyFunction));
+  }
+
+}
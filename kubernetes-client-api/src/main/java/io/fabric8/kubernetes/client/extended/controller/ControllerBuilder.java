@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.controller;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.extended.workqueue.RateLimiter;
+import io.fabric8.kubernetes.client.extended.workqueue.WorkQueue;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+public class ControllerBuilder {
+
+  private final Reconciler reconciler;
+  private final List<Controller.Source<?>> sources = new ArrayList<>();
+  private String name = "controller";
+  private int workers = 1;
+  private Executor executor;
+  private RateLimiter<String> rateLimiter;
+
+  public ControllerBuilder(Reconciler reconciler) {
+    this.reconciler = Objects.requireNonNull(reconciler, "reconciler is required");
+  }
+
+  public ControllerBuilder withName(String name) {
+    this.name = Objects.requireNonNull(name, "name is required");
+    return this;
+  }
+
+  /**
+   * Enqueue the namespace/name key of each resource the informer sees.
+   */
+  public <T extends HasMetadata> ControllerBuilder watch(SharedIndexInformer<T> informer) {
+    return watch(informer, Cache::metaNamespaceKeyFunc);
+  }
+
+  /**
+   * Enqueue the key computed for each resource the informer sees - for example the key of the owner of a
+   * dependent resource. A null key is ignored.
+   */
+  public <T> ControllerBuilder watch(SharedIndexInformer<T> informer, Function<T, String> keyFunction) {
+    sources.add(Controller.source(informer, keyFunction));
+    return this;
+  }
+
+  public ControllerBuilder withWorkers(int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("workers must be greater than zero");
+    }
+    this.workers = workers;
+    return this;
+  }
+
+  /**
+   * Run each worker as a task on the executor, rather than on its own daemon thread. Workers hold their thread for
+   * the life of the controller, so the executor must allow at least as many concurrent tasks as there are workers.
+   * On Java 21+ a virtual thread per task executor is a good fit.
+   */
+  public ControllerBuilder withExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public ControllerBuilder withRateLimiter(RateLimiter<String> rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  public Controller build() {
+    if (sources.isEmpty()) {
+      throw new IllegalArgumentException("at least one informer must be watched");
+    }
+    Executor workerExecutor = executor;
+    if (workerExecutor == null) {
+      ThreadFactory threadFactory = Utils.daemonThreadFactory(reconciler);
+      workerExecutor = r -> threadFactory.newThread(r).start();
+    }
+    WorkQueue<String> workQueue = rateLimiter == null ? new WorkQueue<>() : new WorkQueue<>(rateLimiter);
+    return new Controller(name, reconciler, new ArrayList<>(sources), workQueue, workers, workerExecutor);
+  }
+
+}
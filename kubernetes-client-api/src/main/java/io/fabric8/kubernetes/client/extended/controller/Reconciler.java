@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.controller;
+
+/**
+ * Reconciles the state of the resource identified by a key - by default namespace/name, see
+ * {@link io.fabric8.kubernetes.client.informers.cache.Cache#metaNamespaceKeyFunc}.
+ * <p>
+ * Reconciliation should be idempotent and should read the current state from the informer caches rather than
+ * relying on the event that caused it, as multiple events for the same key are collapsed into a single call.
+ */
+@FunctionalInterface
+public interface Reconciler {
+
+  /**
+   * Reconcile the resource. If an exception is thrown the key will be retried according to the
+   * {@link io.fabric8.kubernetes.client.extended.workqueue.RateLimiter}, otherwise its backoff is reset.
+   *
+   * @param key the key
+   * @throws Exception if reconciliation failed
+   */
+  void reconcile(String key) throws Exception;
+
+}
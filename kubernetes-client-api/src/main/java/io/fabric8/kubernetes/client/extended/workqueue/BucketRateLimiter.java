@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.workqueue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link RateLimiter} backed by a single token bucket shared by all items. Each call to {@link #when(Object)}
+ * reserves a token, and the returned delay is how long until that token is available.
+ *
+ * @param <T> the item type
+ */
+public class BucketRateLimiter<T> implements RateLimiter<T> {
+
+  private final double tokensPerNano;
+  private final int burst;
+  private final LongSupplier nanoClock;
+  private double tokens;
+  private long last;
+
+  /**
+   * @param qps the rate at which tokens are added to the bucket
+   * @param burst the size of the bucket
+   */
+  public BucketRateLimiter(double qps, int burst) {
+    this(qps, burst, System::nanoTime);
+  }
+
+  BucketRateLimiter(double qps, int burst, LongSupplier nanoClock) {
+    if (qps <= 0 || burst < 1) {
+      throw new IllegalArgumentException("qps and burst must be positive");
+    }
+    this.tokensPerNano = qps / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst;
+    this.nanoClock = nanoClock;
+    this.tokens = burst;
+    this.last = nanoClock.getAsLong();
+  }
+
+  @Override
+  public synchronized Duration when(T item) {
+    long now = nanoClock.getAsLong();
+    tokens = Math.min(burst, tokens + (now - last) * tokensPerNano);
+    last = now;
+    tokens -= 1;
+    if (tokens >= 0) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos((long) Math.ceil(-tokens / tokensPerNano));
+  }
+
+  @Override
+  public void forget(T item) {
+    // not tracked per item
+  }
+
+  @Override
+  public int numRequeues(T item) {
+    return 0;
+  }
+
+}
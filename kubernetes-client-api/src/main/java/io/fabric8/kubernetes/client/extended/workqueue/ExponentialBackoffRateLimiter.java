@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.workqueue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link RateLimiter} that doubles the delay of an item on each requeue, starting from the base delay,
+ * up to the max delay.
+ *
+ * @param <T> the item type
+ */
+public class ExponentialBackoffRateLimiter<T> implements RateLimiter<T> {
+
+  private final long baseDelayNanos;
+  private final long maxDelayNanos;
+  private final Map<T, Integer> failures = new HashMap<>();
+
+  public ExponentialBackoffRateLimiter(Duration baseDelay, Duration maxDelay) {
+    if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+      throw new IllegalArgumentException("baseDelay must not be negative or greater than maxDelay");
+    }
+    this.baseDelayNanos = baseDelay.toNanos();
+    this.maxDelayNanos = maxDelay.toNanos();
+  }
+
+  @Override
+  public Duration when(T item) {
+    int exponent;
+    synchronized (failures) {
+      exponent = failures.getOrDefault(item, 0);
+      failures.put(item, exponent + 1);
+    }
+    double delay = baseDelayNanos * Math.pow(2, exponent);
+    if (delay > maxDelayNanos) {
+      return Duration.ofNanos(maxDelayNanos);
+    }
+    return Duration.ofNanos((long) delay);
+  }
+
+  @Override
+  public void forget(T item) {
+    synchronized (failures) {
+      failures.remove(item);
+    }
+  }
+
+  @Override
+  public int numRequeues(T item) {
+    synchronized (failures) {
+      return failures.getOrDefault(item, 0);
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.workqueue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link RateLimiter} that applies the longest delay of all of its delegates.
+ *
+ * @param <T> the item type
+ */
+public class MaxOfRateLimiter<T> implements RateLimiter<T> {
+
+  private final List<RateLimiter<T>> rateLimiters;
+
+  @SafeVarargs
+  public MaxOfRateLimiter(RateLimiter<T>... rateLimiters) {
+    this.rateLimiters = Arrays.asList(rateLimiters);
+  }
+
+  @Override
+  public Duration when(T item) {
+    Duration result = Duration.ZERO;
+    for (RateLimiter<T> rateLimiter : rateLimiters) {
+      Duration delay = rateLimiter.when(item);
+      if (delay.compareTo(result) > 0) {
+        result = delay;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void forget(T item) {
+    rateLimiters.forEach(r -> r.forget(item));
+  }
+
+  @Override
+  public int numRequeues(T item) {
+    int result = 0;
+    for (RateLimiter<T> rateLimiter : rateLimiters) {
+      result = Math.max(result, rateLimiter.numRequeues(item));
+    }
+    return result;
+  }
+
+}
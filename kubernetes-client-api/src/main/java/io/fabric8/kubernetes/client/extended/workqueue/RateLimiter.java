@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.workqueue;
+
+import java.time.Duration;
+
+/**
+ * Determines how long an item should wait before being processed again.
+ *
+ * @param <T> the item type
+ */
+public interface RateLimiter<T> {
+
+  /**
+   * Record another requeue of the item and compute how long it should wait.
+   *
+   * @param item the item
+   * @return the delay before the item may be processed, never null
+   */
+  Duration when(T item);
+
+  /**
+   * Stop tracking the item, for example because it was processed successfully.
+   *
+   * @param item the item
+   */
+  void forget(T item);
+
+  /**
+   * @param item the item
+   * @return the number of times the item has been requeued since it was last forgotten
+   */
+  int numRequeues(T item);
+
+  /**
+   * Create the default controller rate limiter: the greater of a per-item exponential backoff from 5ms
+   * up to 1000s, and a shared token bucket of 10 qps with a burst of 100.
+   *
+   * @param <T> the item type
+   * @return the rate limiter
+   */
+  static <T> RateLimiter<T> defaultControllerRateLimiter() {
+    return new MaxOfRateLimiter<>(new ExponentialBackoffRateLimiter<>(Duration.ofMillis(5), Duration.ofSeconds(1000)),
+        new BucketRateLimiter<>(10, 100));
+  }
+
+}
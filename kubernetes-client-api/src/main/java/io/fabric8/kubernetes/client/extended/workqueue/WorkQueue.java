@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.workqueue;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A deduplicating, delaying and rate limited queue of work items - typically resource keys.
+ * <ul>
+ * <li>An item added multiple times before it is taken is only processed once.
+ * <li>An item is never processed concurrently - if it is added while being processed, it is queued again only
+ * once {@link #done(Object)} is called.
+ * <li>Items may be added after a delay, or after a delay determined by the {@link RateLimiter}.
+ * </ul>
+ * <p>
+ * Delayed items are held by the queue itself and become available to {@link #take()} once ready, so no additional
+ * thread is needed.
+ *
+ * @param <T> the item type
+ */
+public class WorkQueue<T> {
+
+  private static class Waiting<T> {
+    private final T item;
+    private final long readyAt;
+
+    private Waiting(T item, long readyAt) {
+      this.item = item;
+      this.readyAt = readyAt;
+    }
+  }
+
+  private final RateLimiter<T> rateLimiter;
+  private final LongSupplier nanoClock;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final ArrayDeque<T> queue = new ArrayDeque<>();
+  // items that need processing, whether queued or currently being processed
+  private final Set<T> dirty = new HashSet<>();
+  private final Set<T> processing = new HashSet<>();
+  private final Map<T, Long> waiting = new HashMap<>();
+  private final PriorityQueue<Waiting<T>> waitingQueue = new PriorityQueue<>(
+      Comparator.comparingLong((Waiting<T> w) -> w.readyAt));
+  private boolean shutDown;
+
+  public WorkQueue() {
+    this(RateLimiter.defaultControllerRateLimiter());
+  }
+
+  public WorkQueue(RateLimiter<T> rateLimiter) {
+    this(rateLimiter, System::nanoTime);
+  }
+
+  WorkQueue(RateLimiter<T> rateLimiter, LongSupplier nanoClock) {
+    this.rateLimiter = rateLimiter;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Add the item to the queue, unless it is already queued.
+   *
+   * @param item the item
+   */
+  public void add(T item) {
+    lock.lock();
+    try {
+      if (!shutDown) {
+        addInternal(item);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void addInternal(T item) {
+    if (!dirty.add(item) || processing.contains(item)) {
+      return;
+    }
+    queue.add(item);
+    changed.signal();
+  }
+
+  /**
+   * Add the item to the queue once the delay has passed. If the item is already waiting, the earlier of the
+   * two times is used.
+   *
+   * @param item the item
+   * @param delay the delay
+   */
+  public void addAfter(T item, Duration delay) {
+    if (delay.isZero() || delay.isNegative()) {
+      add(item);
+      return;
+    }
+    lock.lock();
+    try {
+      if (shutDown) {
+        return;
+      }
+      long readyAt = nanoClock.getAsLong() + delay.toNanos();
+      Long existing = waiting.get(item);
+      if (existing != null && existing - readyAt <= 0) {
+        return;
+      }
+      waiting.put(item, readyAt);
+      waitingQueue.add(new Waiting<>(item, readyAt));
+      // a taker may need to wake sooner
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Add the item to the queue after the delay determined by the {@link RateLimiter}.
+   *
+   * @param item the item
+   */
+  public void addRateLimited(T item) {
+    addAfter(item, rateLimiter.when(item));
+  }
+
+  /**
+   * Reset the rate limiting of the item, for example because it was processed successfully.
+   *
+   * @param item the item
+   */
+  public void forget(T item) {
+    rateLimiter.forget(item);
+  }
+
+  /**
+   * @param item the item
+   * @return the number of times the item has been rate limited since it was last forgotten
+   */
+  public int numRequeues(T item) {
+    return rateLimiter.numRequeues(item);
+  }
+
+  /**
+   * Wait for the next item to process. The caller must call {@link #done(Object)} once processing is complete.
+   *
+   * @return the item, or null if the queue has been shut down
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (true) {
+        long now = nanoClock.getAsLong();
+        Waiting<T> next;
+        while ((next = waitingQueue.peek()) != null && next.readyAt - now <= 0) {
+          waitingQueue.poll();
+          if (waiting.remove(next.item, next.readyAt)) {
+            addInternal(next.item);
+          }
+        }
+        T item = queue.poll();
+        if (item != null) {
+          dirty.remove(item);
+          processing.add(item);
+          if (!queue.isEmpty()) {
+            changed.signal();
+          }
+          return item;
+        }
+        if (shutDown) {
+          return null;
+        }
+        if (next != null) {
+          changed.awaitNanos(next.readyAt - now);
+        } else {
+          changed.await();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Mark the item as no longer being processed. If it was added again in the meantime, it is queued.
+   *
+   * @param item the item
+   */
+  public void done(T item) {
+    lock.lock();
+    try {
+      processing.remove(item);
+      if (dirty.contains(item) && !shutDown) {
+        queue.add(item);
+        changed.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stop accepting items. Waiting items are discarded, and once the already queued items are taken
+   * {@link #take()} returns null.
+   */
+  public void shutDown() {
+    lock.lock();
+    try {
+      shutDown = true;
+      waiting.clear();
+      waitingQueue.clear();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean isShutDown() {
+    lock.lock();
+    try {
+      return shutDown;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of items ready to be taken
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+}
@@ -26,6 +26,7 @@ import io.fabric8.kubernetes.client.PropagationPolicyConfigurable;
 import io.fabric8.kubernetes.client.ResourceNotFoundException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
 import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Informable;
@@ -84,6 +85,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.get();
   }
 
+  @Override
+  public AsyncResource<T> async() {
+    return resource.async();
+  }
+
   @Override
   public ReplaceDeletable<T> lockResourceVersion(String resourceVersion) {
     return resource.lockResourceVersion(resourceVersion);
@@ -245,6 +251,16 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.runnableInformer(resync);
   }
 
+  @Override
+  public SharedIndexInformer<T> sharedRunnableInformer(long resync) {
+    return resource.sharedRunnableInformer(resync);
+  }
+
+  @Override
+  public SharedIndexInformer<T> sharedInform(ResourceEventHandler<? super T> handler, long resync) {
+    return resource.sharedInform(handler, resync);
+  }
+
   @Override
   public CompletableFuture<List<T>> informOnCondition(Predicate<List<T>> condition) {
     return resource.informOnCondition(condition);
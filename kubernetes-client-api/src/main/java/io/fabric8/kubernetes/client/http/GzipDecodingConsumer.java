@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses a gzip encoded response body as it is delivered, passing the inflated
+ * buffers to the delegate consumer.
+ * <p>
+ * Until {@link #onResponse(HttpResponse)} determines that the response is gzip encoded
+ * the buffers are passed through as is.
+ * <p>
+ * Only a single gzip member is expected, the trailer is not verified as the transport already
+ * ensures the integrity of the content.
+ */
+final class GzipDecodingConsumer implements AsyncBody.Consumer<List<ByteBuffer>> {
+
+  static final String GZIP = "gzip";
+
+  private static final int OUTPUT_BUFFER_SIZE = 8192;
+  private static final int FIXED_HEADER_SIZE = 10;
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+
+  private enum State {
+    HEADER,
+    BODY,
+    TRAILER
+  }
+
+  private final AsyncBody.Consumer<List<ByteBuffer>> delegate;
+  private volatile boolean gzip;
+  private State state = State.HEADER;
+  private byte[] header = new byte[0];
+  private byte[] input = new byte[0];
+  private Inflater inflater;
+
+  GzipDecodingConsumer(AsyncBody.Consumer<List<ByteBuffer>> delegate) {
+    this.delegate = delegate;
+  }
+
+  void onResponse(HttpResponse<?> response) {
+    String encoding = response.header(StandardHttpHeaders.CONTENT_ENCODING);
+    this.gzip = encoding != null && GZIP.equalsIgnoreCase(encoding.trim());
+  }
+
+  @Override
+  public void consume(List<ByteBuffer> value, AsyncBody asyncBody) throws Exception {
+    if (!gzip) {
+      delegate.consume(value, asyncBody);
+      return;
+    }
+    List<ByteBuffer> decoded = decode(value);
+    if (decoded.isEmpty()) {
+      // nothing to deliver yet, so request more on behalf of the delegate
+      asyncBody.consume();
+    } else {
+      delegate.consume(decoded, asyncBody);
+    }
+  }
+
+  synchronized List<ByteBuffer> decode(List<ByteBuffer> value) throws ZipException {
+    List<ByteBuffer> result = new ArrayList<>();
+    for (ByteBuffer buffer : value) {
+      int length = buffer.remaining();
+      if (length == 0 || state == State.TRAILER) {
+        continue;
+      }
+      if (input.length < length) {
+        input = new byte[length];
+      }
+      buffer.duplicate().get(input, 0, length);
+      int offset = 0;
+      if (state == State.HEADER) {
+        offset = readHeader(input, length);
+        if (offset < 0) {
+          continue;
+        }
+      }
+      inflate(input, offset, length - offset, result);
+    }
+    return result;
+  }
+
+  /**
+   * Accumulates the header bytes until the full header is available.
+   *
+   * @return the offset of the deflated content in the given bytes, or -1 if more header bytes are needed
+   */
+  private int readHeader(byte[] bytes, int length) throws ZipException {
+    int previous = header.length;
+    byte[] combined = new byte[previous + length];
+    System.arraycopy(header, 0, combined, 0, previous);
+    System.arraycopy(bytes, 0, combined, previous, length);
+    int headerLength = headerLength(combined);
+    if (headerLength < 0) {
+      header = combined;
+      return -1;
+    }
+    header = null;
+    state = State.BODY;
+    inflater = new Inflater(true);
+    return headerLength - previous;
+  }
+
+  static int headerLength(byte[] bytes) throws ZipException {
+    if (bytes.length < FIXED_HEADER_SIZE) {
+      if ((bytes.length > 0 && (bytes[0] & 0xff) != 0x1f) || (bytes.length > 1 && (bytes[1] & 0xff) != 0x8b)) {
+        throw new ZipException("Not in GZIP format");
+      }
+      return -1;
+    }
+    if ((bytes[0] & 0xff) != 0x1f || (bytes[1] & 0xff) != 0x8b) {
+      throw new ZipException("Not in GZIP format");
+    }
+    if (bytes[2] != 8) {
+      throw new ZipException("Unsupported compression method");
+    }
+    int flags = bytes[3] & 0xff;
+    int position = FIXED_HEADER_SIZE;
+    if ((flags & FEXTRA) != 0) {
+      if (bytes.length < position + 2) {
+        return -1;
+      }
+      position += 2 + ((bytes[position] & 0xff) | ((bytes[position + 1] & 0xff) << 8));
+    }
+    if ((flags & FNAME) != 0) {
+      position = skipZeroTerminated(bytes, position);
+    }
+    if ((flags & FCOMMENT) != 0 && position >= 0) {
+      position = skipZeroTerminated(bytes, position);
+    }
+    if ((flags & FHCRC) != 0 && position >= 0) {
+      position += 2;
+    }
+    if (position < 0 || position > bytes.length) {
+      return -1;
+    }
+    return position;
+  }
+
+  private static int skipZeroTerminated(byte[] bytes, int position) {
+    for (int i = position; i < bytes.length; i++) {
+      if (bytes[i] == 0) {
+        return i + 1;
+      }
+    }
+    return -1;
+  }
+
+  private void inflate(byte[] bytes, int offset, int length, List<ByteBuffer> result) throws ZipException {
+    inflater.setInput(bytes, offset, length);
+    try {
+      byte[] output = null;
+      while (true) {
+        if (output == null) {
+          output = new byte[OUTPUT_BUFFER_SIZE];
+        }
+        int inflated = inflater.inflate(output);
+        if (inflated > 0) {
+          result.add(ByteBuffer.wrap(output, 0, inflated));
+          output = null;
+        }
+        if (inflater.finished()) {
+          close();
+          return;
+        }
+        if (inflated == 0) {
+          if (inflater.needsDictionary()) {
+            throw new ZipException("Unexpected preset dictionary");
+          }
+          // needs more input
+          return;
+        }
+      }
+    } catch (DataFormatException e) {
+      throw (ZipException) new ZipException(e.getMessage()).initCause(e);
+    }
+  }
+
+  /**
+   * Releases the native resources of the inflater, further content is ignored.
+   */
+  synchronized void close() {
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+    state = State.TRAILER;
+  }
+
+  @Override
+  public <U> U unwrap(Class<U> target) {
+    U result = AsyncBody.Consumer.super.unwrap(target);
+    return result != null ? result : delegate.unwrap(target);
+  }
+
+}
@@ -122,6 +122,20 @@ public interface HttpClient extends AutoCloseable {
 
     Builder preferHttp11();
 
+    /**
+     * Request gzip compressed responses from the server and transparently decompress them
+     * as they are consumed.
+     * <p>
+     * The behavior is the same regardless of the underlying http client implementation.
+     */
+    Builder responseCompression();
+
+    /**
+     * Set the {@link RequestScheduler} that controls when requests are sent. It is shared with
+     * all clients derived from the built client.
+     */
+    Builder requestScheduler(RequestScheduler requestScheduler);
+
     Builder proxyType(ProxyType type);
   }
 
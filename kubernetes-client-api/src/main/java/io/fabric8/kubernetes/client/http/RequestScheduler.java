@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decides when the requests of a {@link StandardHttpClient} are sent.
+ * <p>
+ * A single instance is shared by a client and all of the clients derived from it, so it
+ * can enforce client wide limits. Every attempt of a request, including retries, is scheduled.
+ */
+public interface RequestScheduler {
+
+  /**
+   * Request permission to send the request.
+   *
+   * @param request the request about to be sent
+   * @return a future that completes once the request may be sent. It will be cancelled if the
+   *         request is abandoned before that.
+   */
+  CompletableFuture<Void> acquire(HttpRequest request);
+
+  /**
+   * Called with the response of every scheduled request, to allow adjustments based upon the
+   * load reported by the server.
+   *
+   * @param request the request
+   * @param response the response
+   */
+  default void onResponse(HttpRequest request, HttpResponse<?> response) {
+  }
+
+}
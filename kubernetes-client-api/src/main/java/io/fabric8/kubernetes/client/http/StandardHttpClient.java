@@ -94,6 +94,10 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesOnce(StandardHttpRequest standardHttpRequest,
       Consumer<List<ByteBuffer>> consumer) {
     StandardHttpRequest.Builder copy = standardHttpRequest.newBuilder();
+    if (builder.isResponseCompression() && standardHttpRequest.header(StandardHttpHeaders.ACCEPT_ENCODING) == null) {
+      copy.setHeader(StandardHttpHeaders.ACCEPT_ENCODING, GzipDecodingConsumer.GZIP);
+      standardHttpRequest = copy.build();
+    }
     for (Interceptor interceptor : builder.getInterceptors().values()) {
       interceptor.before(copy, standardHttpRequest, this);
       standardHttpRequest = copy.build();
@@ -105,7 +109,9 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     }
     final Consumer<List<ByteBuffer>> effectiveConsumer = consumer;
 
-    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesDirect(effectiveRequest, effectiveConsumer);
+    CompletableFuture<HttpResponse<AsyncBody>> cf = schedule(effectiveRequest,
+        () -> consumeBytesDecoded(effectiveRequest, effectiveConsumer), r -> r);
+    final CompletableFuture<HttpResponse<AsyncBody>> scheduled = cf;
     cf.thenAccept(
         response -> builder.getInterceptors().values().forEach(i -> i.after(effectiveRequest, response, effectiveConsumer)));
 
@@ -117,7 +123,9 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
                 if (Boolean.TRUE.equals(b)) {
                   // before starting another request, make sure the old one is cancelled / closed
                   response.body().cancel();
-                  CompletableFuture<HttpResponse<AsyncBody>> result = consumeBytesDirect(copy.build(), effectiveConsumer);
+                  final StandardHttpRequest retryRequest = copy.build();
+                  CompletableFuture<HttpResponse<AsyncBody>> result = schedule(retryRequest,
+                      () -> consumeBytesDecoded(retryRequest, effectiveConsumer), r -> r);
                   result.thenAccept(
                       r -> builder.getInterceptors().values().forEach(i -> i.after(effectiveRequest, r, effectiveConsumer)));
                   return result;
@@ -128,9 +136,57 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
         return CompletableFuture.completedFuture(response);
       });
     }
+    abandonWhenDone(cf, scheduled);
     return cf;
   }
 
+  /**
+   * A timed out request that is still waiting for the scheduler should not be sent.
+   */
+  private void abandonWhenDone(CompletableFuture<?> cf, CompletableFuture<?> scheduled) {
+    if (builder.getRequestScheduler() != null) {
+      cf.whenComplete((r, t) -> scheduled.cancel(false));
+    }
+  }
+
+  /**
+   * Sends the request once the {@link RequestScheduler}, if any, permits it and reports the response back.
+   */
+  private <V> CompletableFuture<V> schedule(HttpRequest request, Supplier<CompletableFuture<V>> action,
+      Function<V, HttpResponse<?>> responseExtractor) {
+    final RequestScheduler scheduler = builder.getRequestScheduler();
+    if (scheduler == null) {
+      return action.get();
+    }
+    final CompletableFuture<Void> permit = scheduler.acquire(request);
+    final CompletableFuture<V> result = permit.thenCompose(v -> action.get());
+    result.whenComplete((r, t) -> {
+      // abandon the permit if the request was cancelled or timed out while waiting
+      permit.cancel(false);
+      if (r != null) {
+        Optional.ofNullable(responseExtractor.apply(r)).ifPresent(response -> scheduler.onResponse(request, response));
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Adds the decompression stage closest to the transport, so that the interceptors and
+   * the consumer only see the decoded body.
+   */
+  private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesDecoded(StandardHttpRequest request,
+      Consumer<List<ByteBuffer>> consumer) {
+    if (!builder.isResponseCompression()) {
+      return consumeBytesDirect(request, consumer);
+    }
+    final GzipDecodingConsumer decodingConsumer = new GzipDecodingConsumer(consumer);
+    return consumeBytesDirect(request, decodingConsumer).thenApply(response -> {
+      decodingConsumer.onResponse(response);
+      response.body().done().whenComplete((v, t) -> decodingConsumer.close());
+      return response;
+    });
+  }
+
   private static <V> BiConsumer<? super V, ? super Throwable> completeOrCancel(java.util.function.Consumer<V> cancel,
       final CompletableFuture<V> result) {
     return (r, t) -> {
@@ -252,7 +308,9 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     final StandardWebSocketBuilder copy = standardWebSocketBuilder.newBuilder();
     builder.getInterceptors().values().forEach(i -> i.before(copy, copy.asHttpRequest(), this));
 
-    CompletableFuture<WebSocketResponse> cf = buildWebSocketDirect(copy, listener);
+    CompletableFuture<WebSocketResponse> cf = schedule(copy.asHttpRequest(), () -> buildWebSocketDirect(copy, listener),
+        r -> r.webSocketUpgradeResponse);
+    final CompletableFuture<WebSocketResponse> scheduled = cf;
     cf.thenAccept(response -> builder.getInterceptors().values()
         .forEach(i -> i.after(response.webSocketUpgradeResponse.request(), response.webSocketUpgradeResponse, null)));
 
@@ -261,7 +319,8 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
         if (response.throwable != null) {
           return interceptor.afterFailure(copy, response.webSocketUpgradeResponse, this).thenCompose(b -> {
             if (Boolean.TRUE.equals(b)) {
-              return this.buildWebSocketDirect(copy, listener);
+              return schedule(copy.asHttpRequest(), () -> this.buildWebSocketDirect(copy, listener),
+                  r -> r.webSocketUpgradeResponse);
             }
             CompletableFuture<WebSocketResponse> result = CompletableFuture.completedFuture(response);
             result.thenAccept(r -> builder.getInterceptors().values()
@@ -272,6 +331,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
         return CompletableFuture.completedFuture(response);
       });
     }
+    abandonWhenDone(cf, scheduled);
     return cf;
   }
 
@@ -43,6 +43,8 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
   protected InetSocketAddress proxyAddress;
   protected boolean followRedirects;
   protected boolean preferHttp11;
+  protected boolean responseCompression;
+  protected RequestScheduler requestScheduler;
   protected TlsVersion[] tlsVersions;
   protected boolean authenticatorNone;
   protected C client;
@@ -126,6 +128,18 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     return (T) this;
   }
 
+  @Override
+  public T responseCompression() {
+    this.responseCompression = true;
+    return (T) this;
+  }
+
+  @Override
+  public T requestScheduler(RequestScheduler requestScheduler) {
+    this.requestScheduler = requestScheduler;
+    return (T) this;
+  }
+
   public T clientFactory(F clientFactory) {
     this.clientFactory = clientFactory;
     return (T) this;
@@ -152,6 +166,8 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     copy.proxyAuthorization = this.proxyAuthorization;
     copy.tlsVersions = this.tlsVersions;
     copy.preferHttp11 = this.preferHttp11;
+    copy.responseCompression = this.responseCompression;
+    copy.requestScheduler = this.requestScheduler;
     copy.followRedirects = this.followRedirects;
     copy.authenticatorNone = this.authenticatorNone;
     copy.client = client;
@@ -24,6 +24,9 @@ public class StandardHttpHeaders implements HttpHeaders {
 
   public static final String CONTENT_TYPE = "Content-Type";
   public static final String CONTENT_LENGTH = "Content-Length";
+  public static final String CONTENT_ENCODING = "Content-Encoding";
+  public static final String ACCEPT = "Accept";
+  public static final String ACCEPT_ENCODING = "Accept-Encoding";
   public static final String EXPECT = "Expect";
   public static final String EXPECT_CONTINUE = "100-continue";
   public static final String RETRY_AFTER = "Retry-After";
@@ -0,0 +1,296 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link RequestScheduler} similar to the client-go QPS / Burst rate limiting.
+ * <p>
+ * Requests take a token from a bucket that holds up to burst tokens and is refilled at qps tokens per second.
+ * Waiting requests are served by {@link Priority}:
+ * <ul>
+ * <li>{@link Priority#HIGH} - watches and coordination leases, always served first
+ * <li>{@link Priority#NORMAL} - everything else
+ * <li>{@link Priority#LOW} - collection reads, such as lists, served once for every {@value #NORMAL_WEIGHT}
+ * normal requests so that they are not starved
+ * </ul>
+ * <p>
+ * The scheduler also reacts to the server: a 429 response, including the API Priority and Fairness rejections
+ * identified by the X-Kubernetes-PF-* headers, halves the effective rate and pauses the normal and low
+ * lanes for the Retry-After duration. Each successful response then restores the rate gradually.
+ */
+public class TokenBucketRequestScheduler implements RequestScheduler {
+
+  public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW
+  }
+
+  public static final String PF_FLOW_SCHEMA_UID = "X-Kubernetes-PF-FlowSchema-UID";
+  public static final String PF_PRIORITY_LEVEL_UID = "X-Kubernetes-PF-PriorityLevel-UID";
+
+  private static final Logger LOG = LoggerFactory.getLogger(TokenBucketRequestScheduler.class);
+
+  static final int NORMAL_WEIGHT = 4;
+  private static final double MIN_RATE_FACTOR = 0.1;
+  private static final double INCREASE_FACTOR = 0.05;
+  private static final long DEFAULT_PAUSE_MILLIS = 1000;
+
+  private final double qps;
+  private final int burst;
+  private final Function<HttpRequest, Priority> classifier;
+  private final LongSupplier nanoTime;
+
+  private final Deque<CompletableFuture<Void>> high = new ArrayDeque<>();
+  private final Deque<CompletableFuture<Void>> normal = new ArrayDeque<>();
+  private final Deque<CompletableFuture<Void>> low = new ArrayDeque<>();
+  private int normalServed;
+  private double rate;
+  private double tokens;
+  private long lastRefill;
+  private long pausedUntil;
+  private boolean dispatchScheduled;
+
+  /**
+   * @param qps the sustained number of requests per second
+   * @param burst the maximum number of requests that may be sent at once, if not positive the qps
+   *        rounded up is used
+   */
+  public TokenBucketRequestScheduler(double qps, int burst) {
+    this(qps, burst, TokenBucketRequestScheduler::defaultPriority);
+  }
+
+  /**
+   * @param qps the sustained number of requests per second
+   * @param burst the maximum number of requests that may be sent at once, if not positive the qps
+   *        rounded up is used
+   * @param classifier determines the {@link Priority} of a request
+   */
+  public TokenBucketRequestScheduler(double qps, int burst, Function<HttpRequest, Priority> classifier) {
+    this(qps, burst, classifier, System::nanoTime);
+  }
+
+  TokenBucketRequestScheduler(double qps, int burst, Function<HttpRequest, Priority> classifier, LongSupplier nanoTime) {
+    if (qps <= 0) {
+      throw new IllegalArgumentException("qps must be positive");
+    }
+    this.qps = qps;
+    this.burst = burst > 0 ? burst : (int) Math.ceil(qps);
+    this.classifier = classifier;
+    this.nanoTime = nanoTime;
+    this.rate = qps;
+    this.tokens = this.burst;
+    this.lastRefill = nanoTime.getAsLong();
+    this.pausedUntil = lastRefill;
+  }
+
+  @Override
+  public CompletableFuture<Void> acquire(HttpRequest request) {
+    final CompletableFuture<Void> permit = new CompletableFuture<>();
+    final Priority priority = classifier.apply(request);
+    synchronized (this) {
+      lane(priority).add(permit);
+    }
+    dispatch();
+    return permit;
+  }
+
+  @Override
+  public void onResponse(HttpRequest request, HttpResponse<?> response) {
+    if (response.code() == 429) {
+      long pauseMillis = StandardHttpClient.retryAfterMillis(response);
+      if (pauseMillis <= 0) {
+        pauseMillis = DEFAULT_PAUSE_MILLIS;
+      }
+      final String priorityLevel = response.header(PF_PRIORITY_LEVEL_UID);
+      synchronized (this) {
+        rate = Math.max(qps * MIN_RATE_FACTOR, rate / 2);
+        pausedUntil = Math.max(pausedUntil, nanoTime.getAsLong() + TimeUnit.MILLISECONDS.toNanos(pauseMillis));
+      }
+      if (priorityLevel != null) {
+        LOG.debug("Request to {} was rejected by the priority level {} with flow schema {}, pausing for {} millis",
+            request.uri(), priorityLevel, response.header(PF_FLOW_SCHEMA_UID), pauseMillis);
+      } else {
+        LOG.debug("Request to {} was throttled, pausing for {} millis", request.uri(), pauseMillis);
+      }
+    } else if (HttpResponse.isSuccessful(response.code())) {
+      synchronized (this) {
+        if (rate < qps) {
+          rate = Math.min(qps, rate + qps * INCREASE_FACTOR);
+        }
+      }
+    }
+    dispatch();
+  }
+
+  /**
+   * @return the current rate in requests per second, which is less than the configured qps after throttling
+   */
+  public synchronized double getRate() {
+    return rate;
+  }
+
+  void dispatch() {
+    final List<CompletableFuture<Void>> permitted = new ArrayList<>();
+    synchronized (this) {
+      final long now = nanoTime.getAsLong();
+      refill(now);
+      final boolean paused = now - pausedUntil < 0;
+      Deque<CompletableFuture<Void>> lane;
+      while (tokens >= 1 && (lane = nextLane(paused)) != null) {
+        CompletableFuture<Void> permit = lane.poll();
+        if (!permit.isDone()) {
+          tokens -= 1;
+          served(lane);
+          permitted.add(permit);
+        }
+      }
+      scheduleDispatch(now, paused);
+    }
+    permitted.forEach(permit -> permit.complete(null));
+  }
+
+  private void refill(long now) {
+    tokens = Math.min(burst, tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+    lastRefill = now;
+  }
+
+  private Deque<CompletableFuture<Void>> nextLane(boolean paused) {
+    removeAbandoned(high);
+    if (!high.isEmpty()) {
+      return high;
+    }
+    if (paused) {
+      return null;
+    }
+    removeAbandoned(normal);
+    removeAbandoned(low);
+    if (!low.isEmpty() && (normal.isEmpty() || normalServed >= NORMAL_WEIGHT)) {
+      return low;
+    }
+    if (!normal.isEmpty()) {
+      return normal;
+    }
+    return null;
+  }
+
+  /**
+   * Account for a permit taken from the lane, so that a low priority request is served after each
+   * {@link #NORMAL_WEIGHT} normal ones
+   */
+  private void served(Deque<CompletableFuture<Void>> lane) {
+    if (lane == low) {
+      normalServed = 0;
+    } else if (lane == normal) {
+      normalServed++;
+    }
+  }
+
+  private static void removeAbandoned(Deque<CompletableFuture<Void>> lane) {
+    while (!lane.isEmpty() && lane.peek().isDone()) {
+      lane.poll();
+    }
+  }
+
+  private void scheduleDispatch(long now, boolean paused) {
+    if (dispatchScheduled) {
+      return;
+    }
+    long delay;
+    if (!high.isEmpty() || (!paused && (!normal.isEmpty() || !low.isEmpty()))) {
+      delay = (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / rate);
+    } else if (paused && (!normal.isEmpty() || !low.isEmpty())) {
+      delay = pausedUntil - now;
+    } else {
+      return;
+    }
+    dispatchScheduled = true;
+    Utils.schedule(Runnable::run, () -> {
+      synchronized (this) {
+        dispatchScheduled = false;
+      }
+      dispatch();
+    }, Math.max(1, delay), TimeUnit.NANOSECONDS);
+  }
+
+  private Deque<CompletableFuture<Void>> lane(Priority priority) {
+    switch (priority) {
+      case HIGH:
+        return high;
+      case LOW:
+        return low;
+      default:
+        return normal;
+    }
+  }
+
+  /**
+   * The default classification of requests:
+   * <ul>
+   * <li>watches and coordination.k8s.io requests, such as lease renewals, are {@link Priority#HIGH}
+   * <li>reads of a collection, such as lists, are {@link Priority#LOW}
+   * <li>everything else is {@link Priority#NORMAL}
+   * </ul>
+   */
+  public static Priority defaultPriority(HttpRequest request) {
+    final String query = request.uri().getRawQuery();
+    if (query != null && (query.contains("watch=true") || query.contains("watch=1"))) {
+      return Priority.HIGH;
+    }
+    final String path = request.uri().getRawPath();
+    if (path == null) {
+      return Priority.NORMAL;
+    }
+    if (path.startsWith("/apis/coordination.k8s.io/")) {
+      return Priority.HIGH;
+    }
+    if ("GET".equals(request.method()) && isCollection(path)) {
+      return Priority.LOW;
+    }
+    return Priority.NORMAL;
+  }
+
+  static boolean isCollection(String path) {
+    final String[] segments = path.replaceAll("^/+|/+$", "").split("/+");
+    int start;
+    if (segments.length > 0 && "api".equals(segments[0])) {
+      start = 2;
+    } else if (segments.length > 0 && "apis".equals(segments[0])) {
+      start = 3;
+    } else {
+      return false;
+    }
+    int remaining = segments.length - start;
+    if (remaining > 2 && "namespaces".equals(segments[start])) {
+      remaining -= 2;
+    }
+    return remaining == 1;
+  }
+
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * What an informer with a bounded event queue should do when the queue is full.
+ * <p>
+ * In all cases resync events are only distributed when there is room in the queue.
+ */
+public enum EventQueuePolicy {
+
+  /**
+   * Block the list / watch processing until there is room in the queue.
+   * <p>
+   * The list results are processed on the thread that completes the response, which for most HTTP clients - such as
+   * Vert.x, OkHttp or Jetty - is an IO thread or event loop shared with the other requests of the client. Blocking it
+   * stalls those unrelated requests as well, so this policy should only be used with handlers that are known to keep
+   * up. Prefer {@link #DROP_AND_RESYNC}.
+   */
+  BLOCK,
+  /**
+   * Merge a notification with one that is still queued for the same object, keeping the original old object
+   * and the newest new object. When a new object cannot be merged and the queue is full, this behaves like
+   * {@link #BLOCK}, with the same caveats.
+   */
+  COALESCE,
+  /**
+   * Drop add and update notifications when the queue is full. Once the queue has drained every handler is
+   * sent an update with the current state of each cached object, so that add and update events are
+   * recovered from the informer cache rather than from another list. Deletes are never dropped.
+   * <p>
+   * This is the recommended policy as it never blocks the processing of the list / watch.
+   */
+  DROP_AND_RESYNC
+
+}
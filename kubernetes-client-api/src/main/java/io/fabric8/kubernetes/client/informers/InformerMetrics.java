@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Point in time metrics for the event distribution of a {@link SharedIndexInformer}.
+ */
+public interface InformerMetrics {
+
+  /**
+   * @return the number of notifications waiting to be delivered to the handlers
+   */
+  int getQueueDepth();
+
+  /**
+   * @return the total number of handler invocations
+   */
+  long getHandlerInvocations();
+
+  /**
+   * @return the total time spent in handler invocations, in nanoseconds
+   */
+  long getHandlerTimeNanos();
+
+  /**
+   * @return the longest single handler invocation, in nanoseconds
+   */
+  long getMaxHandlerTimeNanos();
+
+  /**
+   * @return the number of notifications not delivered because the queue was full
+   */
+  long getEventsDropped();
+
+  /**
+   * @return the number of notifications merged into a notification that was already queued
+   */
+  long getEventsCoalesced();
+
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link SharedIndexInformer} for the resources of a set of namespaces, which may be changed while it is running.
+ * <p>
+ * Depending on the number of namespaces when created, there is either a single cluster wide list and watch with the
+ * resources of the other namespaces being ignored, or a list and watch per namespace.
+ */
+public interface MultiNamespaceSharedIndexInformer<T> extends SharedIndexInformer<T> {
+
+  /**
+   * @return the current namespaces
+   */
+  Set<String> getNamespaces();
+
+  /**
+   * Add the resources of a namespace, without relisting those of the other namespaces.
+   * <p>
+   * Handlers will be notified of additions for the resources of the namespace.
+   *
+   * @param namespace the namespace to add
+   * @return a {@link CompletionStage} completed once the resources of the namespace are in the store, or immediately
+   *         if the informer is not running
+   */
+  CompletionStage<Void> addNamespace(String namespace);
+
+  /**
+   * Remove the resources of a namespace, they are removed from the store and handlers are notified of deletions.
+   *
+   * @param namespace the namespace to remove
+   */
+  void removeNamespace(String namespace);
+
+}
@@ -86,6 +86,27 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
   SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle,
       long resyncPeriod);
 
+  /**
+   * Adds an event handler that is only interested in the latest state of each resource. If the handler
+   * falls behind, pending notifications for the same resource are merged - an update will have the
+   * original old object and the newest new object, and an add followed by a delete is not delivered at all.
+   * <p>
+   * The handler methods will be called using the client's {@link Executor}, independently of
+   * the other handlers.
+   *
+   * @param handler the event handler
+   * @return this
+   */
+  SharedIndexInformer<T> addCoalescingEventHandler(ResourceEventHandler<? super T> handler);
+
+  /**
+   * Removes a handler previously added to this informer, it will not be called for any further events.
+   *
+   * @param handler the event handler
+   * @return this
+   */
+  SharedIndexInformer<T> removeEventHandler(ResourceEventHandler<? super T> handler);
+
   /**
    * Starts the shared informer, which will be stopped when {@link #stop()} is called.
    *
@@ -169,6 +190,78 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
 
   SharedIndexInformer<T> itemStore(ItemStore<T> itemStore);
 
+  /**
+   * Use an {@link Indexer} that does not lock on reads, so that calls such as {@link Indexer#byIndex(String, String)}
+   * do not contend with the informer applying events to the store.
+   * <br>
+   * Updates from the informer are still serialized, but index reads are only weakly consistent with
+   * any concurrent modification.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @return this
+   */
+  SharedIndexInformer<T> lockFreeIndexReads();
+
+  /**
+   * Parse list responses incrementally, updating the store as each item is read rather than after each
+   * list or page has been fully deserialized. This bounds the memory needed for the initial list, and any
+   * subsequent relist, by the size of a single item rather than the whole response.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @return this
+   */
+  SharedIndexInformer<T> streamingList();
+
+  /**
+   * Use the watch list protocol - a watch with sendInitialEvents=true - to obtain the initial state,
+   * rather than separate list and watch requests. The informer is considered synced once the
+   * initial-events-end bookmark has been received.
+   * <br>
+   * This requires the WatchList feature to be enabled on the API server (1.27+). Takes precedence
+   * over {@link #streamingList()}.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @return this
+   */
+  SharedIndexInformer<T> watchList();
+
+  /**
+   * Bound the number of notifications that may be queued for delivery to the handlers. By default the queue
+   * is unbounded, so slow handlers - particularly during a resync of a large cache - may cause the queue to
+   * grow without limit.
+   * <br>
+   * {@link EventQueuePolicy#DROP_AND_RESYNC} is the recommended policy, see {@link EventQueuePolicy#BLOCK} for why
+   * blocking should be avoided.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param capacity the maximum number of queued notifications
+   * @param policy what to do when the queue is full
+   * @return this
+   */
+  SharedIndexInformer<T> eventQueue(int capacity, EventQueuePolicy policy);
+
+  /**
+   * Bound the number of notifications that may be queued for delivery to the handlers, dropping and later resyncing
+   * adds and updates when the queue is full - see {@link #eventQueue(int, EventQueuePolicy)}.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param capacity the maximum number of queued notifications
+   * @return this
+   */
+  default SharedIndexInformer<T> eventQueue(int capacity) {
+    return eventQueue(capacity, EventQueuePolicy.DROP_AND_RESYNC);
+  }
+
+  /**
+   * @return the {@link InformerMetrics} for the event distribution of this informer
+   */
+  InformerMetrics getMetrics();
+
   /**
    * A non-blocking alternative to run. Starts the shared informer, which will normally be stopped when {@link #stop()} is
    * called.
@@ -43,6 +43,15 @@ public interface SharedInformerFactory {
   @Deprecated
   SharedInformerFactory withName(String name);
 
+  /**
+   * Construct the informers from then on with {@link Informable#sharedRunnableInformer(long)}, sharing them with the
+   * other factories and users of the client for the same resources. Options that can only be set before an informer is
+   * started, such as the item store, must then be the same for all of them.
+   *
+   * @return {@link SharedInformerFactory} sharing the informers of the client
+   */
+  SharedInformerFactory sharingClientInformers();
+
   /**
    * Constructs and returns a shared index informer with resync period specified. And the
    * informer cache will be overwritten.
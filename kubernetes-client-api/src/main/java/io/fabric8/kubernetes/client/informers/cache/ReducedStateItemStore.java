@@ -16,13 +16,19 @@
 
 package io.fabric8.kubernetes.client.informers.cache;
 
-import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
+import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,14 +40,44 @@ import java.util.stream.Stream;
  * By default an informer stores every item that exists in memory.
  * If that is too much memory for your application,
  * you may instead reduce what is actually stored by using this item store.
+ * <p>
+ * The fields are read directly from the typed objects, and values other than simple scalars are kept as
+ * packed json. The typed view of an item is only built when requested and is softly cached, so repeated
+ * reads do not repeat the conversion unless the memory was needed elsewhere.
  */
 public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V> {
 
   private static final String METADATA = "metadata";
-  private final ConcurrentHashMap<String, Object[]> store = new ConcurrentHashMap<>();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final Function<Object, Object> NO_PROPERTY = obj -> null;
+
+  private static final class Entry<V> {
+    private final Object[] values;
+    private volatile SoftReference<V> view;
+
+    private Entry(Object[] values) {
+      this.values = values;
+    }
+  }
+
+  /**
+   * A node in the tree of field paths, used to write the stored values back out as a single json object
+   */
+  private static final class Node {
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private int index = -1;
+
+    private Node child(String name) {
+      return children.computeIfAbsent(name, k -> new Node());
+    }
+  }
+
+  private final ConcurrentHashMap<String, Entry<V>> store = new ConcurrentHashMap<>();
   private final List<String[]> fields = new ArrayList<>();
   private final Class<V> typeClass;
   private final KeyState keyState;
+  private final Node root = new Node();
+  private final Map<Class<?>, Map<String, Function<Object, Object>>> readers = new ConcurrentHashMap<>();
   private KubernetesSerialization serialization;
 
   public static class KeyState {
@@ -113,46 +149,131 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
     }
     this.typeClass = typeClass;
     this.serialization = serialization;
+    for (int i = 0; i < fields.size(); i++) {
+      addPath(fields.get(i), i);
+    }
+    for (int i = 0; i < keyState.keyFields.size(); i++) {
+      addPath(keyState.keyFields.get(i), fields.size() + i);
+    }
+  }
+
+  private void addPath(String[] path, int index) {
+    Node node = root;
+    for (String name : path) {
+      node = node.child(name);
+    }
+    node.index = index;
   }
 
   Object[] store(V value) {
     if (value == null) {
       return null;
     }
-    Map<String, Object> raw = serialization.convertValue(value, Map.class);
-    return fields.stream().map(f -> GenericKubernetesResource.get(raw, (Object[]) f)).toArray();
+    Object[] values = new Object[fields.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = pack(read(value, fields.get(i)));
+    }
+    return values;
+  }
+
+  private Object read(Object value, String[] path) {
+    Object current = value;
+    for (int i = 0; i < path.length && current != null; i++) {
+      if (current instanceof Map) {
+        current = ((Map<?, ?>) current).get(path[i]);
+      } else if (current instanceof Collection) {
+        return null;
+      } else {
+        current = getReader(current.getClass(), path[i]).apply(current);
+      }
+    }
+    return current;
+  }
+
+  private Function<Object, Object> getReader(Class<?> type, String name) {
+    return readers.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).computeIfAbsent(name, k -> {
+      Function<Object, Object> reader = serialization.getPropertyReader(type, name);
+      return reader == null ? NO_PROPERTY : reader;
+    });
+  }
+
+  private Object pack(Object value) {
+    if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+      return value;
+    }
+    return new RawValue(serialization.asJson(value));
   }
 
   V restore(String key, Object[] values) {
     if (values == null) {
       return null;
     }
-    Map<String, Object> raw = new HashMap<>();
-    applyFields(values, raw, this.fields);
     String[] keyParts = this.keyState.keyFieldFunction.apply(key);
-    applyFields(keyParts, raw, this.keyState.keyFields);
+    Object[] allValues = Arrays.copyOf(values, values.length + keyParts.length);
+    System.arraycopy(keyParts, 0, allValues, values.length, keyParts.length);
 
-    return serialization.convertValue(raw, typeClass);
+    ByteArrayBuilder bytes = new ByteArrayBuilder();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(bytes)) {
+      generator.writeStartObject();
+      writeFields(generator, root, allValues);
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    return serialization.unmarshal(bytes.toByteArray(), 0, bytes.size(), typeClass);
   }
 
-  private static void applyFields(Object[] values, Map<String, Object> raw, List<String[]> fields) {
-    for (int i = 0; i < fields.size(); i++) {
-      Object value = values[i];
-      if (value == null) {
+  private V restore(String key, Entry<V> entry) {
+    if (entry == null) {
+      return null;
+    }
+    SoftReference<V> view = entry.view;
+    V result = view == null ? null : view.get();
+    if (result == null) {
+      result = restore(key, entry.values);
+      entry.view = new SoftReference<>(result);
+    }
+    return result;
+  }
+
+  private static void writeFields(JsonGenerator generator, Node node, Object[] values) throws IOException {
+    for (Map.Entry<String, Node> child : node.children.entrySet()) {
+      Node childNode = child.getValue();
+      if (!hasValue(childNode, values)) {
         continue;
       }
-      String[] path = fields.get(i);
-      Map<String, Object> parent = raw;
-      for (int j = 0; j < path.length - 1; j++) {
-        parent = (Map<String, Object>) parent.computeIfAbsent(path[j], k -> new LinkedHashMap<String, Object>());
+      generator.writeFieldName(child.getKey());
+      if (childNode.index >= 0) {
+        Object value = values[childNode.index];
+        if (value instanceof RawValue) {
+          generator.writeRawValue(((RawValue) value).rawValue().toString());
+        } else {
+          generator.writeObject(value);
+        }
+      } else {
+        generator.writeStartObject();
+        writeFields(generator, childNode, values);
+        generator.writeEndObject();
+      }
+    }
+  }
+
+  private static boolean hasValue(Node node, Object[] values) {
+    if (node.index >= 0) {
+      return values[node.index] != null;
+    }
+    for (Node child : node.children.values()) {
+      if (hasValue(child, values)) {
+        return true;
       }
-      parent.put(path[path.length - 1], value);
     }
+    return false;
   }
 
   @Override
   public V put(String key, V obj) {
-    return restore(key, store.put(key, store(obj)));
+    Object[] values = store(obj);
+    return restore(key, store.put(key, new Entry<>(values)));
   }
 
   @Override
@@ -176,7 +297,8 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
   }
 
   public String getResourceVersion(String key) {
-    return (String) store.getOrDefault(key, new Object[1])[0];
+    Entry<V> entry = store.get(key);
+    return entry == null || entry.values == null ? null : (String) entry.values[0];
   }
 
   @Override
@@ -0,0 +1,310 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An {@link ItemStore} that holds each item as serialized json rather than as a full object graph, which
+ * greatly reduces the heap usage and the garbage collection cost of informers over many items.
+ * <p>
+ * Items are deserialized on access, with a small LRU cache of the most recently accessed items. The json may
+ * optionally be compressed, and may optionally be kept off-heap in direct buffers.
+ * <p>
+ * Items in the LRU cache are the same instance for every reader, just as with the {@link BasicItemStore}, so
+ * returned items must not be modified. Only with a hot cache size of 0 is each access a new object. The trade off
+ * is the cost of deserialization for items that are not hot.
+ * <p>
+ * The configuration methods must be called before the store is used.
+ */
+public class SerializedItemStore<V extends HasMetadata> implements ItemStore<V> {
+
+  public static final int DEFAULT_HOT_CACHE_SIZE = 256;
+
+  private static final class Decoded<V> {
+    private final Object encoded;
+    private final V value;
+
+    private Decoded(Object encoded, V value) {
+      this.encoded = encoded;
+      this.value = value;
+    }
+  }
+
+  private final Function<V, String> keyFunction;
+  private final Class<V> typeClass;
+  private final KubernetesSerialization serialization;
+  // values are either byte[] or direct ByteBuffers
+  private final ConcurrentHashMap<String, Object> store = new ConcurrentHashMap<>();
+  private final AtomicLong encodedBytes = new AtomicLong();
+  private boolean compress;
+  private boolean offHeap;
+  private Map<String, Decoded<V>> hot = createHotCache(DEFAULT_HOT_CACHE_SIZE);
+
+  public SerializedItemStore(Function<V, String> keyFunction, Class<V> typeClass,
+      KubernetesSerialization serialization) {
+    this.keyFunction = keyFunction;
+    this.typeClass = typeClass;
+    this.serialization = serialization;
+  }
+
+  /**
+   * Deflate the serialized json. This typically reduces the size by more than half, at the cost of
+   * additional cpu on each write and uncached read.
+   *
+   * @return this store
+   */
+  public SerializedItemStore<V> withCompression() {
+    this.compress = true;
+    return this;
+  }
+
+  /**
+   * Keep the serialized json in direct buffers outside of the java heap.
+   *
+   * @return this store
+   */
+  public SerializedItemStore<V> withOffHeapStorage() {
+    this.offHeap = true;
+    return this;
+  }
+
+  /**
+   * Set the number of recently accessed items that are kept deserialized, 0 to disable. Cached items are shared
+   * between readers.
+   *
+   * @param size the number of items
+   * @return this store
+   */
+  public SerializedItemStore<V> withHotCacheSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
+    }
+    this.hot = createHotCache(size);
+    return this;
+  }
+
+  private static <V> Map<String, Decoded<V>> createHotCache(int size) {
+    if (size == 0) {
+      return null;
+    }
+    return new LinkedHashMap<String, Decoded<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Decoded<V>> eldest) {
+        return size() > size;
+      }
+    };
+  }
+
+  @Override
+  public String getKey(V obj) {
+    return keyFunction.apply(obj);
+  }
+
+  @Override
+  public V put(String key, V obj) {
+    Object encoded = encode(obj);
+    encodedBytes.addAndGet(length(encoded));
+    Object old = store.put(key, encoded);
+    return release(key, old);
+  }
+
+  @Override
+  public V remove(String key) {
+    return release(key, store.remove(key));
+  }
+
+  private V release(String key, Object old) {
+    if (old == null) {
+      return null;
+    }
+    encodedBytes.addAndGet(-length(old));
+    Decoded<V> decoded = null;
+    if (hot != null) {
+      synchronized (hot) {
+        decoded = hot.remove(key);
+      }
+    }
+    if (decoded != null && decoded.encoded == old) {
+      return decoded.value;
+    }
+    return decode(old);
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return store.keySet().stream();
+  }
+
+  @Override
+  public Stream<V> values() {
+    // a full scan should not replace the hot items
+    return store.entrySet().stream().map(e -> get(e.getKey(), e.getValue(), false));
+  }
+
+  @Override
+  public V get(String key) {
+    Object encoded = store.get(key);
+    if (encoded == null) {
+      return null;
+    }
+    return get(key, encoded, true);
+  }
+
+  private V get(String key, Object encoded, boolean cache) {
+    if (hot == null) {
+      return decode(encoded);
+    }
+    Decoded<V> decoded;
+    synchronized (hot) {
+      decoded = hot.get(key);
+    }
+    if (decoded != null && decoded.encoded == encoded) {
+      return decoded.value;
+    }
+    V result = decode(encoded);
+    if (cache) {
+      synchronized (hot) {
+        // only cache if still current, a concurrent put or remove may have replaced it
+        if (store.get(key) == encoded) {
+          hot.put(key, new Decoded<>(encoded, result));
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  /**
+   * @return the total size of the serialized items
+   */
+  public long getEncodedSize() {
+    return encodedBytes.get();
+  }
+
+  Object encode(V obj) {
+    byte[] bytes = serialization.asJsonBytes(obj);
+    if (compress) {
+      bytes = deflate(bytes);
+    }
+    if (offHeap) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+      buffer.put(bytes);
+      buffer.flip();
+      return buffer;
+    }
+    return bytes;
+  }
+
+  V decode(Object encoded) {
+    byte[] bytes;
+    if (encoded instanceof ByteBuffer) {
+      ByteBuffer buffer = ((ByteBuffer) encoded).duplicate();
+      bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+    } else {
+      bytes = (byte[]) encoded;
+    }
+    if (compress) {
+      bytes = inflate(bytes);
+    }
+    return serialization.unmarshal(bytes, 0, bytes.length, typeClass);
+  }
+
+  private static int length(Object encoded) {
+    if (encoded instanceof ByteBuffer) {
+      return ((ByteBuffer) encoded).capacity();
+    }
+    return ((byte[]) encoded).length;
+  }
+
+  /**
+   * Deflate, prefixing the result with the uncompressed length so that it may be inflated in a single pass
+   */
+  static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      byte[] result = new byte[4 + bytes.length + 64];
+      writeLength(result, bytes.length);
+      int length = 4;
+      while (!deflater.finished()) {
+        if (length == result.length) {
+          result = Arrays.copyOf(result, result.length * 2);
+        }
+        length += deflater.deflate(result, length, result.length - length);
+      }
+      return Arrays.copyOf(result, length);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  static byte[] inflate(byte[] bytes) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes, 4, bytes.length - 4);
+      byte[] result = new byte[readLength(bytes)];
+      int length = 0;
+      while (length < result.length && !inflater.finished()) {
+        int inflated = inflater.inflate(result, length, result.length - length);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        length += inflated;
+      }
+      if (length != result.length) {
+        throw new KubernetesClientException("Stored item is corrupt");
+      }
+      return result;
+    } catch (DataFormatException e) {
+      throw new KubernetesClientException("Stored item is corrupt", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static void writeLength(byte[] bytes, int length) {
+    bytes[0] = (byte) (length >>> 24);
+    bytes[1] = (byte) (length >>> 16);
+    bytes[2] = (byte) (length >>> 8);
+    bytes[3] = (byte) length;
+  }
+
+  private static int readLength(byte[] bytes) {
+    return ((bytes[0] & 0xff) << 24) | ((bytes[1] & 0xff) << 16) | ((bytes[2] & 0xff) << 8) | (bytes[3] & 0xff);
+  }
+
+}
@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.client.http.BasicBuilder;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.http.TokenBucketRequestScheduler;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -181,6 +182,14 @@ public class HttpClientUtils {
       builder.preferHttp11();
     }
 
+    if (config.isResponseCompression()) {
+      builder.responseCompression();
+    }
+
+    if (config.getQps() > 0) {
+      builder.requestScheduler(new TokenBucketRequestScheduler(config.getQps(), config.getBurst()));
+    }
+
     try {
       configureProxy(config, builder);
 
@@ -18,8 +18,10 @@ package io.fabric8.kubernetes.client.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -31,11 +33,15 @@ import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
@@ -61,6 +67,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.function.Function;
 
 public class KubernetesSerialization {
 
@@ -68,6 +75,7 @@ public class KubernetesSerialization {
   private final UnmatchedFieldTypeModule unmatchedFieldTypeModule = new UnmatchedFieldTypeModule();
   private KubernetesDeserializer kubernetesDeserializer;
   private final boolean searchClassloaders;
+  private final WatchEventDeserializer watchEventDeserializer;
 
   /**
    * Creates a new instance with a fresh ObjectMapper
@@ -85,6 +93,7 @@ public class KubernetesSerialization {
   public KubernetesSerialization(ObjectMapper mapper, boolean searchClassloaders) {
     this.mapper = mapper;
     this.searchClassloaders = searchClassloaders;
+    this.watchEventDeserializer = new WatchEventDeserializer(mapper);
     configureMapper(mapper);
   }
 
@@ -172,6 +181,21 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Returns a UTF-8 encoded JSON representation of the given object, see {@link #asJson(Object)}.
+   *
+   * @param object the object to serialize.
+   * @param <T> the type of the object being serialized.
+   * @return the JSON bytes.
+   */
+  public <T> byte[] asJsonBytes(T object) {
+    try {
+      return mapper.writeValueAsBytes(object);
+    } catch (JsonProcessingException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   /**
    * Returns a YAML representation of the given object.
    *
@@ -323,11 +347,34 @@ public class KubernetesSerialization {
    * @return returns de-serialized object
    */
   public <T> T unmarshal(String str, final Class<T> type) {
-    try (InputStream is = new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8))) {
-      return unmarshal(is, type);
-    } catch (IOException e) {
-      throw KubernetesClientException.launderThrowable(e);
+    byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+    return unmarshal(bytes, 0, bytes.length, type);
+  }
+
+  /**
+   * Unmarshals a range of a byte array. Json content is read directly from the array.
+   *
+   * @param bytes The byte array.
+   * @param offset The offset of the content.
+   * @param length The length of the content.
+   * @param type The target type.
+   * @param <T> template argument denoting type
+   * @return returns de-serialized object
+   */
+  public <T> T unmarshal(byte[] bytes, int offset, int length, final Class<T> type) {
+    int end = offset + length;
+    int start = offset;
+    while (start < end && Character.isWhitespace(bytes[start])) {
+      start++;
     }
+    if (start < end && (bytes[start] == '{' || bytes[start] == '[')) {
+      try {
+        return mapper.readValue(bytes, offset, length, type);
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+    return unmarshal(new ByteArrayInputStream(bytes, offset, length), type);
   }
 
   /**
@@ -347,6 +394,26 @@ public class KubernetesSerialization {
     });
   }
 
+  /**
+   * Unmarshals a json {@link WatchEvent} from a range of a byte array in a single pass.
+   * <p>
+   * The object is bound directly to the given type, or to a {@link Status} for an ERROR event.
+   *
+   * @param bytes The byte array.
+   * @param offset The offset of the content.
+   * @param length The length of the content.
+   * @param objectType The expected type of the event object.
+   * @return returns de-serialized event
+   */
+  public WatchEvent unmarshalWatchEvent(byte[] bytes, int offset, int length,
+      Class<? extends KubernetesResource> objectType) {
+    try (JsonParser parser = mapper.createParser(bytes, offset, length)) {
+      return watchEventDeserializer.deserialize(parser, objectType);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   /**
    * Create a copy of the resource via serialization.
    *
@@ -368,6 +435,37 @@ public class KubernetesSerialization {
     return mapper.convertValue(value, type);
   }
 
+  /**
+   * Resolve how the named json property is read from instances of the given type, so that it may be
+   * repeatedly accessed without serializing the whole object.
+   * <p>
+   * If the type has no such property, but has an any getter - such as additionalProperties - the
+   * value is read from there.
+   *
+   * @param type the type
+   * @param name the json property name
+   * @return the reader, or null if the type has no such property
+   */
+  public Function<Object, Object> getPropertyReader(Class<?> type, String name) {
+    BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+    for (BeanPropertyDefinition property : description.findProperties()) {
+      AnnotatedMember accessor = property.getAccessor();
+      if (accessor != null && property.getName().equals(name)) {
+        accessor.fixAccess(true);
+        return accessor::getValue;
+      }
+    }
+    AnnotatedMember anyGetter = description.findAnyGetter();
+    if (anyGetter != null) {
+      anyGetter.fixAccess(true);
+      return obj -> {
+        Object properties = anyGetter.getValue(obj);
+        return properties instanceof Map ? ((Map<?, ?>) properties).get(name) : null;
+      };
+    }
+    return null;
+  }
+
   public Type constructParametricType(Class<?> parameterizedClass, Class<?> parameterType) {
     return mapper.getTypeFactory().constructParametricType(parameterizedClass, parameterType);
   }
@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.ListMeta;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally parses a json list response as the bytes become available.
+ * <p>
+ * Each entry of the top level items array is bound and passed to the item consumer as soon
+ * as it has been fully read, so that at most a single item is buffered - the full list response is never
+ * held in memory.
+ * <p>
+ * Not thread-safe, calls to {@link #feed(ByteBuffer)} and {@link #end()} are expected to be serial.
+ *
+ * @param <T> the item type
+ */
+public class ListItemsParser<T> {
+
+  private static final String ITEMS = "items";
+  private static final String METADATA = "metadata";
+
+  private final ObjectMapper mapper;
+  private final Class<T> itemType;
+  private final Consumer<T> itemConsumer;
+  private final JsonParser parser;
+  private final ByteBufferFeeder feeder;
+
+  private int depth;
+  private String field;
+  private boolean inItems;
+  private TokenBuffer buffer;
+  private int bufferDepth;
+  private ListMeta listMeta;
+  private long count;
+
+  public ListItemsParser(KubernetesSerialization serialization, Class<T> itemType, Consumer<T> itemConsumer)
+      throws IOException {
+    this.mapper = serialization.getMapper();
+    this.itemType = itemType;
+    this.itemConsumer = itemConsumer;
+    this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+    this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  /**
+   * Parse the next chunk of the response, which may result in items being passed to the consumer
+   *
+   * @param bytes the next chunk
+   * @throws IOException if the content is not valid json
+   */
+  public void feed(ByteBuffer bytes) throws IOException {
+    feeder.feedInput(bytes);
+    processTokens();
+  }
+
+  /**
+   * Signal the end of the response.
+   *
+   * @return the list metadata, or null if there was none
+   * @throws IOException if the content is not valid json
+   */
+  public ListMeta end() throws IOException {
+    feeder.endOfInput();
+    processTokens();
+    parser.close();
+    return listMeta;
+  }
+
+  /**
+   * @return the number of items passed to the consumer so far
+   */
+  public long getCount() {
+    return count;
+  }
+
+  private void processTokens() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      if (buffer != null) {
+        buffer.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+          bufferDepth++;
+        } else if (token.isStructEnd() && --bufferDepth == 0) {
+          complete();
+        }
+        continue;
+      }
+      switch (token) {
+        case FIELD_NAME:
+          if (depth == 1) {
+            field = parser.currentName();
+          }
+          break;
+        case START_OBJECT:
+          if ((inItems && depth == 2) || (depth == 1 && METADATA.equals(field))) {
+            buffer = new TokenBuffer(parser);
+            buffer.copyCurrentEvent(parser);
+            bufferDepth = 1;
+          } else {
+            depth++;
+          }
+          break;
+        case START_ARRAY:
+          inItems = depth == 1 && ITEMS.equals(field);
+          depth++;
+          break;
+        case END_ARRAY:
+          if (depth == 2) {
+            inItems = false;
+          }
+          depth--;
+          break;
+        case END_OBJECT:
+          depth--;
+          break;
+        default:
+          // scalar values outside of the items and metadata are not needed
+          break;
+      }
+    }
+  }
+
+  private void complete() throws IOException {
+    TokenBuffer completed = this.buffer;
+    this.buffer = null;
+    try (JsonParser bufferParser = completed.asParser()) {
+      if (inItems) {
+        T item = mapper.readValue(bufferParser, itemType);
+        count++;
+        itemConsumer.accept(item);
+      } else {
+        listMeta = mapper.readValue(bufferParser, ListMeta.class);
+      }
+    }
+  }
+
+}
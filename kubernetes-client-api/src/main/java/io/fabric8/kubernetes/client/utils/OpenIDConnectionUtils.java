@@ -326,25 +326,31 @@ public class OpenIDConnectionUtils {
   public static boolean idTokenExpired(Config config) {
     if (config.getAuthProvider() != null && config.getAuthProvider().getConfig() != null) {
       Map<String, String> authProviderConfig = config.getAuthProvider().getConfig();
-      String accessToken = authProviderConfig.get(ID_TOKEN_KUBECONFIG);
-      if (isValidJwt(accessToken)) {
-        try {
-          String[] jwtParts = accessToken.split(JWT_PARTS_DELIMITER_REGEX);
-          String jwtPayload = jwtParts[1];
-          String jwtPayloadDecoded = new String(Base64.getDecoder().decode(jwtPayload));
-          Map<String, Object> jwtPayloadMap = Serialization.unmarshal(jwtPayloadDecoded, Map.class);
-          int expiryTimestampInSeconds = (Integer) jwtPayloadMap.get(JWT_TOKEN_EXPIRY_TIMESTAMP_KEY);
-          return Instant.ofEpochSecond(expiryTimestampInSeconds)
-              .minusSeconds(TOKEN_EXPIRY_DELTA)
-              .isBefore(Instant.now());
-        } catch (Exception e) {
-          return true;
-        }
-      }
+      Instant expiration = jwtExpiration(authProviderConfig.get(ID_TOKEN_KUBECONFIG));
+      return expiration == null || expiration.minusSeconds(TOKEN_EXPIRY_DELTA).isBefore(Instant.now());
     }
     return true;
   }
 
+  /**
+   * @return the expiry of the token, or null if it's not a JWT with an expiry claim
+   */
+  static Instant jwtExpiration(String token) {
+    if (isValidJwt(token)) {
+      try {
+        String[] jwtParts = token.split(JWT_PARTS_DELIMITER_REGEX);
+        String jwtPayload = jwtParts[1];
+        String jwtPayloadDecoded = new String(Base64.getDecoder().decode(jwtPayload));
+        Map<String, Object> jwtPayloadMap = Serialization.unmarshal(jwtPayloadDecoded, Map.class);
+        long expiryTimestampInSeconds = ((Number) jwtPayloadMap.get(JWT_TOKEN_EXPIRY_TIMESTAMP_KEY)).longValue();
+        return Instant.ofEpochSecond(expiryTimestampInSeconds);
+      } catch (Exception e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
   private static boolean isValidJwt(String token) {
     if (token != null && !token.isEmpty()) {
       String[] jwtParts = token.split(JWT_PARTS_DELIMITER_REGEX);
@@ -0,0 +1,239 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.client.http.BufferUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Incrementally parses a json response as the bytes become available, so that parsing overlaps with
+ * reading the response and the raw response is never held in memory.
+ * <p>
+ * When the result type has an items collection of a concrete type, such as a resource list, each entry of the top
+ * level items array is bound as soon as it has been fully read, so that at most a single item is held as tokens.
+ * The rest of the response, which is just the list metadata, is bound once the end of the response is reached.
+ * Other results are bound at the end.
+ * <p>
+ * Content that is not json, such as yaml, is accumulated and handled as
+ * {@link KubernetesSerialization#unmarshal(java.io.InputStream, TypeReference)} would.
+ * <p>
+ * Not thread-safe, calls to {@link #feed(ByteBuffer)} and {@link #end()} are expected to be serial.
+ *
+ * @param <T> the result type
+ */
+public class StreamingJsonParser<T> {
+
+  private static final String ITEMS = "items";
+
+  private final KubernetesSerialization serialization;
+  private final ObjectMapper mapper;
+  private final TypeReference<T> type;
+  private final ObjectReader itemReader;
+
+  private JsonParser parser;
+  private ByteBufferFeeder feeder;
+  private TokenBuffer tokens;
+  private ByteArrayOutputStream other;
+
+  private int depth;
+  private String field;
+  private boolean inItems;
+  private TokenBuffer item;
+  private int itemDepth;
+  private long count;
+
+  public StreamingJsonParser(KubernetesSerialization serialization, TypeReference<T> type) {
+    this.serialization = serialization;
+    this.mapper = serialization.getMapper();
+    this.type = type;
+    JavaType itemType = findItemType(mapper, mapper.getTypeFactory().constructType(type));
+    this.itemReader = itemType == null ? null : mapper.readerFor(itemType);
+  }
+
+  /**
+   * Find the type of the items, if they can be bound individually and then placed in the result as is
+   *
+   * @return the item type or null
+   */
+  static JavaType findItemType(ObjectMapper mapper, JavaType resultType) {
+    if (resultType.isAbstract() || resultType.isContainerType() || resultType.isJavaLangObject()) {
+      return null;
+    }
+    DeserializationConfig config = mapper.getDeserializationConfig();
+    AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+    for (BeanPropertyDefinition property : config.introspect(resultType).findProperties()) {
+      if (!ITEMS.equals(property.getName()) || !property.getPrimaryType().isCollectionLikeType()) {
+        continue;
+      }
+      JavaType itemType = property.getPrimaryType().getContentType();
+      // abstract or custom deserialized items may not accept an already bound value
+      if (itemType.isAbstract() || itemType.isContainerType() || itemType.isJavaLangObject()
+          || isCustom(introspector.findContentDeserializer(property.getPrimaryMember()))
+          || isCustom(introspector.findDeserializer(config.introspectClassAnnotations(itemType).getClassInfo()))) {
+        return null;
+      }
+      return itemType;
+    }
+    return null;
+  }
+
+  private static boolean isCustom(Object deserializer) {
+    return deserializer != null && deserializer != JsonDeserializer.None.class;
+  }
+
+  /**
+   * Parse the next chunk of the response, which may result in items being bound
+   *
+   * @param bytes the next chunk
+   * @throws IOException if the content is not valid json
+   */
+  public void feed(ByteBuffer bytes) throws IOException {
+    if (parser == null && other == null && !start(bytes)) {
+      return;
+    }
+    if (other != null) {
+      other.write(BufferUtil.toArray(bytes));
+      return;
+    }
+    feeder.feedInput(bytes);
+    processTokens();
+  }
+
+  /**
+   * Determine from the first non-whitespace byte whether the content is json
+   *
+   * @return false if there is only whitespace so far
+   */
+  private boolean start(ByteBuffer bytes) throws IOException {
+    for (int i = bytes.position(); i < bytes.limit(); i++) {
+      byte b = bytes.get(i);
+      if (Character.isWhitespace(b)) {
+        continue;
+      }
+      if (b == '{' || b == '[') {
+        parser = mapper.getFactory().createNonBlockingByteBufferParser();
+        feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        tokens = new TokenBuffer(parser);
+      } else {
+        other = new ByteArrayOutputStream();
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Signal the end of the response.
+   *
+   * @return the result
+   * @throws IOException if the content is not valid json
+   */
+  public T end() throws IOException {
+    if (parser == null) {
+      byte[] bytes = other == null ? new byte[0] : other.toByteArray();
+      return serialization.unmarshal(new ByteArrayInputStream(bytes), type);
+    }
+    feeder.endOfInput();
+    processTokens();
+    parser.close();
+    try (JsonParser tokenParser = tokens.asParser()) {
+      return mapper.readerFor(type).readValue(tokenParser);
+    }
+  }
+
+  /**
+   * @return the number of items bound so far
+   */
+  public long getCount() {
+    return count;
+  }
+
+  private void processTokens() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      if (item != null) {
+        item.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+          itemDepth++;
+        } else if (token.isStructEnd() && --itemDepth == 0) {
+          bindItem();
+        }
+        continue;
+      }
+      if (token == JsonToken.START_OBJECT && inItems && depth == 2) {
+        item = new TokenBuffer(parser);
+        item.copyCurrentEvent(parser);
+        itemDepth = 1;
+        continue;
+      }
+      tokens.copyCurrentEvent(parser);
+      switch (token) {
+        case FIELD_NAME:
+          if (depth == 1) {
+            field = parser.currentName();
+          }
+          break;
+        case START_OBJECT:
+          depth++;
+          break;
+        case START_ARRAY:
+          if (depth == 1) {
+            inItems = itemReader != null && ITEMS.equals(field);
+          }
+          depth++;
+          break;
+        case END_ARRAY:
+          if (depth == 2) {
+            inItems = false;
+          }
+          depth--;
+          break;
+        case END_OBJECT:
+          depth--;
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  private void bindItem() throws IOException {
+    TokenBuffer completed = this.item;
+    this.item = null;
+    try (JsonParser itemParser = completed.asParser()) {
+      // the bound item replaces its tokens, and is used as is when the result is bound
+      tokens.writeEmbeddedObject(itemReader.readValue(itemParser));
+      count++;
+    }
+  }
+
+}
@@ -21,29 +21,69 @@ import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.http.Interceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.HttpURLConnection;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
  * Interceptor for handling kube authentication. It will either be basic auth, or token based. This class takes responsibility
  * for refreshing expired OIDC tokens.
+ * <p>
+ * A single refresh runs at a time. Refreshes due to the age of the token run in the background, on the executor of the
+ * client the request belongs to, and requests keep using the current token meanwhile. Tokens with a known expiry, from
+ * exec credential plugins or OIDC, are refreshed shortly before they expire, others every minute. A token set in the
+ * {@link Config} is used as is, and never refreshed.
  */
 public class TokenRefreshInterceptor implements Interceptor {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(TokenRefreshInterceptor.class);
+
   public static final String AUTHORIZATION = "Authorization";
 
   public static final String NAME = "TOKEN";
 
+  /**
+   * The {@link HttpClient} tag with the executor of the client, used for background refreshes. Without it, they run on
+   * the thread of the request.
+   */
+  public static final class RefreshExecutor {
+
+    private final Executor executor;
+
+    public RefreshExecutor(Executor executor) {
+      this.executor = executor;
+    }
+  }
+
   protected final Config config;
   private final Function<Config, CompletableFuture<String>> remoteRefresh;
 
   private static final int REFRESH_INTERVAL_MINUTE = 1;
 
+  /**
+   * How long before the expiry of a token to refresh it
+   */
+  private static final int REFRESH_BEFORE_EXPIRY_SECONDS = 60;
+
+  /**
+   * How long to wait after a refresh before starting another one, if the token is still due for a refresh
+   */
+  private static final int REFRESH_RETRY_SECONDS = 10;
+
   private volatile Instant latestRefreshTimestamp;
+  private volatile Instant latestRefreshAttempt;
+  private volatile Instant tokenExpiration;
+  private final AtomicReference<CompletableFuture<String>> refreshing = new AtomicReference<>();
+  private final Metrics metrics = new Metrics();
 
   public TokenRefreshInterceptor(Config config, HttpClient.Factory factory, Instant latestRefreshTimestamp) {
     this(config, latestRefreshTimestamp,
@@ -56,6 +96,7 @@ public class TokenRefreshInterceptor implements Interceptor {
     this.config = config;
     this.remoteRefresh = remoteRefresh;
     this.latestRefreshTimestamp = latestRefreshTimestamp;
+    this.tokenExpiration = tokenExpiration(config, config.getAutoOAuthToken());
   }
 
   @Override
@@ -71,7 +112,8 @@ public class TokenRefreshInterceptor implements Interceptor {
       headerBuilder.header(AUTHORIZATION, "Bearer " + token);
     }
     if (isTimeToRefresh()) {
-      refreshToken(headerBuilder);
+      RefreshExecutor refreshExecutor = tags == null ? null : tags.getTag(RefreshExecutor.class);
+      refreshInBackground(refreshExecutor == null ? Runnable::run : refreshExecutor.executor);
     }
   }
 
@@ -93,8 +135,31 @@ public class TokenRefreshInterceptor implements Interceptor {
     return Utils.isNotNullOrEmpty(config.getUsername()) && Utils.isNotNullOrEmpty(config.getPassword());
   }
 
+  private boolean hasStaticToken() {
+    return config.getOauthTokenProvider() == null && config.getOauthToken() != null;
+  }
+
   private boolean isTimeToRefresh() {
-    return latestRefreshTimestamp.plus(REFRESH_INTERVAL_MINUTE, ChronoUnit.MINUTES).isBefore(Instant.now());
+    if (hasStaticToken()) {
+      return false;
+    }
+    Instant now = Instant.now();
+    Instant attempt = latestRefreshAttempt;
+    if (attempt != null && attempt.plusSeconds(REFRESH_RETRY_SECONDS).isAfter(now)) {
+      return false;
+    }
+    Instant expiration = tokenExpiration;
+    if (expiration != null) {
+      return expiration.minusSeconds(REFRESH_BEFORE_EXPIRY_SECONDS).isBefore(now);
+    }
+    return latestRefreshTimestamp.plus(REFRESH_INTERVAL_MINUTE, ChronoUnit.MINUTES).isBefore(now);
+  }
+
+  /**
+   * @return the {@link TokenRefreshMetrics} of this interceptor
+   */
+  public TokenRefreshMetrics getMetrics() {
+    return metrics;
   }
 
   @Override
@@ -102,25 +167,80 @@ public class TokenRefreshInterceptor implements Interceptor {
     if (shouldFail(response)) {
       return CompletableFuture.completedFuture(false);
     }
-    return refreshToken(headerBuilder);
+    // the request has to wait for a new token anyway
+    return refresh(Runnable::run).thenApply(token -> overrideNewAccessTokenToConfig(token, headerBuilder));
   }
 
   protected boolean shouldFail(HttpResponse<?> response) {
     return useBasicAuth() || response.code() != HttpURLConnection.HTTP_UNAUTHORIZED;
   }
 
-  private CompletableFuture<Boolean> refreshToken(BasicBuilder headerBuilder) {
-    if (config.getOauthTokenProvider() != null) {
-      String tokenFromProvider = config.getOauthTokenProvider().getToken();
-      return CompletableFuture.completedFuture(overrideNewAccessTokenToConfig(tokenFromProvider, headerBuilder));
+  /**
+   * Starts a refresh on the executor, or joins the one in progress.
+   *
+   * @return the new token, or null if there is none
+   */
+  CompletableFuture<String> refreshInBackground(Executor executor) {
+    return refresh(executor);
+  }
+
+  private CompletableFuture<String> refresh(Executor executor) {
+    if (hasStaticToken()) {
+      // nothing to refresh
+      return CompletableFuture.completedFuture(null);
     }
-    if (config.getOauthToken() != null) {
-      return CompletableFuture.completedFuture(false);
+    CompletableFuture<String> result = new CompletableFuture<>();
+    while (!refreshing.compareAndSet(null, result)) {
+      CompletableFuture<String> inProgress = refreshing.get();
+      if (inProgress != null) {
+        return inProgress;
+      }
+    }
+    long start = System.nanoTime();
+    CompletableFuture.supplyAsync(this::refreshToken, executor).thenCompose(Function.identity()).whenComplete((token, t) -> {
+      long nanos = System.nanoTime() - start;
+      metrics.record(nanos, t == null && Utils.isNotNullOrEmpty(token));
+      if (t != null) {
+        LOGGER.debug("Token refresh failed after {} ms", TimeUnit.NANOSECONDS.toMillis(nanos), t);
+      } else {
+        LOGGER.debug("Token refreshed in {} ms, expires at {}", TimeUnit.NANOSECONDS.toMillis(nanos), tokenExpiration);
+      }
+      latestRefreshAttempt = Instant.now();
+      refreshing.set(null);
+      if (t != null) {
+        result.completeExceptionally(t);
+      } else {
+        result.complete(token);
+      }
+    });
+    return result;
+  }
+
+  private CompletableFuture<String> refreshToken() {
+    if (config.getOauthTokenProvider() != null) {
+      return CompletableFuture.completedFuture(updateToken(config, config.getOauthTokenProvider().getToken()));
     }
     Config newestConfig = config.refresh();
-    final CompletableFuture<String> newAccessToken = extractNewAccessTokenFrom(newestConfig);
+    return extractNewAccessTokenFrom(newestConfig).thenApply(token -> updateToken(newestConfig, token));
+  }
 
-    return newAccessToken.thenApply(token -> overrideNewAccessTokenToConfig(token, headerBuilder));
+  private String updateToken(Config newestConfig, String newAccessToken) {
+    if (Utils.isNotNullOrEmpty(newAccessToken)) {
+      config.setAutoOAuthToken(newAccessToken);
+      tokenExpiration = tokenExpiration(newestConfig, newAccessToken);
+      updateLatestRefreshTimestamp();
+    }
+    return newAccessToken;
+  }
+
+  private static Instant tokenExpiration(Config config, String token) {
+    if (config.getAutoOAuthTokenExpiration() != null) {
+      return config.getAutoOAuthTokenExpiration();
+    }
+    if (isAuthProviderOidc(config)) {
+      return OpenIDConnectionUtils.jwtExpiration(token);
+    }
+    return null;
   }
 
   private CompletableFuture<String> extractNewAccessTokenFrom(Config newestConfig) {
@@ -134,16 +254,18 @@ public class TokenRefreshInterceptor implements Interceptor {
 
   protected boolean useRemoteRefresh(Config newestConfig) {
     // TODO: in a hard failure scenario, should we skip the expired check
-    return isAuthProviderOidc(newestConfig) && OpenIDConnectionUtils.idTokenExpired(newestConfig);
+    if (!isAuthProviderOidc(newestConfig) || newestConfig.getAuthProvider().getConfig() == null) {
+      return false;
+    }
+    // refresh ahead of the expiry, as the background refresh is started before it
+    Instant expiration = OpenIDConnectionUtils
+        .jwtExpiration(newestConfig.getAuthProvider().getConfig().get(OpenIDConnectionUtils.ID_TOKEN_KUBECONFIG));
+    return expiration == null || expiration.minusSeconds(REFRESH_BEFORE_EXPIRY_SECONDS).isBefore(Instant.now());
   }
 
   private boolean overrideNewAccessTokenToConfig(String newAccessToken, BasicBuilder headerBuilder) {
     if (Utils.isNotNullOrEmpty(newAccessToken)) {
       headerBuilder.setHeader(AUTHORIZATION, "Bearer " + newAccessToken);
-      config.setAutoOAuthToken(newAccessToken);
-
-      updateLatestRefreshTimestamp();
-
       return true;
     }
 
@@ -157,4 +279,46 @@ public class TokenRefreshInterceptor implements Interceptor {
   private static boolean isAuthProviderOidc(Config newestConfig) {
     return newestConfig.getAuthProvider() != null && newestConfig.getAuthProvider().getName().equalsIgnoreCase("oidc");
   }
+
+  private final class Metrics implements TokenRefreshMetrics {
+
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final AtomicLong refreshTimeNanos = new AtomicLong();
+    private final AtomicLong maxRefreshTimeNanos = new AtomicLong();
+
+    private void record(long nanos, boolean success) {
+      refreshes.incrementAndGet();
+      if (!success) {
+        refreshFailures.incrementAndGet();
+      }
+      refreshTimeNanos.addAndGet(nanos);
+      maxRefreshTimeNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    @Override
+    public long getRefreshes() {
+      return refreshes.get();
+    }
+
+    @Override
+    public long getRefreshFailures() {
+      return refreshFailures.get();
+    }
+
+    @Override
+    public long getRefreshTimeNanos() {
+      return refreshTimeNanos.get();
+    }
+
+    @Override
+    public long getMaxRefreshTimeNanos() {
+      return maxRefreshTimeNanos.get();
+    }
+
+    @Override
+    public Instant getTokenExpiration() {
+      return tokenExpiration;
+    }
+  }
 }
@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import java.time.Instant;
+
+/**
+ * Point in time metrics for the credential refreshes of a {@link TokenRefreshInterceptor}.
+ */
+public interface TokenRefreshMetrics {
+
+  /**
+   * @return the total number of completed refreshes
+   */
+  long getRefreshes();
+
+  /**
+   * @return the number of refreshes that failed or did not produce a token
+   */
+  long getRefreshFailures();
+
+  /**
+   * @return the total time spent refreshing, in nanoseconds
+   */
+  long getRefreshTimeNanos();
+
+  /**
+   * @return the longest single refresh, in nanoseconds
+   */
+  long getMaxRefreshTimeNanos();
+
+  /**
+   * @return the expiry of the current token, or null if it is unknown
+   */
+  Instant getTokenExpiration();
+
+}
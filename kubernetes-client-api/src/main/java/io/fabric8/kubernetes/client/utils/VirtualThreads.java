@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.KubernetesClientBuilder.ExecutorSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads, which are available from Java 21.
+ * <p>
+ * The methods are resolved at runtime so that the client still runs on earlier versions, use {@link #isSupported()}
+ * before calling the others.
+ */
+public final class VirtualThreads {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_FACTORY;
+  private static final Method IS_VIRTUAL;
+
+  static {
+    Method newExecutor = null;
+    Method ofVirtual = null;
+    Method name = null;
+    Method factory = null;
+    Method isVirtual = null;
+    try {
+      newExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      Class<?> builder = Class.forName("java.lang.Thread$Builder");
+      name = builder.getMethod("name", String.class, long.class);
+      factory = builder.getMethod("factory");
+      isVirtual = Thread.class.getMethod("isVirtual");
+      // on Java 19 and 20 virtual threads are a preview feature, which fails unless enabled
+      ofVirtual.invoke(null);
+    } catch (Exception e) {
+      LOGGER.debug("Virtual threads are not supported by this runtime", e);
+      newExecutor = null;
+    }
+    NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newExecutor;
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = name;
+    BUILDER_FACTORY = factory;
+    IS_VIRTUAL = isVirtual;
+  }
+
+  /**
+   * An {@link ExecutorSupplier} that provides an {@link Executor} starting a virtual thread per task, and
+   * virtual threads for tasks that need a thread of their own.
+   */
+  public static final ExecutorSupplier EXECUTOR_SUPPLIER = new ExecutorSupplier() {
+
+    @Override
+    public Executor get() {
+      return newThreadPerTaskExecutor();
+    }
+
+    @Override
+    public ThreadFactory getDedicatedThreadFactory() {
+      return threadFactory("fabric8-dedicated-");
+    }
+
+    @Override
+    public void onClose(Executor executor) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+
+  };
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * @return true if the runtime supports virtual threads
+   */
+  public static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * See Executors.newVirtualThreadPerTaskExecutor() in Java 21 or later
+   *
+   * @return an {@link ExecutorService} that starts a new virtual thread for each task
+   */
+  public static ExecutorService newThreadPerTaskExecutor() {
+    return (ExecutorService) invoke(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR, null);
+  }
+
+  /**
+   * See Thread.ofVirtual().name(prefix, 0).factory() in Java 21 or later
+   *
+   * @param prefix the prefix of the thread names, which are followed by a counter
+   * @return a {@link ThreadFactory} creating virtual threads
+   */
+  public static ThreadFactory threadFactory(String prefix) {
+    Object builder = invoke(OF_VIRTUAL, null);
+    builder = invoke(BUILDER_NAME, builder, prefix, 0L);
+    return (ThreadFactory) invoke(BUILDER_FACTORY, builder);
+  }
+
+  /**
+   * @param thread the thread
+   * @return true if the thread is a virtual thread, always false if virtual threads are not supported
+   */
+  public static boolean isVirtual(Thread thread) {
+    return isSupported() && Boolean.TRUE.equals(invoke(IS_VIRTUAL, thread));
+  }
+
+  private static Object invoke(Method method, Object target, Object... args) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
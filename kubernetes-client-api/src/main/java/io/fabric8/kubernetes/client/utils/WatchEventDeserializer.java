@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+
+import java.io.IOException;
+
+/**
+ * Reads a {@link WatchEvent} in a single streaming pass, binding the object directly to the expected type
+ * rather than relying on kind / apiVersion resolution and a later conversion.
+ */
+class WatchEventDeserializer {
+
+  private static final String TYPE = "type";
+  private static final String OBJECT = "object";
+  private static final String ERROR = "ERROR";
+
+  private final ObjectMapper mapper;
+
+  WatchEventDeserializer(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  WatchEvent deserialize(JsonParser parser, Class<? extends KubernetesResource> objectType) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Expected a watch event object");
+    }
+    WatchEvent event = new WatchEvent();
+    TokenBuffer deferredObject = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (TYPE.equals(name)) {
+        event.setType(parser.getValueAsString());
+      } else if (OBJECT.equals(name)) {
+        if (event.getType() == null) {
+          // the api server writes the type first, but that's not guaranteed
+          deferredObject = new TokenBuffer(parser);
+          deferredObject.copyCurrentStructure(parser);
+        } else {
+          event.setObject(readObject(parser, event.getType(), objectType));
+        }
+      } else {
+        event.setAdditionalProperty(name, mapper.readValue(parser, Object.class));
+      }
+    }
+    if (deferredObject != null) {
+      try (JsonParser objectParser = deferredObject.asParser()) {
+        objectParser.nextToken();
+        event.setObject(readObject(objectParser, event.getType(), objectType));
+      }
+    }
+    return event;
+  }
+
+  private KubernetesResource readObject(JsonParser parser, String type, Class<? extends KubernetesResource> objectType)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Class<? extends KubernetesResource> valueType = ERROR.equals(type) ? Status.class : objectType;
+    return mapper.readValue(parser, valueType);
+  }
+
+}
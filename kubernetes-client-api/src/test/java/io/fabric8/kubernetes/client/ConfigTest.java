@@ -600,6 +600,10 @@ class ConfigTest {
         .hasFieldOrPropertyWithValue("uploadRequestTimeout", 120000)
         .hasFieldOrPropertyWithValue("impersonateExtras", Collections.emptyMap())
         .hasFieldOrPropertyWithValue("http2Disable", false)
+        .hasFieldOrPropertyWithValue("responseCompression", false)
+        .hasFieldOrPropertyWithValue("qps", 0.0)
+        .hasFieldOrPropertyWithValue("burst", 0)
+        .hasFieldOrPropertyWithValue("bulkConcurrency", 1)
         .hasFieldOrPropertyWithValue("tlsVersions", new TlsVersion[] { TlsVersion.TLS_1_3, TlsVersion.TLS_1_2 })
         .hasFieldOrPropertyWithValue("errorMessages", Collections.emptyMap())
         .satisfies(e -> assertThat(e.getCurrentContext()).isNull())
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.controller;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.extended.workqueue.BucketRateLimiter;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ControllerTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reconcilesInformerEventsAndRetriesFailures() throws Exception {
+    SharedIndexInformer<Pod> informer = mock(SharedIndexInformer.class);
+    when(informer.addEventHandler(any())).thenReturn(informer);
+    when(informer.start()).thenReturn(CompletableFuture.completedFuture(null));
+    List<String> reconciled = new CopyOnWriteArrayList<>();
+    Controller controller = new ControllerBuilder(key -> {
+      reconciled.add(key);
+      if (reconciled.size() == 1) {
+        throw new IllegalStateException("first attempt fails");
+      }
+    }).withName("test").watch(informer).withWorkers(2).withRateLimiter(new BucketRateLimiter<>(1000, 1000)).build();
+
+    controller.start().get(10, TimeUnit.SECONDS);
+    ArgumentCaptor<ResourceEventHandler<Pod>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+    verify(informer).addEventHandler(handler.capture());
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withNamespace("ns").endMetadata().build();
+    handler.getValue().onAdd(pod);
+
+    await().atMost(10, TimeUnit.SECONDS).until(() -> reconciled.size() == 2);
+
+    handler.getValue().onDelete(pod, false);
+    await().atMost(10, TimeUnit.SECONDS).until(() -> reconciled.size() == 3);
+    assertThat(reconciled).containsOnly("ns/pod");
+    controller.close();
+    assertThat(controller.getWorkQueue().isShutDown()).isTrue();
+    verify(informer).removeEventHandler(handler.getValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void closeAbandonsQueuedKeys() throws Exception {
+    SharedIndexInformer<Pod> informer = mock(SharedIndexInformer.class);
+    when(informer.addEventHandler(any())).thenReturn(informer);
+    when(informer.start()).thenReturn(CompletableFuture.completedFuture(null));
+    List<String> reconciled = new CopyOnWriteArrayList<>();
+    CountDownLatch reconciling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch workerExited = new CountDownLatch(1);
+    Controller controller = new ControllerBuilder(key -> {
+      reconciled.add(key);
+      reconciling.countDown();
+      release.await();
+      throw new IllegalStateException("fails after close");
+    }).withName("test").watch(informer).withWorkers(1).withExecutor(task -> new Thread(() -> {
+      try {
+        task.run();
+      } finally {
+        workerExited.countDown();
+      }
+    }).start()).build();
+
+    controller.start().get(10, TimeUnit.SECONDS);
+    ArgumentCaptor<ResourceEventHandler<Pod>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+    verify(informer).addEventHandler(handler.capture());
+    for (String name : Arrays.asList("a", "b", "c")) {
+      handler.getValue().onAdd(new PodBuilder().withNewMetadata().withName(name).withNamespace("ns").endMetadata().build());
+    }
+    assertThat(reconciling.await(10, TimeUnit.SECONDS)).isTrue();
+
+    controller.close();
+    release.countDown();
+
+    // the worker finishes the current reconciliation, but does not take the queued keys or requeue the failure
+    assertThat(workerExited.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(reconciled).containsExactly("ns/a");
+    assertThat(controller.getWorkQueue().numRequeues("ns/a")).isZero();
+  }
+
+}
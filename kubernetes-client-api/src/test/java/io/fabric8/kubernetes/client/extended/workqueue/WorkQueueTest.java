@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.workqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkQueueTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void addDeduplicates() throws InterruptedException {
+    WorkQueue<String> queue = new WorkQueue<>(RateLimiter.defaultControllerRateLimiter(), now::get);
+    queue.add("a");
+    queue.add("b");
+    queue.add("a");
+
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.take()).isEqualTo("a");
+    assertThat(queue.take()).isEqualTo("b");
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void addWhileProcessingRequeuesOnDone() throws InterruptedException {
+    WorkQueue<String> queue = new WorkQueue<>(RateLimiter.defaultControllerRateLimiter(), now::get);
+    queue.add("a");
+    assertThat(queue.take()).isEqualTo("a");
+
+    queue.add("a");
+    queue.add("a");
+    assertThat(queue.size()).isZero();
+
+    queue.done("a");
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.take()).isEqualTo("a");
+    queue.done("a");
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void addAfterWaitsForDelay() throws InterruptedException {
+    WorkQueue<String> queue = new WorkQueue<>(RateLimiter.defaultControllerRateLimiter(), now::get);
+    queue.addAfter("a", Duration.ofSeconds(10));
+    queue.addAfter("a", Duration.ofSeconds(5));
+    queue.add("b");
+
+    assertThat(queue.take()).isEqualTo("b");
+    now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    assertThat(queue.take()).isEqualTo("a");
+    queue.done("a");
+    now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    // the later entry was superseded
+    queue.add("c");
+    assertThat(queue.take()).isEqualTo("c");
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void shutDownReleasesTakers() throws Exception {
+    WorkQueue<String> queue = new WorkQueue<>();
+    queue.addAfter("a", Duration.ofHours(1));
+    CompletableFuture<String> taken = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    });
+
+    queue.shutDown();
+
+    assertThat(taken.get(10, TimeUnit.SECONDS)).isNull();
+    queue.add("b");
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void rateLimitedBackoff() {
+    ExponentialBackoffRateLimiter<String> exponential = new ExponentialBackoffRateLimiter<>(Duration.ofMillis(5),
+        Duration.ofSeconds(1));
+    BucketRateLimiter<String> bucket = new BucketRateLimiter<>(10, 2, now::get);
+    RateLimiter<String> rateLimiter = new MaxOfRateLimiter<>(exponential, bucket);
+
+    assertThat(rateLimiter.when("a")).isEqualTo(Duration.ofMillis(5));
+    assertThat(rateLimiter.when("a")).isEqualTo(Duration.ofMillis(10));
+    // the bucket is now empty, so the next token is 100ms away
+    assertThat(rateLimiter.when("b")).isEqualTo(Duration.ofMillis(100));
+    assertThat(rateLimiter.numRequeues("a")).isEqualTo(2);
+
+    rateLimiter.forget("a");
+    assertThat(rateLimiter.numRequeues("a")).isZero();
+    for (int i = 0; i < 20; i++) {
+      exponential.when("c");
+    }
+    assertThat(exponential.when("c")).isEqualTo(Duration.ofSeconds(1));
+  }
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.DefaultMockServer;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import io.fabric8.mockwebserver.internal.SimpleRequest;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class AbstractResponseCompressionTest {
+
+  private static final String BODY = IntStream.range(0, 2000)
+      .mapToObj(i -> "{\"kind\":\"ConfigMap\",\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"cm-" + i + "\"}}")
+      .collect(Collectors.joining(",", "{\"kind\":\"ConfigMapList\",\"items\":[", "]}"));
+
+  private static DefaultMockServer server;
+  private static Map<ServerRequest, Queue<ServerResponse>> responses;
+
+  @BeforeAll
+  static void beforeAll() {
+    responses = new HashMap<>();
+    server = new DefaultMockServer(new Context(), new MockWebServer(), responses, false);
+    server.start();
+  }
+
+  @AfterAll
+  static void afterAll() {
+    server.shutdown();
+  }
+
+  protected abstract HttpClient.Factory getHttpClientFactory();
+
+  @Test
+  @DisplayName("Response compression requests gzip and decodes the compressed body")
+  public void responseCompressionReducesTransferredBytes() throws Exception {
+    final AtomicLong transferred = new AtomicLong();
+    expectCompressible("/compressed", transferred);
+    try (HttpClient client = getHttpClientFactory().newBuilder().responseCompression().build()) {
+      final HttpResponse<String> response = client.sendAsync(client.newHttpRequestBuilder()
+          .uri(server.url("/compressed")).build(), String.class).get(10, TimeUnit.SECONDS);
+
+      assertThat(response.body()).isEqualTo(BODY);
+      assertThat(server.getLastRequest().getHeader(StandardHttpHeaders.ACCEPT_ENCODING)).isEqualTo("gzip");
+      assertThat(transferred.get()).isLessThan(BODY.length() / 10L);
+    }
+  }
+
+  @Test
+  @DisplayName("Response compression streams the decoded body to the consumer")
+  public void responseCompressionConsumeBytes() throws Exception {
+    final AtomicLong transferred = new AtomicLong();
+    expectCompressible("/compressed-bytes", transferred);
+    try (HttpClient client = getHttpClientFactory().newBuilder().responseCompression().build()) {
+      final StringBuilder text = new StringBuilder();
+      final HttpResponse<AsyncBody> response = client.consumeBytes(
+          client.newHttpRequestBuilder().uri(server.url("/compressed-bytes")).build(),
+          (value, asyncBody) -> {
+            value.forEach(bb -> text.append(StandardCharsets.UTF_8.decode(bb)));
+            asyncBody.consume();
+          }).get(10, TimeUnit.SECONDS);
+      response.body().consume();
+      response.body().done().get(10, TimeUnit.SECONDS);
+
+      assertThat(text.toString()).isEqualTo(BODY);
+      assertThat(transferred.get()).isLessThan(BODY.length() / 10L);
+    }
+  }
+
+  @Test
+  @DisplayName("Response compression accepts responses the server did not compress")
+  public void responseCompressionUncompressedResponse() throws Exception {
+    server.expect().withPath("/uncompressed").andReturn(200, BODY).always();
+    try (HttpClient client = getHttpClientFactory().newBuilder().responseCompression().build()) {
+      final HttpResponse<String> response = client.sendAsync(client.newHttpRequestBuilder()
+          .uri(server.url("/uncompressed")).build(), String.class).get(10, TimeUnit.SECONDS);
+
+      assertThat(response.body()).isEqualTo(BODY);
+    }
+  }
+
+  private static void expectCompressible(String path, AtomicLong transferred) {
+    responses.computeIfAbsent(new SimpleRequest(path), k -> new ArrayDeque<>()).add(
+        new ServerResponse() {
+          @Override
+          public boolean isRepeatable() {
+            return true;
+          }
+
+          @Override
+          public MockResponse toMockResponse(RecordedRequest recordedRequest) {
+            final String acceptEncoding = recordedRequest.getHeader(StandardHttpHeaders.ACCEPT_ENCODING);
+            if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+              transferred.set(BODY.length());
+              return new MockResponse().setResponseCode(200).setBody(BODY);
+            }
+            final byte[] compressed = gzip(BODY.getBytes(StandardCharsets.UTF_8));
+            transferred.set(compressed.length);
+            return new MockResponse().setResponseCode(200)
+                .setHeader(StandardHttpHeaders.CONTENT_ENCODING, "gzip")
+                .setBody(new Buffer().write(compressed));
+          }
+        });
+  }
+
+  private static byte[] gzip(byte[] bytes) {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return baos.toByteArray();
+  }
+}
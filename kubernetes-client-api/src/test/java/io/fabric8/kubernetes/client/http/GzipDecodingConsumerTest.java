@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class GzipDecodingConsumerTest {
+
+  private static final String TEXT = IntStream.range(0, 500).mapToObj(i -> "line " + i)
+      .collect(Collectors.joining("\n"));
+
+  private ByteArrayOutputStream received;
+  private GzipDecodingConsumer consumer;
+  private AsyncBody asyncBody;
+
+  @BeforeEach
+  void setUp() {
+    received = new ByteArrayOutputStream();
+    consumer = new GzipDecodingConsumer((value, body) -> value.forEach(bb -> {
+      byte[] bytes = new byte[bb.remaining()];
+      bb.get(bytes);
+      received.write(bytes, 0, bytes.length);
+    }));
+    asyncBody = mock(AsyncBody.class);
+  }
+
+  @Test
+  void decodesInSingleChunk() throws Exception {
+    consumer.onResponse(gzipResponse());
+
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap(gzip(TEXT))), asyncBody);
+
+    assertThat(received.toString("UTF-8")).isEqualTo(TEXT);
+  }
+
+  @Test
+  void decodesByteByByte() throws Exception {
+    consumer.onResponse(gzipResponse());
+
+    for (byte b : gzip(TEXT)) {
+      consumer.consume(Collections.singletonList(ByteBuffer.wrap(new byte[] { b })), asyncBody);
+    }
+
+    assertThat(received.toString("UTF-8")).isEqualTo(TEXT);
+  }
+
+  @Test
+  void decodesOptionalHeaderFields() throws Exception {
+    consumer.onResponse(gzipResponse());
+    byte[] bytes = gzipWithOptionalHeaders(TEXT);
+    List<ByteBuffer> buffers = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += 7) {
+      buffers.add(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+    }
+
+    consumer.consume(buffers, asyncBody);
+
+    assertThat(received.toString("UTF-8")).isEqualTo(TEXT);
+  }
+
+  @Test
+  void requestsMoreWhenNothingIsDecoded() throws Exception {
+    consumer.onResponse(gzipResponse());
+
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap(gzip(TEXT), 0, 5)), asyncBody);
+
+    assertThat(received.size()).isZero();
+    verify(asyncBody).consume();
+  }
+
+  @Test
+  void passesThroughWhenNotEncoded() throws Exception {
+    consumer.onResponse(new TestHttpResponse<>());
+
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.UTF_8))), asyncBody);
+
+    assertThat(received.toString("UTF-8")).isEqualTo(TEXT);
+    verify(asyncBody, never()).consume();
+  }
+
+  @Test
+  void failsOnInvalidContent() {
+    consumer.onResponse(gzipResponse());
+    List<ByteBuffer> value = Collections.singletonList(ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.UTF_8)));
+
+    assertThatThrownBy(() -> consumer.consume(value, asyncBody)).isInstanceOf(ZipException.class);
+  }
+
+  @Test
+  void ignoresContentAfterClose() throws Exception {
+    consumer.onResponse(gzipResponse());
+    consumer.close();
+
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap(gzip(TEXT))), asyncBody);
+
+    assertThat(received.size()).isZero();
+  }
+
+  private static TestHttpResponse<AsyncBody> gzipResponse() {
+    return new TestHttpResponse<>(Collections.singletonMap(StandardHttpHeaders.CONTENT_ENCODING,
+        Collections.singletonList("gzip")));
+  }
+
+  private static byte[] gzip(String text) throws Exception {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+      gzip.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] gzipWithOptionalHeaders(String text) {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    // magic, deflate, FHCRC | FEXTRA | FNAME | FCOMMENT, mtime, xfl, os
+    baos.write(new byte[] { 0x1f, (byte) 0x8b, 8, 2 | 4 | 8 | 16, 0, 0, 0, 0, 0, 3 }, 0, 10);
+    baos.write(new byte[] { 3, 0, 'a', 'b', 'c' }, 0, 5);
+    baos.write(new byte[] { 'n', 'a', 'm', 'e', 0 }, 0, 5);
+    baos.write(new byte[] { 'c', 0 }, 0, 2);
+    baos.write(new byte[] { 0, 0 }, 0, 2);
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+    deflater.finish();
+    byte[] buffer = new byte[1024];
+    while (!deflater.finished()) {
+      int count = deflater.deflate(buffer);
+      baos.write(buffer, 0, count);
+    }
+    deflater.end();
+    // the trailer is not verified
+    baos.write(new byte[8], 0, 8);
+    return baos.toByteArray();
+  }
+}
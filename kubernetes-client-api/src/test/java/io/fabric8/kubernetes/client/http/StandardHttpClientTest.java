@@ -30,6 +30,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -241,6 +242,34 @@ class StandardHttpClientTest {
     assertEquals("a,b", response.header("header"));
   }
 
+  @Test
+  void requestIsSentOnceSchedulerPermits() throws Exception {
+    final CompletableFuture<Void> permit = new CompletableFuture<>();
+    final List<HttpResponse<?>> responses = new ArrayList<>();
+    client = client.newBuilder().requestScheduler(new RequestScheduler() {
+      @Override
+      public CompletableFuture<Void> acquire(HttpRequest request) {
+        return permit;
+      }
+
+      @Override
+      public void onResponse(HttpRequest request, HttpResponse<?> response) {
+        responses.add(response);
+      }
+    }).build();
+    client.expect("/path", new TestHttpResponse<AsyncBody>().withCode(200).withBody(new TestAsyncBody()));
+
+    CompletableFuture<HttpResponse<AsyncBody>> result = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost/path").build(), (value, asyncBody) -> {
+        });
+
+    assertThat(client.getRecordedConsumeBytesDirects()).isEmpty();
+    permit.complete(null);
+    assertThat(result.get(10, TimeUnit.SECONDS).code()).isEqualTo(200);
+    assertThat(client.getRecordedConsumeBytesDirects()).hasSize(1);
+    assertThat(responses).singleElement().extracting(HttpResponse::code).isEqualTo(200);
+  }
+
   @Test
   void retryAfterWithNoHeaderDefaultsToZero() {
     assertEquals(0, StandardHttpClient.retryAfterMillis(new TestHttpResponse<>()));
@@ -0,0 +1,192 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.http.TokenBucketRequestScheduler.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRequestSchedulerTest {
+
+  private AtomicLong now;
+  private TokenBucketRequestScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    now = new AtomicLong();
+  }
+
+  @Test
+  void burstIsPermittedImmediately() {
+    scheduler(1, 2);
+
+    CompletableFuture<Void> first = scheduler.acquire(request("/normal"));
+    CompletableFuture<Void> second = scheduler.acquire(request("/normal"));
+    CompletableFuture<Void> third = scheduler.acquire(request("/normal"));
+
+    assertThat(first).isDone();
+    assertThat(second).isDone();
+    assertThat(third).isNotDone();
+    tick(1);
+    assertThat(third).isDone();
+  }
+
+  @Test
+  void highPriorityIsServedFirst() {
+    scheduler(1, 1);
+    scheduler.acquire(request("/normal"));
+
+    CompletableFuture<Void> normal = scheduler.acquire(request("/normal"));
+    CompletableFuture<Void> low = scheduler.acquire(request("/low"));
+    CompletableFuture<Void> high = scheduler.acquire(request("/high"));
+    tick(1);
+
+    assertThat(high).isDone();
+    assertThat(normal).isNotDone();
+    assertThat(low).isNotDone();
+  }
+
+  @Test
+  void lowPriorityIsNotStarved() {
+    scheduler(1, 1);
+    scheduler.acquire(request("/normal"));
+    List<CompletableFuture<Void>> normal = IntStream.range(0, 5).mapToObj(i -> scheduler.acquire(request("/normal")))
+        .collect(Collectors.toList());
+    CompletableFuture<Void> low = scheduler.acquire(request("/low"));
+
+    for (int i = 1; i < TokenBucketRequestScheduler.NORMAL_WEIGHT; i++) {
+      tick(1);
+    }
+    assertThat(low).isNotDone();
+    tick(1);
+
+    assertThat(low).isDone();
+    assertThat(normal.get(4)).isNotDone();
+  }
+
+  @Test
+  void dispatchWithoutTokenDoesNotCountAsServed() {
+    scheduler(1, 1);
+    scheduler.acquire(request("/normal"));
+    IntStream.range(0, 5).forEach(i -> scheduler.acquire(request("/normal")));
+    CompletableFuture<Void> low = scheduler.acquire(request("/low"));
+    IntStream.range(0, 10).forEach(i -> scheduler.dispatch());
+
+    for (int i = 1; i < TokenBucketRequestScheduler.NORMAL_WEIGHT; i++) {
+      tick(1);
+    }
+    assertThat(low).isNotDone();
+    tick(1);
+
+    assertThat(low).isDone();
+  }
+
+  @Test
+  void abandonedPermitDoesNotTakeToken() {
+    scheduler(1, 1);
+    scheduler.acquire(request("/normal"));
+    CompletableFuture<Void> abandoned = scheduler.acquire(request("/normal"));
+    CompletableFuture<Void> next = scheduler.acquire(request("/normal"));
+
+    abandoned.cancel(false);
+    tick(1);
+
+    assertThat(next).isDone();
+  }
+
+  @Test
+  void throttledResponsePausesAllButHighPriority() {
+    scheduler(10, 10);
+
+    scheduler.onResponse(request("/normal"), new TestHttpResponse<>(Collections.singletonMap(
+        StandardHttpHeaders.RETRY_AFTER, Collections.singletonList("5"))).withCode(429));
+    CompletableFuture<Void> normal = scheduler.acquire(request("/normal"));
+    CompletableFuture<Void> high = scheduler.acquire(request("/high"));
+
+    assertThat(scheduler.getRate()).isEqualTo(5.0);
+    assertThat(high).isDone();
+    assertThat(normal).isNotDone();
+    tick(5);
+    assertThat(normal).isDone();
+  }
+
+  @Test
+  void successfulResponsesRestoreRate() {
+    scheduler(10, 10);
+    scheduler.onResponse(request("/normal"), new TestHttpResponse<>().withCode(429));
+    scheduler.onResponse(request("/normal"), new TestHttpResponse<>().withCode(429));
+    assertThat(scheduler.getRate()).isEqualTo(2.5);
+
+    IntStream.range(0, 20).forEach(i -> scheduler.onResponse(request("/normal"), new TestHttpResponse<>().withCode(200)));
+
+    assertThat(scheduler.getRate()).isEqualTo(10.0);
+  }
+
+  @ParameterizedTest(name = "{0} {1} is {2}")
+  @CsvSource({
+      "GET, /api/v1/namespaces/ns/pods?watch=true, HIGH",
+      "PUT, /apis/coordination.k8s.io/v1/namespaces/ns/leases/leader, HIGH",
+      "GET, /api/v1/namespaces/ns/pods, LOW",
+      "GET, /api/v1/pods?limit=500, LOW",
+      "GET, /apis/apps/v1/namespaces/ns/deployments, LOW",
+      "GET, /api/v1/namespaces, LOW",
+      "GET, /api/v1/namespaces/ns, NORMAL",
+      "GET, /api/v1/namespaces/ns/pods/name, NORMAL",
+      "GET, /api/v1/namespaces/ns/pods/name/log, NORMAL",
+      "POST, /api/v1/namespaces/ns/pods, NORMAL",
+      "GET, /version, NORMAL"
+  })
+  void defaultPriority(String method, String path, Priority expected) {
+    HttpRequest request = new StandardHttpRequest.Builder().uri("http://localhost" + path)
+        .method(method, "application/json", "POST".equals(method) ? "{}" : null).build();
+
+    assertThat(TokenBucketRequestScheduler.defaultPriority(request)).isEqualTo(expected);
+  }
+
+  private void scheduler(double qps, int burst) {
+    scheduler = new TokenBucketRequestScheduler(qps, burst, r -> {
+      switch (r.uri().getPath()) {
+        case "/high":
+          return Priority.HIGH;
+        case "/low":
+          return Priority.LOW;
+        default:
+          return Priority.NORMAL;
+      }
+    }, now::get);
+  }
+
+  private void tick(long seconds) {
+    now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    scheduler.dispatch();
+  }
+
+  private static HttpRequest request(String path) {
+    return new StandardHttpRequest.Builder().uri("http://localhost" + path).build();
+  }
+}
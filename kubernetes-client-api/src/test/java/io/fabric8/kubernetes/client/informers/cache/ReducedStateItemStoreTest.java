@@ -15,14 +15,20 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class ReducedStateItemStoreTest {
 
@@ -38,7 +44,8 @@ class ReducedStateItemStoreTest {
 
     assertEquals(3, values.length);
     assertEquals("2", values[0]); // always the resourceVersion
-    assertEquals(pod.getMetadata().getLabels(), values[1]);
+    // non-scalar values are packed
+    assertEquals("{\"one\":\"1\",\"two\":\"2\"}", values[1].toString());
     assertNull(values[2]);
 
     Pod restored = store.restore("x", values);
@@ -55,4 +62,44 @@ class ReducedStateItemStoreTest {
     assertNotNull(store.remove("x"));
   }
 
+  @Test
+  void testViewsAreReused() {
+    ReducedStateItemStore<Pod> store = new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE,
+        Pod.class, new KubernetesSerialization(), "spec.containers", "spec.nodeName");
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("y").withNamespace("ns").withResourceVersion("1").endMetadata()
+        .withNewSpec().addNewContainer().withName("c").withImage("image").endContainer().endSpec().build();
+
+    assertNull(store.put("ns/y", pod));
+    Pod restored = store.get("ns/y");
+
+    assertEquals("y", restored.getMetadata().getName());
+    assertEquals("ns", restored.getMetadata().getNamespace());
+    assertEquals("1", restored.getMetadata().getResourceVersion());
+    assertEquals(1, restored.getSpec().getContainers().size());
+    assertEquals("image", restored.getSpec().getContainers().get(0).getImage());
+    assertNull(restored.getSpec().getNodeName());
+    assertSame(restored, store.get("ns/y"));
+    assertSame(restored, store.values().findFirst().orElse(null));
+  }
+
+  @Test
+  void testGenericResource() {
+    ReducedStateItemStore<GenericKubernetesResource> store = new ReducedStateItemStore<>(
+        ReducedStateItemStore.NAME_KEY_STATE, GenericKubernetesResource.class, new KubernetesSerialization(),
+        "spec.replicas", "spec.selector.app");
+
+    GenericKubernetesResource resource = new GenericKubernetesResourceBuilder().withApiVersion("v1").withKind("Thing")
+        .withNewMetadata().withName("y").withResourceVersion("3").endMetadata().build();
+    resource.setAdditionalProperty("spec", Collections.singletonMap("replicas", 2));
+
+    Object[] values = store.store(resource);
+
+    assertArrayEquals(new Object[] { "3", 2, null }, values);
+    GenericKubernetesResource restored = store.restore("y", values);
+    assertEquals("y", restored.getMetadata().getName());
+    assertNull(restored.getMetadata().getNamespace());
+    assertEquals(Integer.valueOf(2), restored.get("spec", "replicas"));
+  }
+
 }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedItemStoreTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = { "plain", "compressed", "offHeap", "uncached" })
+  void testStoreRestore(String mode) {
+    SerializedItemStore<Pod> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class,
+        new KubernetesSerialization());
+    switch (mode) {
+      case "compressed":
+        store.withCompression();
+        break;
+      case "offHeap":
+        store.withCompression().withOffHeapStorage();
+        break;
+      case "uncached":
+        store.withHotCacheSize(0);
+        break;
+      default:
+        break;
+    }
+
+    Pod v1 = pod("1");
+    Pod v2 = pod("2");
+
+    assertThat(store.put(store.getKey(v1), v1)).isNull();
+    assertThat(store.getEncodedSize()).isPositive();
+    Pod restored = store.get("ns/name");
+    assertThat(restored).isNotSameAs(v1);
+    assertThat(restored.getMetadata().getLabels()).isEqualTo(v1.getMetadata().getLabels());
+    assertThat(restored.getSpec().getContainers().get(0).getImage()).isEqualTo("image");
+
+    assertThat(resourceVersion(store.put("ns/name", v2))).isEqualTo("1");
+    assertThat(resourceVersion(store.get("ns/name"))).isEqualTo("2");
+    assertThat(store.values().map(SerializedItemStoreTest::resourceVersion).collect(Collectors.toList()))
+        .containsExactly("2");
+    assertThat(store.keySet()).containsExactly("ns/name");
+    assertThat(store.size()).isEqualTo(1);
+
+    assertThat(resourceVersion(store.remove("ns/name"))).isEqualTo("2");
+    assertThat(store.get("ns/name")).isNull();
+    assertThat(store.getEncodedSize()).isZero();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 0, 1, 100, 100_000 })
+  void testDeflateInflate(int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) (i % 7);
+    }
+
+    assertThat(SerializedItemStore.inflate(SerializedItemStore.deflate(bytes))).isEqualTo(bytes);
+  }
+
+  private static String resourceVersion(Pod pod) {
+    return pod.getMetadata().getResourceVersion();
+  }
+
+  private static Pod pod(String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName("name").withNamespace("ns").withResourceVersion(resourceVersion)
+        .addToLabels("app", "test").endMetadata().withNewSpec().addNewContainer().withName("c").withImage("image")
+        .endContainer().endSpec().build();
+  }
+
+}
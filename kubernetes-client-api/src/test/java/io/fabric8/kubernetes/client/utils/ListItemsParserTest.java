@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListItemsParserTest {
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @Test
+  void shouldParseItemsAcrossChunks() throws IOException {
+    // Given
+    PodList podList = new PodListBuilder()
+        .withNewMetadata().withResourceVersion("1000").withContinue("next").endMetadata()
+        .addToItems(new PodBuilder().withNewMetadata().withName("pod1").addToLabels("items", "[]").endMetadata().build())
+        .addToItems(new PodBuilder().withNewMetadata().withName("pod2").endMetadata().withNewSpec()
+            .addNewContainer().withName("metadata").endContainer().endSpec().build())
+        .build();
+    byte[] bytes = serialization.asJson(podList).getBytes(StandardCharsets.UTF_8);
+    List<Pod> pods = new ArrayList<>();
+    ListItemsParser<Pod> parser = new ListItemsParser<>(serialization, Pod.class, pods::add);
+
+    // When
+    for (int i = 0; i < bytes.length; i += 7) {
+      parser.feed(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+    }
+    ListMeta listMeta = parser.end();
+
+    // Then
+    assertThat(pods).containsExactlyElementsOf(podList.getItems());
+    assertThat(parser.getCount()).isEqualTo(2);
+    assertThat(listMeta.getResourceVersion()).isEqualTo("1000");
+    assertThat(listMeta.getContinue()).isEqualTo("next");
+  }
+
+  @Test
+  void shouldHandleEmptyList() throws IOException {
+    // Given
+    List<Pod> pods = new ArrayList<>();
+    ListItemsParser<Pod> parser = new ListItemsParser<>(serialization, Pod.class, pods::add);
+
+    // When
+    parser.feed(ByteBuffer.wrap("{\"kind\":\"PodList\",\"items\":[],\"metadata\":{\"resourceVersion\":\"5\"}}"
+        .getBytes(StandardCharsets.UTF_8)));
+    ListMeta listMeta = parser.end();
+
+    // Then
+    assertThat(pods).isEmpty();
+    assertThat(listMeta.getResourceVersion()).isEqualTo("5");
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonParserTest {
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @Test
+  void shouldParseAcrossChunks() throws IOException {
+    // Given
+    PodList podList = new PodListBuilder()
+        .withNewMetadata().withResourceVersion("1000").endMetadata()
+        .addToItems(new PodBuilder().withNewMetadata().withName("pod1").addToLabels("number", "1.5e3").endMetadata().build())
+        .addToItems(new PodBuilder().withNewMetadata().withName("pod\u00e9").endMetadata().withNewSpec()
+            .withActiveDeadlineSeconds(12345678901L).endSpec().build())
+        .build();
+    byte[] bytes = ("  " + serialization.asJson(podList)).getBytes(StandardCharsets.UTF_8);
+    StreamingJsonParser<PodList> parser = new StreamingJsonParser<>(serialization, new TypeReference<PodList>() {
+    });
+
+    // When
+    for (int i = 0; i < bytes.length; i += 3) {
+      parser.feed(ByteBuffer.wrap(bytes, i, Math.min(3, bytes.length - i)));
+    }
+    PodList result = parser.end();
+
+    // Then
+    assertThat(result).isEqualTo(podList);
+  }
+
+  @Test
+  void shouldBindItemsBeforeTheEnd() throws IOException {
+    // Given
+    PodList podList = new PodListBuilder()
+        .withNewMetadata().withResourceVersion("1000").endMetadata()
+        .addToItems(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build())
+        .addToItems(new PodBuilder().withNewMetadata().withName("pod2").endMetadata().build())
+        .build();
+    String json = serialization.asJson(podList);
+    int split = json.indexOf("pod2");
+    StreamingJsonParser<PodList> parser = new StreamingJsonParser<>(serialization, new TypeReference<PodList>() {
+    });
+
+    // When
+    parser.feed(ByteBuffer.wrap(json.substring(0, split).getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(parser.getCount()).isEqualTo(1);
+    parser.feed(ByteBuffer.wrap(json.substring(split).getBytes(StandardCharsets.UTF_8)));
+    PodList result = parser.end();
+    assertThat(parser.getCount()).isEqualTo(2);
+    assertThat(result).isEqualTo(podList);
+  }
+
+  @Test
+  void shouldResolveKubernetesResourceType() throws IOException {
+    // Given
+    StreamingJsonParser<KubernetesResource> parser = new StreamingJsonParser<>(serialization,
+        new TypeReference<KubernetesResource>() {
+        });
+
+    // When
+    parser.feed(ByteBuffer.wrap("{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\",\"data\":{\"a\":\"b\"}}"
+        .getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(parser.end()).isInstanceOf(ConfigMap.class);
+  }
+
+  @Test
+  void shouldFallBackForNonJson() throws IOException {
+    // Given
+    ConfigMap configMap = new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata().addToData("a", "b").build();
+    StreamingJsonParser<ConfigMap> parser = new StreamingJsonParser<>(serialization, new TypeReference<ConfigMap>() {
+    });
+
+    // When
+    parser.feed(ByteBuffer.wrap(serialization.asYaml(configMap).getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(parser.end()).isEqualTo(configMap);
+  }
+
+  @Test
+  void shouldHandleEmptyContent() throws IOException {
+    // Given
+    StreamingJsonParser<ConfigMap> parser = new StreamingJsonParser<>(serialization, new TypeReference<ConfigMap>() {
+    });
+
+    // When
+    parser.feed(ByteBuffer.wrap(" \n".getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(parser.end()).isNull();
+  }
+
+}
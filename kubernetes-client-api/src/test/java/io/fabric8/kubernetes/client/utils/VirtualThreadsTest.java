@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.KubernetesClientBuilder.ExecutorSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+  @Test
+  void executorSupplierRunsTasksOnVirtualThreads() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    ExecutorSupplier supplier = VirtualThreads.EXECUTOR_SUPPLIER;
+    Executor executor = supplier.get();
+    try {
+      CompletableFuture<Boolean> virtual = CompletableFuture.supplyAsync(
+          () -> VirtualThreads.isVirtual(Thread.currentThread()), executor);
+
+      assertThat(virtual.get(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(VirtualThreads.isVirtual(supplier.getDedicatedThreadFactory().newThread(() -> {
+      }))).isTrue();
+    } finally {
+      supplier.onClose(executor);
+    }
+    assertThat(((ExecutorService) executor).isShutdown()).isTrue();
+  }
+
+  @Test
+  void platformThreadIsNotVirtual() {
+    assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+  }
+
+  @Test
+  void unsupportedRuntimeFails() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    assertThatThrownBy(VirtualThreads::newThreadPerTaskExecutor).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchEventDeserializerTest {
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @Test
+  void shouldBindObjectToExpectedType() {
+    WatchEvent event = unmarshal(
+        "{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod\"}}}",
+        GenericKubernetesResource.class);
+
+    assertThat(event.getType()).isEqualTo("ADDED");
+    assertThat(event.getObject()).isInstanceOf(GenericKubernetesResource.class);
+    assertThat(((GenericKubernetesResource) event.getObject()).getMetadata().getName()).isEqualTo("pod");
+  }
+
+  @Test
+  void shouldHandleObjectBeforeType() {
+    WatchEvent event = unmarshal(
+        "{\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod\"}},\"type\":\"MODIFIED\"}",
+        Pod.class);
+
+    assertThat(event.getType()).isEqualTo("MODIFIED");
+    assertThat(event.getObject()).isInstanceOf(Pod.class);
+  }
+
+  @Test
+  void shouldBindErrorToStatus() {
+    WatchEvent event = unmarshal(
+        "{\"type\":\"ERROR\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Status\",\"code\":410}}",
+        Pod.class);
+
+    assertThat(event.getObject()).isInstanceOf(Status.class);
+    assertThat(((Status) event.getObject()).getCode()).isEqualTo(410);
+  }
+
+  private WatchEvent unmarshal(String json, Class<? extends KubernetesResource> type) {
+    byte[] bytes = ("  " + json).getBytes(StandardCharsets.UTF_8);
+    return serialization.unmarshalWatchEvent(bytes, 2, bytes.length - 2, type);
+  }
+
+}
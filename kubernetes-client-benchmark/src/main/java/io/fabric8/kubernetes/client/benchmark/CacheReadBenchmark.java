@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import io.fabric8.kubernetes.client.informers.impl.cache.ConcurrentCacheImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures index read throughput of the informer cache while a single writer, standing in for the
+ * Reflector, continuously applies watch events.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class CacheReadBenchmark {
+
+  private static final int NAMESPACES = 50;
+
+  @Param({ "synchronized", "lockFree" })
+  public String cacheType;
+
+  @Param({ "50000" })
+  public int size;
+
+  private CacheImpl<Pod> cache;
+  private Thread writer;
+  private volatile boolean running;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    cache = "lockFree".equals(cacheType) ? new ConcurrentCacheImpl<>() : new CacheImpl<>();
+    for (int i = 0; i < size; i++) {
+      cache.put(pod(i, 0));
+    }
+    running = true;
+    writer = new Thread(() -> {
+      long version = 1;
+      while (running) {
+        // churn through the pods as modify events
+        cache.put(pod(ThreadLocalRandom.current().nextInt(size), version++));
+      }
+    }, "cache-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    running = false;
+    writer.join();
+  }
+
+  private static Pod pod(int i, long version) {
+    return new PodBuilder().withNewMetadata()
+        .withNamespace("namespace-" + (i % NAMESPACES))
+        .withName("pod-" + i)
+        .withResourceVersion(String.valueOf(version))
+        .endMetadata()
+        .build();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(4)
+  public void byIndex(Blackhole bh) {
+    bh.consume(cache.byIndex(Cache.NAMESPACE_INDEX, "namespace-" + ThreadLocalRandom.current().nextInt(NAMESPACES)));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(4)
+  public void getByKey(Blackhole bh) {
+    int i = ThreadLocalRandom.current().nextInt(size);
+    bh.consume(cache.getByKey("namespace-" + (i % NAMESPACES) + "/pod-" + i));
+  }
+
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.ReducedStateItemStore;
+import io.fabric8.kubernetes.client.informers.cache.SerializedItemStore;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the heap retained by, and the access latency of, the {@link ItemStore} implementations.
+ * <p>
+ * The retainedBytes counter of the list benchmark is the heap reachable from the store, excluding the shared
+ * serialization, as walked by JOL - the off-heap buffers are not included. Add -prof gc to see the allocation cost of
+ * each access.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ItemStoreBenchmark {
+
+  private static final int NAMESPACES = 50;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Heap {
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void setup(ItemStoreBenchmark benchmark) {
+      retainedBytes = benchmark.retainedBytes;
+    }
+  }
+
+  @Param({ "basic", "reduced", "serialized", "compressed", "offHeap", "compressedOffHeap" })
+  public String storeType;
+
+  @Param({ "50000" })
+  public int size;
+
+  private ItemStore<Pod> store;
+  private long retainedBytes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    KubernetesSerialization serialization = new KubernetesSerialization();
+    switch (storeType) {
+      case "basic":
+        store = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        break;
+      case "reduced":
+        store = new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE, Pod.class, serialization,
+            "metadata.labels", "spec.nodeName");
+        break;
+      case "serialized":
+        store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class, serialization);
+        break;
+      case "compressed":
+        store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class, serialization).withCompression();
+        break;
+      case "offHeap":
+        store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class, serialization).withOffHeapStorage();
+        break;
+      case "compressedOffHeap":
+        store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class, serialization).withCompression()
+            .withOffHeapStorage();
+        break;
+      default:
+        throw new IllegalArgumentException(storeType);
+    }
+    for (int i = 0; i < size; i++) {
+      Pod pod = pod(i);
+      store.put(store.getKey(pod), pod);
+    }
+    retainedBytes = GraphLayout.parseInstance(store).subtract(GraphLayout.parseInstance(serialization)).totalSize();
+  }
+
+  private static Pod pod(int i) {
+    return new PodBuilder().withNewMetadata()
+        .withNamespace("namespace-" + (i % NAMESPACES))
+        .withName("pod-" + i)
+        .withUid("00000000-0000-0000-0000-" + String.format("%012d", i))
+        .withResourceVersion(String.valueOf(i))
+        .addToLabels("app", "app-" + (i % 100))
+        .addToLabels("pod-template-hash", Integer.toHexString(i))
+        .addNewOwnerReference().withApiVersion("apps/v1").withKind("ReplicaSet").withName("rs-" + (i % 100))
+        .withUid("11111111-0000-0000-0000-" + String.format("%012d", i % 100)).withController(true).endOwnerReference()
+        .endMetadata()
+        .withNewSpec()
+        .withNodeName("node-" + (i % 200))
+        .addNewContainer().withName("main").withImage("registry.example.com/app:1.0")
+        .addNewEnv().withName("POD_NAME").withValue("pod-" + i).endEnv()
+        .addNewPort().withContainerPort(8080).withProtocol("TCP").endPort()
+        .withNewResources().addToRequests("cpu", new Quantity("100m")).endResources()
+        .endContainer()
+        .endSpec()
+        .withNewStatus().withPhase("Running").withPodIP("10.0." + (i / 256 % 256) + "." + (i % 256)).endStatus()
+        .build();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void get(Blackhole bh) {
+    int i = ThreadLocalRandom.current().nextInt(size);
+    bh.consume(store.get("namespace-" + (i % NAMESPACES) + "/pod-" + i));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void list(Blackhole bh, Heap heap) {
+    store.values().forEach(bh::consume);
+  }
+
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserializing a mixed {@link KubernetesList} with the streaming KubernetesDeserializer, with reading each
+ * item into a tree, resolving the kind, then converting - as was done prior to the streaming implementation.
+ * <p>
+ * The kindLast variant moves apiVersion and kind to the end of each item, which is the worst case for the streaming
+ * implementation as the whole item must then be buffered.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class KubernetesDeserializerBenchmark {
+
+  @Param({ "kindFirst", "kindLast" })
+  public String order;
+
+  @Param({ "100" })
+  public int size;
+
+  private KubernetesSerialization serialization;
+  private ObjectMapper mapper;
+  private byte[] bytes;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    serialization = new KubernetesSerialization();
+    mapper = new ObjectMapper();
+    List<HasMetadata> items = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      String name = "resource-" + i;
+      switch (i % 4) {
+        case 0:
+          items.add(new PodBuilder().withNewMetadata().withName(name).addToLabels("app", "benchmark").endMetadata()
+              .withNewSpec().addNewContainer().withName("main").withImage("image:1.0").endContainer().endSpec().build());
+          break;
+        case 1:
+          items.add(new ConfigMapBuilder().withNewMetadata().withName(name).endMetadata()
+              .addToData("key", "value").addToData("other", "a longer configuration value").build());
+          break;
+        case 2:
+          items.add(new ServiceBuilder().withNewMetadata().withName(name).endMetadata().withNewSpec()
+              .addToSelector("app", "benchmark").addNewPort().withPort(80).endPort().endSpec().build());
+          break;
+        default:
+          items.add(new DeploymentBuilder().withNewMetadata().withName(name).endMetadata().withNewSpec()
+              .withReplicas(3).withNewSelector().addToMatchLabels("app", "benchmark").endSelector().withNewTemplate()
+              .withNewMetadata().addToLabels("app", "benchmark").endMetadata().withNewSpec().addNewContainer()
+              .withName("main").withImage("image:1.0").endContainer().endSpec().endTemplate().endSpec().build());
+          break;
+      }
+    }
+    KubernetesList list = new KubernetesListBuilder().withItems(items).build();
+    JsonNode tree = mapper.readTree(serialization.asJson(list));
+    if ("kindLast".equals(order)) {
+      for (JsonNode item : tree.get("items")) {
+        ObjectNode object = (ObjectNode) item;
+        JsonNode apiVersion = object.remove("apiVersion");
+        JsonNode kind = object.remove("kind");
+        object.set("apiVersion", apiVersion);
+        object.set("kind", kind);
+      }
+    }
+    bytes = mapper.writeValueAsBytes(tree);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public KubernetesResource streaming() {
+    return serialization.unmarshal(bytes, 0, bytes.length, KubernetesResource.class);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public KubernetesResource tree() throws IOException {
+    ObjectNode node = (ObjectNode) mapper.readTree(bytes);
+    ArrayNode items = (ArrayNode) node.remove("items");
+    KubernetesList list = mapper.treeToValue(node, KubernetesList.class);
+    List<HasMetadata> resources = new ArrayList<>();
+    for (Iterator<JsonNode> iter = items.elements(); iter.hasNext();) {
+      JsonNode item = iter.next();
+      Class<? extends KubernetesResource> type = serialization.getRegisteredKubernetesResource(
+          item.get("apiVersion").textValue(), item.get("kind").textValue());
+      resources.add((HasMetadata) serialization.convertValue(item, type));
+    }
+    list.setItems(resources);
+    return list;
+  }
+
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.client.KubernetesClientBuilder.ExecutorSupplier;
+import io.fabric8.kubernetes.client.impl.BaseClient;
+import io.fabric8.kubernetes.client.utils.VirtualThreads;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default cached thread pool with virtual threads ({@code KubernetesClientBuilder.withVirtualThreads()})
+ * when many client tasks make blocking calls, such as a get from an informer handler.
+ * <p>
+ * Each task parks on a response that is completed after a fixed latency, as OperationSupport.waitForResult does for
+ * a get. The gets counter gives the throughput, peakThreads the peak number of platform threads. The virtual mode
+ * requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+  private static final long LATENCY_MILLIS = 20;
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Gets {
+    public long gets;
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Threads {
+    public long peakThreads;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      peakThreads = 0;
+    }
+  }
+
+  @Param({ "platform", "virtual" })
+  public String mode;
+
+  @Param({ "10000" })
+  public int concurrentGets;
+
+  private ExecutorSupplier executorSupplier;
+  private Executor executor;
+  private ScheduledExecutorService responses;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if ("virtual".equals(mode)) {
+      if (!VirtualThreads.isSupported()) {
+        throw new IllegalStateException("Virtual threads require Java 21 or later");
+      }
+      executorSupplier = VirtualThreads.EXECUTOR_SUPPLIER;
+    } else {
+      executorSupplier = BaseClient.DEFAULT_EXECUTOR_SUPPLIER;
+    }
+    executor = executorSupplier.get();
+    responses = Executors.newScheduledThreadPool(2);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executorSupplier.onClose(executor);
+    responses.shutdownNow();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public void blockingGets(Gets gets, Threads threads) throws InterruptedException, ExecutionException {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    threadMXBean.resetPeakThreadCount();
+    CompletableFuture<?>[] futures = new CompletableFuture[concurrentGets];
+    for (int i = 0; i < concurrentGets; i++) {
+      futures[i] = CompletableFuture.runAsync(this::blockingGet, executor);
+    }
+    CompletableFuture.allOf(futures).get();
+    gets.gets += concurrentGets;
+    threads.peakThreads = Math.max(threads.peakThreads, threadMXBean.getPeakThreadCount());
+  }
+
+  private void blockingGet() {
+    CompletableFuture<String> response = new CompletableFuture<>();
+    responses.schedule(() -> response.complete("{}"), LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    try {
+      response.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
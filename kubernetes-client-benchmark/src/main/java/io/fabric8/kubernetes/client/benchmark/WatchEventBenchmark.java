@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserializing a custom resource watch event by kind resolution and conversion, as was done prior
+ * to {@link KubernetesSerialization#unmarshalWatchEvent(byte[], int, int, Class)}, with the single pass typed
+ * deserialization.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class WatchEventBenchmark {
+
+  public static class WidgetSpec {
+    public String size;
+    public List<String> parts = new ArrayList<>();
+    public Map<String, String> settings = new HashMap<>();
+  }
+
+  @Group("benchmark.fabric8.io")
+  @Version("v1")
+  public static class Widget extends CustomResource<WidgetSpec, Void> {
+  }
+
+  private KubernetesSerialization serialization;
+  private String message;
+  private byte[] bytes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    serialization = new KubernetesSerialization();
+    Widget widget = new Widget();
+    widget.setMetadata(new ObjectMetaBuilder().withName("widget").withNamespace("default").withResourceVersion("12345")
+        .addToLabels("app", "benchmark").addToAnnotations("note", "a watch event for a custom resource").build());
+    WidgetSpec spec = new WidgetSpec();
+    spec.size = "large";
+    for (int i = 0; i < 20; i++) {
+      spec.parts.add("part-" + i);
+      spec.settings.put("setting-" + i, "value-" + i);
+    }
+    widget.setSpec(spec);
+    // the api server writes the type first
+    message = "{\"type\":\"MODIFIED\",\"object\":" + serialization.asJson(widget) + "}";
+    bytes = message.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public KubernetesResource kindResolutionAndConversion() {
+    WatchEvent event = serialization.unmarshal(message, WatchEvent.class);
+    return serialization.convertValue(event.getObject(), Widget.class);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public KubernetesResource singlePass() {
+    return serialization.unmarshalWatchEvent(bytes, 0, bytes.length, Widget.class).getObject();
+  }
+
+}
@@ -16,10 +16,7 @@
 package io.fabric8.kubernetes.client.dsl.internal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusDetails;
@@ -30,8 +27,8 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.StandardHttpHeaders;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
-import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
@@ -41,6 +38,7 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -51,6 +49,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
 
@@ -173,6 +172,17 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     }
   }
 
+  /**
+   * Modify the options that will be used for any subsequent reconnect.
+   * <p>
+   * This is done under the same lock as the reconnect, so the options are never read while partially modified.
+   *
+   * @param modifier to modify the options
+   */
+  public synchronized void modifyListOptions(Consumer<ListOptions> modifier) {
+    modifier.accept(listOptions);
+  }
+
   public void setWatchEndCheckMs(int watchEndCheckMs) {
     this.watchEndCheckMs = watchEndCheckMs;
   }
@@ -309,6 +319,10 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     Map<String, String> headers = new HashMap<>();
     headers.put("Origin", origin);
+    String accept = baseOperation.getListAccept();
+    if (accept != null) {
+      headers.put(StandardHttpHeaders.ACCEPT, accept);
+    }
 
     logger.debug("Watching {}...", url);
 
@@ -325,35 +339,34 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     cancelReconnect();
   }
 
-  private WatchEvent contextAwareWatchEventDeserializer(String messageSource)
+  private WatchEvent contextAwareWatchEventDeserializer(byte[] bytes, int offset, int length)
       throws JsonProcessingException {
-    KubernetesSerialization kubernetesSerialization = this.baseOperation.getKubernetesSerialization();
     try {
-      return kubernetesSerialization.unmarshal(messageSource, WatchEvent.class);
-    } catch (Exception ex1) {
-      // TODO: this is not necessarily correct - it will force the object to be the expected type
-      // even though it is not (for example Status could be converted to the typed result)
-      JsonNode json = kubernetesSerialization.unmarshal(messageSource, JsonNode.class);
-      JsonNode objectJson = null;
-      if (json instanceof ObjectNode && json.has("object")) {
-        objectJson = ((ObjectNode) json).remove("object");
+      return this.baseOperation.getKubernetesSerialization().unmarshalWatchEvent(bytes, offset, length,
+          baseOperation.getType());
+    } catch (KubernetesClientException e) {
+      if (e.getCause() instanceof JsonProcessingException) {
+        throw (JsonProcessingException) e.getCause();
       }
-
-      WatchEvent watchEvent = kubernetesSerialization.convertValue(json, WatchEvent.class);
-      KubernetesResource object = kubernetesSerialization.convertValue(objectJson, baseOperation.getType());
-
-      watchEvent.setObject(object);
-      return watchEvent;
+      throw e;
     }
   }
 
   protected void onMessage(String message, WatchRequestState state) {
+    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+    onMessage(bytes, 0, bytes.length, state);
+  }
+
+  /**
+   * Process a single watch event. The bytes are only valid for the duration of this call.
+   */
+  protected void onMessage(byte[] bytes, int offset, int length, WatchRequestState state) {
     endErrors.clear();
     if (state.closed.get() || forceClosed.get()) {
       return;
     }
     try {
-      WatchEvent event = contextAwareWatchEventDeserializer(message);
+      WatchEvent event = contextAwareWatchEventDeserializer(bytes, offset, length);
       Object object = event.getObject();
       Action action = Action.valueOf(event.getType());
       if (action == Action.ERROR) {
@@ -370,18 +383,20 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
         updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
         eventReceived(action, hasMetadata);
       } else {
+        final String message = new String(bytes, offset, length, StandardCharsets.UTF_8);
         final String msg = String.format("Invalid object received: %s", message);
         close(new WatcherException(msg, null, message));
       }
     } catch (ClassCastException e) {
       final String msg = "Received wrong type of object for watch";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, new String(bytes, offset, length, StandardCharsets.UTF_8)));
     } catch (JsonProcessingException e) {
+      final String message = new String(bytes, offset, length, StandardCharsets.UTF_8);
       final String msg = "Couldn't deserialize watch event: " + message;
       close(new WatcherException(msg, e, message));
     } catch (Exception e) {
       final String msg = "Unexpected exception processing watch event";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, new String(bytes, offset, length, StandardCharsets.UTF_8)));
     }
   }
 
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.AsyncOperation;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Non-blocking operations built on the request handling of a {@link BaseOperation}.
+ * <p>
+ * Requests are issued from the calling thread and the results are processed by the http client, only deletes
+ * requiring multiple requests or waiting for the deletion are run on the client executor.
+ */
+class AsyncOperationImpl<T extends HasMetadata, L extends KubernetesResourceList<T>> implements AsyncOperation<T, L> {
+
+  private final BaseOperation<T, L, ?> operation;
+
+  AsyncOperationImpl(BaseOperation<T, L, ?> operation) {
+    this.operation = operation;
+  }
+
+  @Override
+  public CompletableFuture<T> get() {
+    return submit("get", () -> {
+      requireName();
+      return operation.handleGetAsync(operation.getCompleteResourceUrl(), operation.getType());
+    }).thenApply(answer -> {
+      operation.updateApiVersion(answer);
+      return answer;
+    }).exceptionally(ifStatus(HttpURLConnection.HTTP_NOT_FOUND, t -> null));
+  }
+
+  @Override
+  public CompletableFuture<T> create() {
+    return submit("create", () -> {
+      T item = operation.getNonNullItem();
+      operation.updateApiVersion(item);
+      return operation.handleCreateAsync(item, operation.getType());
+    });
+  }
+
+  @Override
+  public CompletableFuture<T> patch(PatchContext patchContext, String patch) {
+    return submit("patch", () -> {
+      // the current item is only needed to determine the name and namespace
+      T current = operation.getItem();
+      if (current == null) {
+        requireName();
+      }
+      return operation.handlePatchAsync(patchContext, current,
+          operation.getKubernetesSerialization().convertToJson(patch), operation.getType());
+    });
+  }
+
+  @Override
+  public CompletableFuture<T> serverSideApply() {
+    return submit("patch", () -> {
+      T item = operation.getNonNullItem();
+      operation.updateApiVersion(item);
+      return operation.handlePatchAsync(PatchContext.of(PatchType.SERVER_SIDE_APPLY), item,
+          operation.getKubernetesSerialization().asJson(item), operation.getType());
+    });
+  }
+
+  @Override
+  public CompletableFuture<List<StatusDetails>> delete() {
+    Executor executor = operation.getOperationContext().getExecutor();
+    CompletableFuture<List<StatusDetails>> deleted;
+    if (operation.isSingleRequestDelete()) {
+      boolean named = Utils.isNotNullOrEmpty(operation.getName());
+      deleted = submit("delete", () -> operation.handleDeleteAsync(operation.getDeleteUrl(),
+          operation.getGracePeriodSeconds(), operation.getPropagationPolicy(), operation.getResourceVersion()))
+          .thenApply(result -> {
+            List<StatusDetails> details = new ArrayList<>();
+            BaseOperation.toStatusDetails(result, details);
+            return details;
+          })
+          .<CompletableFuture<List<StatusDetails>>> handle((details, t) -> {
+            if (t == null) {
+              return CompletableFuture.completedFuture(details);
+            }
+            int code = statusCode(t);
+            if (named && code == HttpURLConnection.HTTP_NOT_FOUND) {
+              return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            if (!named && code == HttpURLConnection.HTTP_BAD_METHOD) {
+              // collection delete may not be supported, fall-back to single item deletes
+              return CompletableFuture.supplyAsync(operation::deleteAll, executor);
+            }
+            return failed(t);
+          })
+          .thenCompose(Function.identity());
+    } else {
+      deleted = CompletableFuture.supplyAsync(operation::deleteAll, executor);
+    }
+    if (operation.getOperationContext().getTimeout() > 0) {
+      return deleted.thenApplyAsync(details -> {
+        BaseOperation.waitForDelete(details, operation.getOperationContext(), operation);
+        return details;
+      }, executor);
+    }
+    return deleted;
+  }
+
+  @Override
+  public CompletableFuture<L> list() {
+    return list(new ListOptions());
+  }
+
+  @Override
+  public CompletableFuture<L> list(ListOptions listOptions) {
+    return submit("list", () -> operation.submitList(listOptions));
+  }
+
+  @Override
+  public AsyncResource<T> withName(String name) {
+    return operation.withName(name).async();
+  }
+
+  @Override
+  public AsyncResource<T> resource(T item) {
+    return operation.resource(item).async();
+  }
+
+  private void requireName() {
+    if (Utils.isNullOrEmpty(operation.getName())) {
+      throw new KubernetesClientException("name not specified for an operation requiring one.");
+    }
+  }
+
+  /**
+   * Issue the request, reporting any failure to build it through the returned future
+   */
+  private <V> CompletableFuture<V> submit(String operationType, Callable<CompletableFuture<V>> request) {
+    try {
+      return request.call();
+    } catch (Exception e) {
+      return failed(KubernetesClientException.launderThrowable(operation.forOperationType(operationType), e));
+    }
+  }
+
+  private static <V> Function<Throwable, V> ifStatus(int code, Function<Throwable, V> fallback) {
+    return t -> {
+      if (statusCode(t) == code) {
+        return fallback.apply(t);
+      }
+      throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+    };
+  }
+
+  private static int statusCode(Throwable t) {
+    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    return cause instanceof KubernetesClientException ? ((KubernetesClientException) cause).getCode() : -1;
+  }
+
+  private static <V> CompletableFuture<V> failed(Throwable t) {
+    CompletableFuture<V> result = new CompletableFuture<>();
+    result.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+    return result;
+  }
+
+}
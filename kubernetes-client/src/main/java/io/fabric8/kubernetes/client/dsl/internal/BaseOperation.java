@@ -24,13 +24,17 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.StatusDetailsBuilder;
+import io.fabric8.kubernetes.api.model.Table;
 import io.fabric8.kubernetes.api.model.autoscaling.v1.Scale;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentRollback;
 import io.fabric8.kubernetes.client.Client;
@@ -41,6 +45,7 @@ import io.fabric8.kubernetes.client.OperationInfo;
 import io.fabric8.kubernetes.client.ResourceNotFoundException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.AsyncOperation;
 import io.fabric8.kubernetes.client.dsl.FilterNested;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -50,8 +55,11 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.extension.ExtensibleResource;
 import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.StandardHttpHeaders;
+import io.fabric8.kubernetes.client.informers.MultiNamespaceSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.impl.DefaultMultiNamespaceSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import io.fabric8.kubernetes.client.readiness.Readiness;
@@ -73,6 +81,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -98,6 +107,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     ListerWatcher<T, L> {
 
   private static final String WATCH = "watch";
+  /**
+   * Not yet part of the generated {@link ListOptions}, may be supplied as an additional property
+   */
+  public static final String SEND_INITIAL_EVENTS = "sendInitialEvents";
   private static final String READ_ONLY_UPDATE_EXCEPTION_MESSAGE = "Cannot update read-only resources";
   private static final String READ_ONLY_EDIT_EXCEPTION_MESSAGE = "Cannot edit read-only resources";
 
@@ -397,7 +410,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   public CompletableFuture<L> submitList(ListOptions listOptions) {
     try {
       URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
-      HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(fetchListUrl);
+      HttpRequest.Builder requestBuilder = listRequestBuilder(fetchListUrl);
       Type refinedType = listType.equals(DefaultKubernetesResourceList.class)
           ? this.getKubernetesSerialization().constructParametricType(listType, type)
           : listType;
@@ -407,13 +420,65 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
           return refinedType;
         }
       };
-      CompletableFuture<L> futureAnswer = handleResponse(httpClient, requestBuilder, listTypeReference);
+      CompletableFuture<L> futureAnswer = handleStreamingResponse(httpClient, requestBuilder, listTypeReference);
       return futureAnswer.thenApply(updateApiVersion());
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
     }
   }
 
+  @Override
+  public CompletableFuture<ListMeta> submitList(ListOptions listOptions, Consumer<T> itemConsumer) {
+    try {
+      URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
+      HttpRequest.Builder requestBuilder = listRequestBuilder(fetchListUrl);
+      return handleListItemsResponse(httpClient, requestBuilder, getType(), item -> {
+        updateApiVersion(item);
+        itemConsumer.accept(item);
+      });
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  private HttpRequest.Builder listRequestBuilder(URL url) {
+    HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(url);
+    String accept = getListAccept();
+    if (accept != null) {
+      requestBuilder.setHeader(StandardHttpHeaders.ACCEPT, accept);
+    }
+    return requestBuilder;
+  }
+
+  /**
+   * The media types to accept for list and watch requests
+   *
+   * @return the Accept header value, or null for the default
+   */
+  protected String getListAccept() {
+    return null;
+  }
+
+  @Override
+  public Table listAsTable(ListOptions listOptions, boolean includeMetadata) {
+    try {
+      URL fetchListUrl = new URLBuilder(fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null)))
+          .addQueryParameter("includeObject", includeMetadata ? "Metadata" : "None")
+          .build();
+      HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(fetchListUrl)
+          .setHeader(StandardHttpHeaders.ACCEPT, Table.ACCEPT);
+      return waitForResult(handleStreamingResponse(httpClient, requestBuilder, new TypeReference<Table>() {
+      }));
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  @Override
+  public FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly() {
+    return new MetadataOnlyOperationsImpl(context, isResourceNamespaced());
+  }
+
   @Override
   public L list(ListOptions listOptions) {
     try {
@@ -480,28 +545,40 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * @return true if the delete can be issued as a single request, otherwise each applicable namespace must be
+   *         deleted
+   */
+  boolean isSingleRequestDelete() {
+    return Utils.isNotNullOrEmpty(name) || Utils.isNotNullOrEmpty(namespace) || !isResourceNamespaced();
+  }
+
+  URL getDeleteUrl() throws MalformedURLException {
+    URL resourceURLForWriteOperation = getResourceURLForWriteOperation(getResourceUrl());
+    ListOptions options = new ListOptions();
+    boolean useOptions = false;
+    if (Utils.isNullOrEmpty(name)) {
+      String fieldQueryParam = context.getFieldQueryParam();
+      if (fieldQueryParam != null) {
+        options.setFieldSelector(fieldQueryParam);
+        useOptions = true;
+      }
+      String labelQueryParam = context.getLabelQueryParam();
+      if (labelQueryParam != null) {
+        options.setLabelSelector(labelQueryParam);
+        useOptions = true;
+      }
+    }
+    if (useOptions) {
+      resourceURLForWriteOperation = appendListOptionParams(resourceURLForWriteOperation, options);
+    }
+    return resourceURLForWriteOperation;
+  }
+
   protected List<StatusDetails> deleteAll() {
-    if (Utils.isNotNullOrEmpty(name) || Utils.isNotNullOrEmpty(namespace) || !isResourceNamespaced()) {
+    if (isSingleRequestDelete()) {
       try {
-        URL resourceURLForWriteOperation = getResourceURLForWriteOperation(getResourceUrl());
-        ListOptions options = new ListOptions();
-        boolean useOptions = false;
-        if (Utils.isNullOrEmpty(name)) {
-          String fieldQueryParam = context.getFieldQueryParam();
-          if (fieldQueryParam != null) {
-            options.setFieldSelector(fieldQueryParam);
-            useOptions = true;
-          }
-          String labelQueryParam = context.getLabelQueryParam();
-          if (labelQueryParam != null) {
-            options.setLabelSelector(labelQueryParam);
-            useOptions = true;
-          }
-        }
-        if (useOptions) {
-          resourceURLForWriteOperation = appendListOptionParams(resourceURLForWriteOperation, options);
-        }
-        KubernetesResource result = handleDelete(resourceURLForWriteOperation, gracePeriodSeconds, propagationPolicy,
+        KubernetesResource result = handleDelete(getDeleteUrl(), gracePeriodSeconds, propagationPolicy,
             resourceVersion);
         ArrayList<StatusDetails> details = new ArrayList<>();
         toStatusDetails(result, details);
@@ -516,36 +593,46 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
             }
           } else if (ke.getCode() == HttpURLConnection.HTTP_BAD_METHOD) {
             // collection delete may not be supported, fall-back to single item delete
-            return list().getItems().stream().flatMap(i -> resource(i).delete().stream()).collect(Collectors.toList());
+            return flatten(bulk(list().getItems(), i -> resource(i).delete()));
           }
         }
         throw re;
       }
     }
     // if there is no name nor namespace and this is a namespaced resource, find each applicable namespace and issue a delete
-    Set<String> namespaces = list().getItems().stream().map(i -> i.getMetadata().getNamespace()).collect(Collectors.toSet());
-    return namespaces.stream().flatMap(n -> inNamespace(n).delete().stream()).collect(Collectors.toList());
+    List<String> namespaces = list().getItems().stream().map(i -> i.getMetadata().getNamespace()).distinct()
+        .collect(Collectors.toList());
+    return flatten(bulk(namespaces, n -> inNamespace(n).delete()));
   }
 
   @Override
   public boolean delete(List<T> items) {
     if (items != null) {
-      for (T toDelete : items) {
-        if (toDelete == null) {
-          continue;
-        }
+      bulk(items.stream().filter(Objects::nonNull).collect(Collectors.toList()), toDelete -> {
         try {
-          resource(toDelete).delete();
+          return resource(toDelete).delete();
         } catch (KubernetesClientException e) {
           if (e.getCode() != HttpURLConnection.HTTP_NOT_FOUND) {
             throw e;
           }
+          return null;
         }
-      }
+      });
     }
     return true;
   }
 
+  /**
+   * Issues a request per item, up to {@link Config#getBulkConcurrency()} at a time, see {@link BulkOperation}
+   */
+  private <I> List<List<StatusDetails>> bulk(List<I> items, Function<I, List<StatusDetails>> delete) {
+    return BulkOperation.run(context.getExecutor(), context.getConfig().getBulkConcurrency(), items, i -> 0, delete);
+  }
+
+  private static List<StatusDetails> flatten(List<List<StatusDetails>> details) {
+    return details.stream().filter(Objects::nonNull).flatMap(List::stream).collect(Collectors.toList());
+  }
+
   @Override
   public T patchStatus(T item) {
     throw new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE);
@@ -743,7 +830,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return answer;
   }
 
-  private URL getCompleteResourceUrl() throws MalformedURLException {
+  URL getCompleteResourceUrl() throws MalformedURLException {
     URL requestUrl = getNamespacedUrl(checkNamespace(item));
     if (name != null) {
       requestUrl = new URL(URLUtils.join(requestUrl.toString(), name));
@@ -756,6 +843,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return getItem();
   }
 
+  @Override
+  public AsyncOperation<T, L> async() {
+    return new AsyncOperationImpl<>(this);
+  }
+
   @Override
   public final T getItem() {
     return item;
@@ -896,7 +988,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     CompletableFuture<List<T>> future = new CompletableFuture<>();
 
     // create an informer that supplies the tester with events and empty list handling
-    SharedIndexInformer<T> informer = this.createInformer(0, Runnable::run);
+    SharedIndexInformer<T> informer = this.createInformer(0, Runnable::run, true);
 
     informer.initialState(Stream.empty());
 
@@ -997,10 +1089,55 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   @Override
   public SharedIndexInformer<T> runnableInformer(long resync) {
     // create the informer using the client executor
-    return createInformer(resync, context.getExecutor());
+    return createInformer(resync, context.getExecutor(), true);
+  }
+
+  @Override
+  public SharedIndexInformer<T> sharedRunnableInformer(long resync) {
+    List<Object> key = Arrays.asList(getType(), getAPIGroupName(), getAPIGroupVersion(), getResourceT(),
+        isResourceNamespaced() ? getNamespace() : null, getName(), context.getLabelQueryParam(),
+        context.getFieldQueryParam(), this.limit, resync);
+    SharedIndexInformer<T> result = context.getInformerRegistry().acquire(key,
+        () -> createInformer(resync, context.getExecutor(), false), resync);
+    if (indexers != null) {
+      // applied through the reference, as the shared informer may have been created by another caller
+      try {
+        result.addIndexers(indexers);
+      } catch (RuntimeException e) {
+        result.stop();
+        throw e;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public SharedIndexInformer<T> sharedInform(ResourceEventHandler<? super T> handler, long resync) {
+    SharedIndexInformer<T> result = sharedRunnableInformer(resync);
+    try {
+      if (handler != null) {
+        result.addEventHandler(handler);
+      }
+      result.run();
+    } catch (RuntimeException e) {
+      result.stop();
+      throw e;
+    }
+    return result;
+  }
+
+  @Override
+  public MultiNamespaceSharedIndexInformer<T> multiNamespaceInformer(Collection<String> namespaces, long resync) {
+    DefaultMultiNamespaceSharedIndexInformer<T, L> informer = new DefaultMultiNamespaceSharedIndexInformer<>(getType(),
+        namespace -> newInstance(context.withNamespace(namespace).withResourceVersion(null)).withLimit(this.limit),
+        namespaces, resync, context.getExecutor());
+    if (indexers != null) {
+      informer.addIndexers(indexers);
+    }
+    return informer;
   }
 
-  private DefaultSharedIndexInformer<T, L> createInformer(long resync, Executor executor) {
+  private DefaultSharedIndexInformer<T, L> createInformer(long resync, Executor executor, boolean withIndexers) {
     T i = getItem();
     if (Utils.isNotNullOrEmpty(getName()) && i != null) {
       checkName(i);
@@ -1009,7 +1146,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     // use the local context / namespace but without a resourceVersion
     DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(getType(),
         this.withResourceVersion(null).withLimit(this.limit), resync, executor);
-    if (indexers != null) {
+    if (withIndexers && indexers != null) {
       informer.addIndexers(indexers);
     }
     return informer;
@@ -1039,6 +1176,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       urlBuilder.addQueryParameter("resourceVersion", listOptions.getResourceVersion());
     }
 
+    if (listOptions.getResourceVersionMatch() != null) {
+      urlBuilder.addQueryParameter("resourceVersionMatch", listOptions.getResourceVersionMatch());
+    }
+
     if (listOptions.getTimeoutSeconds() != null) {
       urlBuilder.addQueryParameter("timeoutSeconds", listOptions.getTimeoutSeconds().toString());
     }
@@ -1047,6 +1188,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       urlBuilder.addQueryParameter("allowWatchBookmarks", listOptions.getAllowWatchBookmarks().toString());
     }
 
+    Object sendInitialEvents = listOptions.getAdditionalProperties().get(SEND_INITIAL_EVENTS);
+    if (sendInitialEvents != null) {
+      urlBuilder.addQueryParameter(SEND_INITIAL_EVENTS, sendInitialEvents.toString());
+    }
+
     if (listOptions.getWatch() != null) {
       urlBuilder.addQueryParameter(WATCH, listOptions.getWatch().toString());
     }
@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Applies an operation to each of a list of items using at most a given number of concurrent calls.
+ * <p>
+ * Items are grouped into phases, lower phases complete before higher ones start. Results are returned in the order
+ * of the items. Once an item fails no further items are started, the first failure is thrown once the calls in
+ * flight complete, with any other failures added as suppressed exceptions.
+ */
+final class BulkOperation {
+
+  private static final String NAMESPACE = "Namespace";
+  private static final String CUSTOM_RESOURCE_DEFINITION = "CustomResourceDefinition";
+  private static final String APIEXTENSIONS_GROUP = "apiextensions.k8s.io/";
+
+  private BulkOperation() {
+  }
+
+  /**
+   * Phase that creates Namespaces and CustomResourceDefinitions before the resources that may depend on them
+   */
+  static int dependenciesFirst(HasMetadata item) {
+    return isDependency(item) ? 0 : 1;
+  }
+
+  /**
+   * Phase that deletes Namespaces and CustomResourceDefinitions after the resources that may depend on them
+   */
+  static int dependenciesLast(HasMetadata item) {
+    return isDependency(item) ? 1 : 0;
+  }
+
+  private static boolean isDependency(HasMetadata item) {
+    if (item == null || item.getApiVersion() == null) {
+      return false;
+    }
+    return (NAMESPACE.equals(item.getKind()) && "v1".equals(item.getApiVersion()))
+        || (CUSTOM_RESOURCE_DEFINITION.equals(item.getKind()) && item.getApiVersion().startsWith(APIEXTENSIONS_GROUP));
+  }
+
+  static <T, R> List<R> run(Executor executor, int concurrency, List<T> items, ToIntFunction<? super T> phase,
+      Function<? super T, R> operation) {
+    if (items.isEmpty()) {
+      return Collections.emptyList();
+    }
+    int[] phases = items.stream().mapToInt(phase).toArray();
+    Object[] results = new Object[items.size()];
+    for (int current : Arrays.stream(phases).distinct().sorted().toArray()) {
+      List<Integer> indexes = new ArrayList<>();
+      for (int i = 0; i < phases.length; i++) {
+        if (phases[i] == current) {
+          indexes.add(i);
+        }
+      }
+      runPhase(executor, concurrency, indexes, i -> results[i] = operation.apply(items.get(i)));
+    }
+    @SuppressWarnings("unchecked")
+    List<R> result = (List<R>) Arrays.asList(results);
+    return result;
+  }
+
+  private static void runPhase(Executor executor, int concurrency, List<Integer> indexes,
+      IntConsumer task) {
+    if (concurrency <= 1 || indexes.size() == 1) {
+      indexes.forEach(task::accept);
+      return;
+    }
+    AtomicInteger next = new AtomicInteger();
+    AtomicBoolean stop = new AtomicBoolean();
+    List<RuntimeException> errors = Collections.synchronizedList(new ArrayList<>());
+    Runnable worker = () -> {
+      int i;
+      while (!stop.get() && (i = next.getAndIncrement()) < indexes.size()) {
+        try {
+          task.accept(indexes.get(i));
+        } catch (RuntimeException e) {
+          errors.add(e);
+          stop.set(true);
+        }
+      }
+    };
+    int workers = Math.min(concurrency, indexes.size());
+    List<CompletableFuture<Void>> futures = new ArrayList<>(workers - 1);
+    try {
+      for (int i = 1; i < workers; i++) {
+        futures.add(CompletableFuture.runAsync(worker, executor));
+      }
+    } catch (RejectedExecutionException e) {
+      // continue with the workers already started
+    }
+    // the calling thread takes part, so that progress does not depend on a free executor thread
+    worker.run();
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } catch (InterruptedException e) {
+      stop.set(true);
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      errors.add(KubernetesClientException.launderThrowable(e.getCause()));
+    }
+    if (!errors.isEmpty()) {
+      RuntimeException first = errors.get(0);
+      errors.subList(1, errors.size()).forEach(first::addSuppressed);
+      throw first;
+    }
+  }
+
+}
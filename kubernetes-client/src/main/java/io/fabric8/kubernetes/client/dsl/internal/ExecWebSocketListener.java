@@ -48,6 +48,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -139,7 +140,7 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   private final ExecListener listener;
 
   private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
-  private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+  private final ExecutorService executorService;
   private final SerialExecutor serialExecutor;
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
@@ -150,7 +151,17 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   }
 
   public ExecWebSocketListener(PodOperationContext context, Executor executor, KubernetesSerialization serialization) {
+    this(context, executor, null, serialization);
+  }
+
+  /**
+   * @param pumpThreadFactory the {@link ThreadFactory} for the thread pumping the input, null for the default
+   */
+  public ExecWebSocketListener(PodOperationContext context, Executor executor, ThreadFactory pumpThreadFactory,
+      KubernetesSerialization serialization) {
     this.serialization = serialization;
+    this.executorService = pumpThreadFactory == null ? Executors.newSingleThreadExecutor()
+        : Executors.newSingleThreadExecutor(pumpThreadFactory);
     this.listener = context.getExecListener();
 
     Integer bufferSize = context.getBufferSize();
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits a stream of {@link ByteBuffer}s into newline delimited lines.
+ * <p>
+ * Lines wholly contained in a heap buffer are passed to the consumer as a range of the backing array
+ * without copying. Only content spanning buffers, or from direct buffers, is copied into a reusable
+ * pending array.
+ */
+class LineFramer {
+
+  interface LineConsumer {
+
+    /**
+     * Consume a line, not including the newline. The bytes are only valid for the duration of the call.
+     */
+    void accept(byte[] bytes, int offset, int length);
+
+  }
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final LineConsumer consumer;
+  private byte[] pending = new byte[INITIAL_CAPACITY];
+  private int pendingLength;
+  private byte[] scratch;
+
+  LineFramer(LineConsumer consumer) {
+    this.consumer = consumer;
+  }
+
+  public void feed(ByteBuffer buffer) {
+    byte[] array;
+    int start;
+    int end;
+    if (buffer.hasArray()) {
+      array = buffer.array();
+      start = buffer.arrayOffset() + buffer.position();
+      end = buffer.arrayOffset() + buffer.limit();
+      buffer.position(buffer.limit());
+    } else {
+      int length = buffer.remaining();
+      if (scratch == null || scratch.length < length) {
+        scratch = new byte[Math.max(length, INITIAL_CAPACITY)];
+      }
+      buffer.get(scratch, 0, length);
+      array = scratch;
+      start = 0;
+      end = length;
+    }
+    int lineStart = start;
+    for (int i = start; i < end; i++) {
+      if (array[i] == '\n') {
+        if (pendingLength == 0) {
+          consumer.accept(array, lineStart, i - lineStart);
+        } else {
+          append(array, lineStart, i - lineStart);
+          consumer.accept(pending, 0, pendingLength);
+          pendingLength = 0;
+        }
+        lineStart = i + 1;
+      }
+    }
+    append(array, lineStart, end - lineStart);
+  }
+
+  private void append(byte[] bytes, int offset, int length) {
+    if (length == 0) {
+      return;
+    }
+    int required = pendingLength + length;
+    if (required > pending.length) {
+      pending = Arrays.copyOf(pending, Math.max(required, pending.length * 2));
+    }
+    System.arraycopy(bytes, offset, pending, pendingLength, length);
+    pendingLength = required;
+  }
+
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.http.StandardHttpHeaders;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Operations on the metadata of resources, gets, lists and watches request {@link PartialObjectMetadata} from the API
+ * server instead of the full objects.
+ */
+public class MetadataOnlyOperationsImpl
+    extends HasMetadataOperation<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> {
+
+  private final boolean resourceNamespaced;
+
+  public MetadataOnlyOperationsImpl(OperationContext context, boolean resourceNamespaced) {
+    super(context, PartialObjectMetadata.class, PartialObjectMetadataList.class);
+    this.resourceNamespaced = resourceNamespaced;
+  }
+
+  @Override
+  public MetadataOnlyOperationsImpl newInstance(OperationContext context) {
+    return new MetadataOnlyOperationsImpl(context, resourceNamespaced);
+  }
+
+  @Override
+  public boolean isResourceNamespaced() {
+    return resourceNamespaced;
+  }
+
+  @Override
+  protected String getListAccept() {
+    return PartialObjectMetadata.ACCEPT;
+  }
+
+  @Override
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
+    return handleResponseAsync(httpClient.newHttpRequestBuilder().url(resourceUrl)
+        .setHeader(StandardHttpHeaders.ACCEPT, PartialObjectMetadata.ACCEPT), type);
+  }
+
+  @Override
+  public FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly() {
+    return this;
+  }
+}
@@ -0,0 +1,560 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.LocalPortForward;
+import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link LocalPortForward} that shares each WebSocket between several local connections.
+ * <p>
+ * The port-forward protocol accepts several ports per request, each one getting its own data and error channel. The
+ * remote port is requested once per stream, and every accepted local connection takes the next free stream, so a
+ * WebSocket is only opened per {@code streamsPerConnection} local connections. A single selector thread accepts the
+ * local connections, reads from all of them, and writes to them without blocking.
+ * <p>
+ * Each stream has its own queue of data from the pod, so a slow local reader doesn't hold up the others until its
+ * queue exceeds {@link #MAX_QUEUED_BYTES}, at which point no further messages are read from the WebSocket until it
+ * drains. Data and errors for a stream that no local connection has taken yet, such as the greeting of a server first
+ * protocol, are kept for the connection that takes it.
+ * <p>
+ * The protocol can't close a single stream: the pod side is connected for every stream when the WebSocket opens, and a
+ * connection closed by the pod is only seen locally once all the streams of its WebSocket are done.
+ */
+class MultiplexedLocalPortForward implements LocalPortForward {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MultiplexedLocalPortForward.class);
+  private static final String PROTOCOL_ERROR = "Protocol error";
+  private static final int BUFFER_SIZE = 4096;
+  static final int MAX_QUEUED_BYTES = 64 * 1024;
+
+  /**
+   * Channel numbers are a single byte, and each stream takes a data and an error channel
+   */
+  static final int MAX_STREAMS_PER_CONNECTION = 127;
+
+  private final BiFunction<Integer, WebSocket.Listener, CompletableFuture<WebSocket>> connector;
+  private final int streamsPerConnection;
+  private final ServerSocketChannel server;
+  private final Selector selector;
+  private final ExecutorService selectorService;
+  private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+  private final Collection<Session> sessions = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean alive = new AtomicBoolean(true);
+  private final Collection<Throwable> clientThrowables = new CopyOnWriteArrayList<>();
+  private final Collection<Throwable> serverThrowables = new CopyOnWriteArrayList<>();
+  private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private Session current;
+
+  /**
+   * @param connector opens a port-forward WebSocket for the given number of streams
+   */
+  MultiplexedLocalPortForward(BiFunction<Integer, WebSocket.Listener, CompletableFuture<WebSocket>> connector,
+      int streamsPerConnection, ExecutorService selectorService, InetSocketAddress localAddress)
+      throws IOException {
+    this.connector = connector;
+    this.streamsPerConnection = streamsPerConnection;
+    this.selectorService = selectorService;
+    this.server = ServerSocketChannel.open();
+    try {
+      this.server.bind(localAddress);
+      this.server.configureBlocking(false);
+      this.selector = Selector.open();
+      this.server.register(selector, SelectionKey.OP_ACCEPT);
+    } catch (IOException e) {
+      Utils.closeQuietly(server);
+      throw e;
+    }
+  }
+
+  void start() {
+    selectorService.execute(this::select);
+  }
+
+  private void select() {
+    try {
+      while (alive.get()) {
+        selector.select();
+        Runnable task;
+        while ((task = selectorTasks.poll()) != null) {
+          try {
+            task.run();
+          } catch (CancelledKeyException e) {
+            // the stream was closed concurrently
+          }
+        }
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          try {
+            if (key.isAcceptable()) {
+              accept();
+            } else {
+              if (key.isReadable()) {
+                read(key);
+              }
+              if (key.isValid() && key.isWritable()) {
+                flush((Stream) key.attachment());
+              }
+            }
+          } catch (CancelledKeyException e) {
+            // the stream was closed concurrently
+          }
+        }
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      if (alive.get()) {
+        LOG.error("Error while listening for connections", e);
+      }
+      Utils.closeQuietly(this);
+    }
+  }
+
+  private void runOnSelector(Runnable task) {
+    if (alive.get()) {
+      selectorTasks.add(task);
+      selector.wakeup();
+    }
+  }
+
+  private void accept() throws IOException {
+    SocketChannel socket = server.accept();
+    if (socket == null) {
+      return;
+    }
+    socket.configureBlocking(false);
+    if (current == null || !current.hasFreeStream()) {
+      current = new Session();
+      sessions.add(current);
+      current.connect();
+    }
+    Stream stream = current.assign(socket);
+    if (current.closed.get()) {
+      stream.close();
+    } else if (current.open) {
+      register(stream);
+    }
+  }
+
+  private void register(Stream stream) {
+    if (stream.key != null || stream.closed.get()) {
+      return;
+    }
+    try {
+      stream.key = stream.socket.register(selector, SelectionKey.OP_READ, stream);
+    } catch (IOException e) {
+      if (!stream.closed.get()) {
+        clientThrowables.add(e);
+        stream.close();
+      }
+      return;
+    }
+    // write anything received before the stream was taken
+    flush(stream);
+  }
+
+  /**
+   * Write as much of the queued data as the socket accepts without blocking, waiting for the socket to be writable
+   * for the rest. Must be called on the selector thread.
+   */
+  private void flush(Stream stream) {
+    if (stream.key == null || stream.closed.get()) {
+      return;
+    }
+    try {
+      ByteBuffer next;
+      while ((next = stream.pending.peek()) != null) {
+        stream.queuedBytes -= stream.socket.write(next);
+        if (next.hasRemaining()) {
+          break;
+        }
+        stream.pending.poll();
+      }
+    } catch (IOException e) {
+      if (alive.get() && !stream.closed.get()) {
+        clientThrowables.add(e);
+        LOG.debug("Error while forwarding data to the client", e);
+        stream.close();
+      }
+      return;
+    }
+    boolean drained = stream.pending.isEmpty();
+    stream.key.interestOps(drained ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    if (drained && stream.finishing) {
+      stream.close();
+    } else {
+      stream.session.resumeIfDrained(stream);
+    }
+  }
+
+  private void read(SelectionKey key) {
+    Stream stream = (Stream) key.attachment();
+    try {
+      readBuffer.clear();
+      readBuffer.put(stream.dataChannel());
+      int read = stream.socket.read(readBuffer);
+      if (read > 0) {
+        readBuffer.flip();
+        stream.session.webSocket.send(readBuffer);
+      } else if (read < 0) {
+        // the protocol has no half close, the stream is done once the client closes its output
+        stream.close();
+      }
+    } catch (IOException e) {
+      key.cancel();
+      if (alive.get() && !stream.closed.get()) {
+        LOG.debug("Error while reading client data", e);
+        clientThrowables.add(e);
+        stream.close();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    alive.set(false);
+    try {
+      server.close();
+      selector.close();
+    } finally {
+      for (Session session : sessions) {
+        session.closeBothWays(1001, "User closing");
+      }
+      selectorService.shutdownNow();
+    }
+  }
+
+  @Override
+  public boolean isAlive() {
+    return alive.get();
+  }
+
+  @Override
+  public boolean errorOccurred() {
+    return !clientThrowables.isEmpty() || !serverThrowables.isEmpty();
+  }
+
+  @Override
+  public InetAddress getLocalAddress() {
+    try {
+      return ((InetSocketAddress) server.getLocalAddress()).getAddress();
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot determine local address", e);
+    }
+  }
+
+  @Override
+  public int getLocalPort() {
+    try {
+      return ((InetSocketAddress) server.getLocalAddress()).getPort();
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot determine local address", e);
+    }
+  }
+
+  @Override
+  public Collection<Throwable> getClientThrowables() {
+    return new ArrayList<>(clientThrowables);
+  }
+
+  @Override
+  public Collection<Throwable> getServerThrowables() {
+    return new ArrayList<>(serverThrowables);
+  }
+
+  /**
+   * A data and error channel pair of a {@link Session}, forwarded to the local connection that takes it.
+   */
+  private final class Stream {
+
+    private final Session session;
+    private final int index;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile SocketChannel socket;
+    // only used on the selector thread
+    private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+    private int queuedBytes;
+    private boolean finishing;
+    private SelectionKey key;
+
+    private Stream(Session session, int index) {
+      this.session = session;
+      this.index = index;
+    }
+
+    private byte dataChannel() {
+      return (byte) (index * 2);
+    }
+
+    /**
+     * Queue data from the pod. Must be called on the selector thread.
+     */
+    private void enqueue(ByteBuffer data) {
+      pending.add(data);
+      queuedBytes += data.remaining();
+      flush(this);
+    }
+
+    /**
+     * The pod side is done, close once the queued data has been written. Must be called on the selector thread.
+     */
+    private void finish() {
+      finishing = true;
+      if (key != null) {
+        flush(this);
+      } else if (socket != null && !session.open) {
+        close();
+      }
+      // otherwise the next local connection to take the stream gets the data, then is closed
+    }
+
+    private void close() {
+      if (closed.compareAndSet(false, true)) {
+        Utils.closeQuietly(socket);
+        runOnSelector(() -> session.release(this));
+        session.streamClosed();
+      }
+    }
+  }
+
+  /**
+   * A port-forward WebSocket carrying {@code streamsPerConnection} streams.
+   */
+  private final class Session implements WebSocket.Listener {
+
+    private final Stream[] streams = new Stream[streamsPerConnection];
+    private final boolean[] portRead = new boolean[streamsPerConnection * 2];
+    private final AtomicInteger closedStreams = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile WebSocket webSocket;
+    private volatile boolean open;
+    private volatile int assigned;
+    // the stream whose queue is full, only used on the selector thread
+    private Stream blocked;
+
+    private Session() {
+      for (int i = 0; i < streams.length; i++) {
+        streams[i] = new Stream(this, i);
+      }
+    }
+
+    private void connect() {
+      connector.apply(streamsPerConnection, this).whenComplete((w, t) -> {
+        if (t != null) {
+          onError(w, t);
+        }
+      });
+    }
+
+    private boolean hasFreeStream() {
+      return !closed.get() && assigned < streams.length;
+    }
+
+    private Stream assign(SocketChannel socket) {
+      Stream stream = streams[assigned];
+      stream.socket = socket;
+      assigned = stream.index + 1;
+      return stream;
+    }
+
+    /**
+     * Read the next message once the queue of the blocked stream has drained. Must be called on the selector thread.
+     */
+    private void resumeIfDrained(Stream stream) {
+      if (blocked == stream && stream.queuedBytes <= MAX_QUEUED_BYTES / 2) {
+        blocked = null;
+        webSocket.request();
+      }
+    }
+
+    /**
+     * Drop the queue of a closed stream. Must be called on the selector thread.
+     */
+    private void release(Stream stream) {
+      stream.pending.clear();
+      stream.queuedBytes = 0;
+      resumeIfDrained(stream);
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+      LOG.debug("Port-forward connection opened with {} streams", streams.length);
+      this.webSocket = webSocket;
+      this.open = true;
+      if (closed.get()) {
+        webSocket.sendClose(1001, "User closing");
+        return;
+      }
+      runOnSelector(() -> {
+        for (int i = 0; i < assigned; i++) {
+          register(streams[i]);
+        }
+      });
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, String text) {
+      onMessage(webSocket, ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, ByteBuffer buffer) {
+      if (!buffer.hasRemaining()) {
+        protocolError(new KubernetesClientException("Received an empty message"));
+        return;
+      }
+      int channel = buffer.get() & 0xFF;
+      if (channel >= portRead.length) {
+        protocolError(new KubernetesClientException(
+            String.format("Received a wrong channel from the remote socket: %s", channel)));
+        return;
+      }
+      if (!portRead[channel]) {
+        // skip the first message of each channel, containing the port used internally
+        portRead[channel] = true;
+        webSocket.request();
+        return;
+      }
+      Stream stream = streams[channel / 2];
+      if (stream.closed.get()) {
+        webSocket.request();
+      } else if (channel % 2 == 1) {
+        // Error channel, also reported to a local connection that takes the stream later
+        KubernetesClientException e = new KubernetesClientException(
+            String.format("Received an error from the remote socket %s", ExecWebSocketListener.toString(buffer)));
+        serverThrowables.add(e);
+        LOG.debug("Server error", e);
+        runOnSelector(stream::finish);
+        webSocket.request();
+      } else {
+        // channel byte already skipped, the buffer is not ours once the next message is requested
+        ByteBuffer data = ByteBuffer.allocate(buffer.remaining());
+        data.put(buffer).flip();
+        runOnSelector(() -> {
+          if (stream.closed.get()) {
+            webSocket.request();
+            return;
+          }
+          stream.enqueue(data);
+          if (!stream.closed.get() && stream.queuedBytes > MAX_QUEUED_BYTES) {
+            // backpressure, the WebSocket is shared so no stream gets more data until this one drains
+            blocked = stream;
+          } else {
+            webSocket.request();
+          }
+        });
+      }
+    }
+
+    @Override
+    public void onClose(WebSocket webSocket, int code, String reason) {
+      LOG.debug("Port-forward connection closed. Code={}, Reason={}", code, reason);
+      finishStreams();
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable t) {
+      LOG.debug("Throwable received from port-forward connection", t);
+      if (alive.get() && !closed.get()) {
+        serverThrowables.add(t);
+      }
+      finishStreams();
+    }
+
+    private void protocolError(KubernetesClientException e) {
+      serverThrowables.add(e);
+      LOG.debug(PROTOCOL_ERROR, e);
+      closeBothWays(1002, PROTOCOL_ERROR);
+    }
+
+    private void streamClosed() {
+      if (closedStreams.incrementAndGet() == streams.length) {
+        // every stream was used and is done
+        closeBothWays(1000, "Streams closed");
+      }
+    }
+
+    private void closeBothWays(int code, String reason) {
+      WebSocket ws = webSocket;
+      if (!closed.get() && ws != null) {
+        try {
+          ws.sendClose(code, reason);
+        } catch (Exception e) {
+          serverThrowables.add(e);
+          LOG.debug("Error while closing the websocket", e);
+        }
+      }
+      closeStreams();
+    }
+
+    private void closeStreams() {
+      // also closes streams that are still finishing
+      closed.set(true);
+      int count = assigned;
+      for (int i = 0; i < count; i++) {
+        streams[i].close();
+      }
+      sessions.remove(this);
+    }
+
+    /**
+     * The pod side is done, close the streams once the data already received has been written
+     */
+    private void finishStreams() {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      // if no longer alive, the session is still closed with the others
+      runOnSelector(() -> {
+        int count = assigned;
+        for (int i = 0; i < count; i++) {
+          streams[i].finish();
+        }
+        sessions.remove(this);
+      });
+    }
+  }
+
+}
@@ -48,6 +48,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -179,17 +180,16 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> createOrReplace() {
-    List<? extends Resource<HasMetadata>> operations = getResources();
-
-    return operations.stream()
-        .map(Resource::createOrReplace)
+    return performOperation(Resource::createOrReplace).stream()
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<StatusDetails> delete() {
-    List<StatusDetails> deleted = resources().flatMap(r -> r.delete().stream()).collect(Collectors.toList());
+    List<StatusDetails> deleted = performOperation(Resource::delete, BulkOperation::dependenciesLast).stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
     BaseOperation.waitForDelete(deleted, this.context, this);
     return deleted;
   }
@@ -285,9 +285,18 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
     return performOperation(Resource::replace);
   }
 
-  private List<HasMetadata> performOperation(
-      Function<? super NamespaceableResource<HasMetadata>, ? extends HasMetadata> operation) {
-    return getResources().stream().map(operation).collect(Collectors.toList());
+  private <R> List<R> performOperation(Function<? super NamespaceableResource<HasMetadata>, R> operation) {
+    return performOperation(operation, BulkOperation::dependenciesFirst);
+  }
+
+  /**
+   * Applies the operation to each resource, up to {@link io.fabric8.kubernetes.client.Config#getBulkConcurrency()} at
+   * a time, see {@link BulkOperation}
+   */
+  private <R> List<R> performOperation(Function<? super NamespaceableResource<HasMetadata>, R> operation,
+      ToIntFunction<HasMetadata> phase) {
+    return BulkOperation.run(context.getExecutor(), context.getConfig().getBulkConcurrency(), getResources(),
+        r -> phase.applyAsInt(r.item()), operation);
   }
 
   @Override
@@ -27,6 +27,7 @@ import io.fabric8.kubernetes.client.dsl.FieldValidateable.Validation;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.impl.ResourceHandler;
+import io.fabric8.kubernetes.client.informers.impl.InformerRegistry;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.Utils;
 
@@ -35,6 +36,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -527,6 +529,14 @@ public class OperationContext {
     return getClient().adapt(BaseClient.class).getExecutor();
   }
 
+  public ThreadFactory getDedicatedThreadFactory() {
+    return getClient().adapt(BaseClient.class).getDedicatedThreadFactory();
+  }
+
+  public InformerRegistry getInformerRegistry() {
+    return getClient().adapt(BaseClient.class).getInformerRegistry();
+  }
+
   public OperationContext withFieldValidation(Validation fieldValidation) {
     if (this.fieldValidation == fieldValidation) {
       return this;
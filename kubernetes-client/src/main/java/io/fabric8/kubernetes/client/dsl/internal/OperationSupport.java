@@ -20,6 +20,7 @@ import io.fabric8.kubernetes.api.model.DeleteOptions;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Preconditions;
 import io.fabric8.kubernetes.api.model.Status;
@@ -33,31 +34,40 @@ import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.dsl.FieldValidateable.Validation;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.ListItemsParser;
+import io.fabric8.kubernetes.client.utils.StreamingJsonParser;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 public class OperationSupport {
 
@@ -299,6 +309,11 @@ public class OperationSupport {
 
   protected KubernetesResource handleDelete(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy,
       String resourceVersion) throws InterruptedException, IOException {
+    return waitForResult(handleDeleteAsync(requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion));
+  }
+
+  protected CompletableFuture<KubernetesResource> handleDeleteAsync(URL requestUrl, long gracePeriodSeconds,
+      DeletionPropagation propagationPolicy, String resourceVersion) {
     DeleteOptions deleteOptions = new DeleteOptions();
     if (gracePeriodSeconds >= 0) {
       deleteOptions.setGracePeriodSeconds(gracePeriodSeconds);
@@ -317,7 +332,7 @@ public class OperationSupport {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .delete(JSON, getKubernetesSerialization().asJson(deleteOptions)).url(requestUrl);
 
-    return handleResponse(requestBuilder, KubernetesResource.class);
+    return handleResponseAsync(requestBuilder, KubernetesResource.class);
   }
 
   /**
@@ -333,11 +348,15 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T, I> T handleCreate(I resource, Class<T> outputType) throws InterruptedException, IOException {
+    return waitForResult(handleCreateAsync(resource, outputType));
+  }
+
+  protected <T, I> CompletableFuture<T> handleCreateAsync(I resource, Class<T> outputType) throws MalformedURLException {
     resource = correctNamespace(resource);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .post(JSON, getKubernetesSerialization().asJson(resource))
         .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(resource), null)));
-    return handleResponse(requestBuilder, outputType);
+    return handleResponseAsync(requestBuilder, outputType);
   }
 
   /**
@@ -411,12 +430,17 @@ public class OperationSupport {
    */
   protected <T> T handlePatch(PatchContext patchContext, T current, String patchForUpdate, Class<T> type)
       throws InterruptedException, IOException {
+    return waitForResult(handlePatchAsync(patchContext, current, patchForUpdate, type));
+  }
+
+  protected <T> CompletableFuture<T> handlePatchAsync(PatchContext patchContext, T current, String patchForUpdate,
+      Class<T> type) throws MalformedURLException {
     String bodyContentType = getContentTypeFromPatchContextOrDefault(patchContext);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .patch(bodyContentType, patchForUpdate)
         .url(getResourceURLForPatchOperation(getResourceUrl(checkNamespace(current), checkName(current)),
             patchContext));
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -463,8 +487,12 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleGet(URL resourceUrl, Class<T> type) throws IOException {
+    return waitForResult(handleGetAsync(resourceUrl, type));
+  }
+
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(resourceUrl);
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -521,12 +549,25 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleResponse(HttpRequest.Builder requestBuilder, Class<T> type) throws IOException {
-    return waitForResult(handleResponse(httpClient, withRequestTimeout(requestBuilder), new TypeReference<T>() {
+    return waitForResult(handleResponseAsync(requestBuilder, type));
+  }
+
+  /**
+   * Send an http request and handle the response without waiting for it.
+   *
+   * @param requestBuilder Request Builder object
+   * @param type type of resource
+   * @param <T> template argument provided
+   *
+   * @return Returns a future completing with the de-serialized api server response of provided type.
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(HttpRequest.Builder requestBuilder, Class<T> type) {
+    return handleResponse(httpClient, withRequestTimeout(requestBuilder), new TypeReference<T>() {
       @Override
       public Type getType() {
         return type;
       }
-    }));
+    });
   }
 
   /**
@@ -560,6 +601,108 @@ public class OperationSupport {
     });
   }
 
+  /**
+   * Send an http request and incrementally parse the response as it is read, rather than first reading the whole
+   * response into memory. Intended for responses that may be large, such as lists.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param type Type of object provided
+   * @param <T> Template argument provided
+   *
+   * @return Returns a de-serialized object as api server response of provided type.
+   */
+  protected <T> CompletableFuture<T> handleStreamingResponse(HttpClient client, HttpRequest.Builder requestBuilder,
+      TypeReference<T> type) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+
+    StreamingJsonParser<T> parser = new StreamingJsonParser<>(getKubernetesSerialization(), type);
+    return consumeResponse(client, request, parser::feed, parser::end);
+  }
+
+  /**
+   * Send an http list request and incrementally parse the response. Each item is passed to the consumer as soon as it
+   * has been read, rather than materializing the whole response or list.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param type the item type
+   * @param itemConsumer the consumer of each item, called in the thread processing the response
+   * @param <T> Template argument provided
+   *
+   * @return Returns the list metadata
+   */
+  protected <T> CompletableFuture<ListMeta> handleListItemsResponse(HttpClient client, HttpRequest.Builder requestBuilder,
+      Class<T> type, Consumer<T> itemConsumer) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+
+    ListItemsParser<T> parser;
+    try {
+      parser = new ListItemsParser<>(getKubernetesSerialization(), type, itemConsumer);
+    } catch (IOException e) {
+      throw requestException(request, e);
+    }
+    return consumeResponse(client, request, parser::feed, parser::end);
+  }
+
+  @FunctionalInterface
+  private interface BufferConsumer {
+    void accept(ByteBuffer buffer) throws IOException;
+  }
+
+  private <R> CompletableFuture<R> consumeResponse(HttpClient client, HttpRequest request, BufferConsumer feed,
+      Callable<R> end) {
+    // only used if the response is not successful
+    ByteArrayOutputStream errorBody = new ByteArrayOutputStream();
+    AtomicBoolean successful = new AtomicBoolean();
+    CompletableFuture<R> result = new CompletableFuture<>();
+
+    client.consumeBytes(request, (buffers, asyncBody) -> {
+      for (ByteBuffer buffer : buffers) {
+        if (successful.get()) {
+          feed.accept(buffer);
+        } else {
+          errorBody.write(BufferUtil.toArray(buffer));
+        }
+      }
+      asyncBody.consume();
+    }).whenComplete((response, t) -> {
+      if (t != null) {
+        result.completeExceptionally(t);
+        return;
+      }
+      successful.set(response.isSuccessful());
+      logWarnings(request, response);
+      // stop processing the response if the caller is no longer interested
+      result.whenComplete((v, e) -> {
+        if (e != null) {
+          response.body().cancel();
+        }
+      });
+      response.body().done().whenComplete((v, e) -> {
+        try {
+          if (e != null) {
+            result.completeExceptionally(e);
+          } else if (!successful.get()) {
+            result.completeExceptionally(responseFailure(request, response.code(), createStatus(response.code(),
+                response.message(), new String(errorBody.toByteArray(), StandardCharsets.UTF_8),
+                getKubernetesSerialization())));
+          } else {
+            result.complete(end.call());
+          }
+        } catch (KubernetesClientException ex) {
+          result.completeExceptionally(ex);
+        } catch (Exception ex) {
+          result.completeExceptionally(requestException(request, ex));
+        }
+      });
+      response.body().consume();
+    });
+    return result;
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
@@ -567,6 +710,15 @@ public class OperationSupport {
    * @param response The {@link HttpResponse} object.
    */
   protected void assertResponseCode(HttpRequest request, HttpResponse<?> response) {
+    logWarnings(request, response);
+    if (response.isSuccessful()) {
+      return;
+    }
+
+    throw responseFailure(request, response.code(), createStatus(response, getKubernetesSerialization()));
+  }
+
+  private void logWarnings(HttpRequest request, HttpResponse<?> response) {
     List<String> warnings = response.headers("Warning");
     if (warnings != null && !warnings.isEmpty()) {
       if (context.fieldValidation == Validation.WARN) {
@@ -575,19 +727,15 @@ public class OperationSupport {
         LOG.debug("Recieved warning(s) from request {}: {}", request.uri(), warnings);
       }
     }
-    if (response.isSuccessful()) {
-      return;
-    }
+  }
 
-    int statusCode = response.code();
+  private KubernetesClientException responseFailure(HttpRequest request, int statusCode, Status status) {
     String customMessage = config.getErrorMessages().get(statusCode);
 
     if (customMessage != null) {
-      throw requestFailure(request,
-          createStatus(statusCode, combineMessages(customMessage, createStatus(response, getKubernetesSerialization()))));
-    } else {
-      throw requestFailure(request, createStatus(response, getKubernetesSerialization()));
+      return requestFailure(request, createStatus(statusCode, combineMessages(customMessage, status)));
     }
+    return requestFailure(request, status);
   }
 
   private String combineMessages(String customMessage, Status defaultStatus) {
@@ -601,30 +749,34 @@ public class OperationSupport {
   }
 
   public static Status createStatus(HttpResponse<?> response, KubernetesSerialization kubernetesSerialization) {
-    String statusMessage = "";
-    int statusCode = response != null ? response.code() : 0;
     if (response == null) {
-      statusMessage = "No response";
-    } else {
-      try {
-        String bodyString = response.bodyString();
-        if (Utils.isNotNullOrEmpty(bodyString)) {
-          Status status = kubernetesSerialization.unmarshal(bodyString, Status.class);
-          if (status != null) {
-            if (status.getCode() == null) {
-              status = new StatusBuilder(status).withCode(statusCode).build();
-            }
-            return status;
+      return createStatus(0, "No response");
+    }
+    String bodyString = null;
+    try {
+      bodyString = response.bodyString();
+    } catch (IOException | IllegalArgumentException e) {
+      // ignored
+    }
+    return createStatus(response.code(), response.message(), bodyString, kubernetesSerialization);
+  }
+
+  public static Status createStatus(int statusCode, String message, String bodyString,
+      KubernetesSerialization kubernetesSerialization) {
+    try {
+      if (Utils.isNotNullOrEmpty(bodyString)) {
+        Status status = kubernetesSerialization.unmarshal(bodyString, Status.class);
+        if (status != null) {
+          if (status.getCode() == null) {
+            status = new StatusBuilder(status).withCode(statusCode).build();
           }
+          return status;
         }
-      } catch (IOException | KubernetesClientException | IllegalArgumentException e) {
-        // ignored
-      }
-      if (response.message() != null) {
-        statusMessage = response.message();
       }
+    } catch (KubernetesClientException | IllegalArgumentException e) {
+      // ignored
     }
-    return createStatus(statusCode, statusMessage);
+    return createStatus(statusCode, Utils.getNonNullOrElse(message, ""));
   }
 
   public static Status createStatus(int statusCode, String message) {
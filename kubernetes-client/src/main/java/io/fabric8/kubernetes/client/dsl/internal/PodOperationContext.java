@@ -66,6 +66,9 @@ public class PodOperationContext {
   private Integer bufferSize;
   private String file;
   private String dir;
+  private boolean compressed;
+  private Integer copyStreams;
+  private boolean resumable;
   private boolean terminateOnError;
 
   private boolean rolling;
@@ -40,6 +40,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -53,11 +54,21 @@ public class PortForwarderWebsocket {
 
   private final HttpClient client;
   private final Executor executor;
+  private final ThreadFactory threadFactory;
   private final long connectTimeoutMills;
 
   public PortForwarderWebsocket(HttpClient client, Executor executor, long connectTimeoutMillis) {
+    this(client, executor, null, connectTimeoutMillis);
+  }
+
+  /**
+   * @param threadFactory the {@link ThreadFactory} for the thread accepting local connections, null for the default
+   */
+  public PortForwarderWebsocket(HttpClient client, Executor executor, ThreadFactory threadFactory,
+      long connectTimeoutMillis) {
     this.client = client;
     this.executor = executor;
+    this.threadFactory = threadFactory;
     this.connectTimeoutMills = connectTimeoutMillis;
   }
 
@@ -69,7 +80,7 @@ public class PortForwarderWebsocket {
       final AtomicBoolean alive = new AtomicBoolean(true);
       final CopyOnWriteArrayList<PortForward> handles = new CopyOnWriteArrayList<>();
 
-      final ExecutorService executorService = Executors.newSingleThreadExecutor();
+      final ExecutorService executorService = newSingleThreadExecutor();
 
       // Create a handle that can be used to retrieve information and stop the port-forward
       final LocalPortForward localPortForwardHandle = new LocalPortForward() {
@@ -159,14 +170,32 @@ public class PortForwarderWebsocket {
     }
   }
 
+  /**
+   * Listen on the local port, sharing each WebSocket to the resource between up to {@code streamsPerConnection} local
+   * connections.
+   *
+   * @see MultiplexedLocalPortForward
+   */
+  public LocalPortForward forward(final URL resourceBaseUrl, final int port, final InetAddress localHost,
+      final int localPort, final int streamsPerConnection) {
+    if (streamsPerConnection < 1 || streamsPerConnection > MultiplexedLocalPortForward.MAX_STREAMS_PER_CONNECTION) {
+      throw new IllegalArgumentException("streamsPerConnection must be between 1 and "
+          + MultiplexedLocalPortForward.MAX_STREAMS_PER_CONNECTION);
+    }
+    try {
+      MultiplexedLocalPortForward localPortForward = new MultiplexedLocalPortForward(
+          (streams, listener) -> connect(resourceBaseUrl, port, streams, listener), streamsPerConnection,
+          newSingleThreadExecutor(), createNewInetSocketAddress(localHost, localPort));
+      localPortForward.start();
+      return localPortForward;
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to port forward", e);
+    }
+  }
+
   public PortForward forward(URL resourceBaseUrl, int port, final ReadableByteChannel in, final WritableByteChannel out) {
     final PortForwarderWebsocketListener listener = new PortForwarderWebsocketListener(in, out, executor);
-    CompletableFuture<WebSocket> socket = client
-        .newWebSocketBuilder()
-        .uri(URI.create(URLUtils.join(resourceBaseUrl.toString(), "portforward?ports=" + port)))
-        .connectTimeout(connectTimeoutMills, TimeUnit.MILLISECONDS)
-        .subprotocol("v4.channel.k8s.io")
-        .buildAsync(listener);
+    CompletableFuture<WebSocket> socket = connect(resourceBaseUrl, port, 1, listener);
 
     socket.whenComplete((w, t) -> {
       if (t != null) {
@@ -211,6 +240,26 @@ public class PortForwarderWebsocket {
     };
   }
 
+  /**
+   * Opens a WebSocket requesting the port once per stream, each stream gets its own data and error channel
+   */
+  CompletableFuture<WebSocket> connect(URL resourceBaseUrl, int port, int streams, WebSocket.Listener listener) {
+    StringBuilder path = new StringBuilder("portforward?ports=").append(port);
+    for (int i = 1; i < streams; i++) {
+      path.append("&ports=").append(port);
+    }
+    return client
+        .newWebSocketBuilder()
+        .uri(URI.create(URLUtils.join(resourceBaseUrl.toString(), path.toString())))
+        .connectTimeout(connectTimeoutMills, TimeUnit.MILLISECONDS)
+        .subprotocol("v4.channel.k8s.io")
+        .buildAsync(listener);
+  }
+
+  private ExecutorService newSingleThreadExecutor() {
+    return threadFactory == null ? Executors.newSingleThreadExecutor() : Executors.newSingleThreadExecutor(threadFactory);
+  }
+
   InetSocketAddress createNewInetSocketAddress(InetAddress localHost, int localPort) {
     if (localHost == null) {
       return new InetSocketAddress(localPort);
@@ -29,7 +29,6 @@ import io.fabric8.kubernetes.client.http.HttpResponse;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -50,17 +49,10 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   protected synchronized void start(URL url, Map<String, String> headers, WatchRequestState state) {
     HttpRequest.Builder builder = client.newHttpRequestBuilder().url(url).forStreaming();
     headers.forEach(builder::header);
-    StringBuffer buffer = new StringBuffer();
+    LineFramer framer = new LineFramer((bytes, offset, length) -> onMessage(bytes, offset, length, state));
     call = client.consumeBytes(builder.build(), (b, a) -> {
       for (ByteBuffer content : b) {
-        for (char c : StandardCharsets.UTF_8.decode(content).array()) {
-          if (c == '\n') {
-            onMessage(buffer.toString(), state);
-            buffer.setLength(0);
-          } else {
-            buffer.append(c);
-          }
-        }
+        framer.feed(content);
       }
       a.consume();
     });
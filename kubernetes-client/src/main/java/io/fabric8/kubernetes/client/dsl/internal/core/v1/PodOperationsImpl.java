@@ -85,6 +85,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static io.fabric8.kubernetes.client.utils.internal.OptionalDependencyWrapper.wrapRunWithOptionalDependency;
 
@@ -200,8 +201,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public PortForward portForward(int port, ReadableByteChannel in, WritableByteChannel out) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getRequestConfig().getRequestTimeout())
-          .forward(getResourceUrl(), port, in, out);
+      return newPortForwarder().forward(getResourceUrl(), port, in, out);
     } catch (Exception e) {
       throw KubernetesClientException.launderThrowable(e);
     }
@@ -220,13 +220,26 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getRequestConfig().getRequestTimeout())
-          .forward(getResourceUrl(), port, localInetAddress, localPort);
+      return newPortForwarder().forward(getResourceUrl(), port, localInetAddress, localPort);
     } catch (MalformedURLException ex) {
       throw KubernetesClientException.launderThrowable(ex);
     }
   }
 
+  @Override
+  public LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort, int streamsPerConnection) {
+    try {
+      return newPortForwarder().forward(getResourceUrl(), port, localInetAddress, localPort, streamsPerConnection);
+    } catch (MalformedURLException ex) {
+      throw KubernetesClientException.launderThrowable(ex);
+    }
+  }
+
+  private PortForwarderWebsocket newPortForwarder() {
+    return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), this.context.getDedicatedThreadFactory(),
+        getRequestConfig().getRequestTimeout());
+  }
+
   @Override
   public boolean evict() {
     Eviction eviction = new EvictionBuilder()
@@ -368,7 +381,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
 
   private ExecWebSocketListener setupConnectionToPod(URI uri) {
     ExecWebSocketListener execWebSocketListener = new ExecWebSocketListener(getContext(), this.context.getExecutor(),
-        this.getKubernetesSerialization());
+        this.context.getDedicatedThreadFactory(), this.getKubernetesSerialization());
     CompletableFuture<WebSocket> startedFuture = httpClient.newWebSocketBuilder()
         .subprotocol("v4.channel.k8s.io")
         .uri(uri)
@@ -393,6 +406,24 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     return new PodOperationsImpl(getContext().withDir(dir), context);
   }
 
+  @Override
+  public PodOperationsImpl withCompression() {
+    return new PodOperationsImpl(getContext().toBuilder().compressed(true).build(), context);
+  }
+
+  @Override
+  public PodOperationsImpl withParallelStreams(int streams) {
+    if (streams < 1) {
+      throw new IllegalArgumentException("streams must be at least 1");
+    }
+    return new PodOperationsImpl(getContext().toBuilder().copyStreams(streams).build(), context);
+  }
+
+  @Override
+  public PodOperationsImpl withResumableUpload() {
+    return new PodOperationsImpl(getContext().toBuilder().resumable(true).build(), context);
+  }
+
   @Override
   public boolean copy(Path destination) {
     try {
@@ -480,6 +511,13 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   }
 
   public InputStream readTar(String source) {
+    if (getContext().isCompressed()) {
+      try {
+        return new GZIPInputStream(read("sh", "-c", "tar -czf - " + shellQuote(source)));
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
     return read("sh", "-c", "tar -cf - " + shellQuote(source));
   }
 
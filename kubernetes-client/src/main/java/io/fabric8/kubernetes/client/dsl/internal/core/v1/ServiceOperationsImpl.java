@@ -156,6 +156,15 @@ public class ServiceOperationsImpl extends HasMetadataOperation<Service, Service
         .portForward(port, localInetAddress, localPort);
   }
 
+  @Override
+  public LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort, int streamsPerConnection) {
+    Pod m = matchingPod();
+    return new PodOperationsImpl(context.getClient())
+        .inNamespace(m.getMetadata().getNamespace())
+        .withName(m.getMetadata().getName())
+        .portForward(port, localInetAddress, localPort, streamsPerConnection);
+  }
+
   @Override
   public LocalPortForward portForward(int port) {
     Pod m = matchingPod();
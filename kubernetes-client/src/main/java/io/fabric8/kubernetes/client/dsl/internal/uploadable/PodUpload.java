@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.client.dsl.internal.uploadable;
 
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
 import io.fabric8.kubernetes.client.utils.InputStreamPumper;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -30,12 +31,23 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
 
@@ -51,11 +63,19 @@ public class PodUpload {
   public static boolean upload(PodOperationsImpl operation, Path pathToUpload)
       throws IOException {
 
-    if (Utils.isNotNullOrEmpty(operation.getContext().getFile()) && pathToUpload.toFile().isFile()) {
+    PodOperationContext context = operation.getContext();
+    if (Utils.isNotNullOrEmpty(context.getFile()) && pathToUpload.toFile().isFile()) {
+      if (context.isResumable()) {
+        return uploadResumable(operation, context.getFile(), pathToUpload);
+      }
       return uploadTar(operation, getDirectoryFromFile(operation),
-          tar -> addFileToTar(new File(operation.getContext().getFile()).getName(), pathToUpload.toFile(), tar));
-    } else if (Utils.isNotNullOrEmpty(operation.getContext().getDir()) && pathToUpload.toFile().isDirectory()) {
-      return uploadTar(operation, operation.getContext().getDir(), tar -> {
+          tar -> addFileToTar(new File(context.getFile()).getName(), pathToUpload.toFile(), tar));
+    } else if (Utils.isNotNullOrEmpty(context.getDir()) && pathToUpload.toFile().isDirectory()) {
+      Integer streams = context.getCopyStreams();
+      if (streams != null && streams > 1) {
+        return uploadTarParallel(operation, context.getDir(), pathToUpload.toFile(), streams);
+      }
+      return uploadTar(operation, context.getDir(), tar -> {
         for (File file : pathToUpload.toFile().listFiles()) {
           addFileToTar(file.getName(), file, tar);
         }
@@ -76,23 +96,74 @@ public class PodUpload {
 
   }
 
+  /**
+   * The size and, if requested, SHA-256 checksum of the bytes written by an upload exec
+   */
+  private static final class Transfer {
+
+    private final long size;
+    private final String checksum;
+
+    private Transfer(long size, String checksum) {
+      this.size = size;
+      this.checksum = checksum;
+    }
+  }
+
+  private static long uploadDeadline(PodOperationsImpl operation) {
+    int uploadRequestTimeout = operation.getRequestConfig().getUploadRequestTimeout();
+    return uploadRequestTimeout < 0 ? Long.MAX_VALUE : uploadRequestTimeout + System.currentTimeMillis();
+  }
+
+  private static boolean waitForSuccess(CompletableFuture<Integer> exitFuture, long deadline) {
+    return Utils.waitUntilReady(exitFuture, Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)
+        && Integer.valueOf(0).equals(exitFuture.getNow(null));
+  }
+
   private static boolean upload(PodOperationsImpl operation, String file, UploadProcessor<OutputStream> processor)
       throws IOException {
 
-    String command = createExecCommandForUpload(file);
+    long uploadRequestTimeoutEnd = uploadDeadline(operation);
+    Transfer transfer = write(operation, createExecCommandForUpload(file), uploadRequestTimeoutEnd, false, processor);
+    if (transfer == null) {
+      return false;
+    }
 
-    CompletableFuture<Integer> exitFuture;
+    ByteArrayOutputStream byteCount = new ByteArrayOutputStream();
+    try (ExecWatch countWatch = operation.writingOutput(byteCount).exec("sh", "-c",
+        String.format("wc -c < %s", shellQuote(file)))) {
+      CompletableFuture<Integer> countExitFuture = countWatch.exitCode();
+      if (!waitForSuccess(countExitFuture, uploadRequestTimeoutEnd)) {
+        LOG.debug("failed to validate the upload size, exit code {}", countExitFuture.getNow(null));
+        return false;
+      }
+      String remoteSize = new String(byteCount.toByteArray(), StandardCharsets.UTF_8);
+      if (!String.valueOf(transfer.size).equals(remoteSize.trim())) {
+        LOG.debug("upload file size validation failed, expected {}, but was {}", transfer.size, remoteSize);
+        return false;
+      }
+    }
+    return true;
+  }
 
-    int uploadRequestTimeout = operation.getRequestConfig().getUploadRequestTimeout();
-    long uploadRequestTimeoutEnd = uploadRequestTimeout < 0 ? Long.MAX_VALUE
-        : uploadRequestTimeout + System.currentTimeMillis();
-    long expected = 0;
+  /**
+   * Writes the processed data to the input of the command.
+   *
+   * @param checksum whether to compute the checksum of the written data
+   * @return the size and checksum of what was written, or null if the command failed
+   */
+  private static Transfer write(PodOperationsImpl operation, String command, long uploadRequestTimeoutEnd,
+      boolean checksum, UploadProcessor<OutputStream> processor) throws IOException {
+    CompletableFuture<Integer> exitFuture;
+    MessageDigest digest = checksum ? sha256() : null;
+    long written;
     try (ExecWatch execWatch = operation.redirectingInput().terminateOnError().exec("sh", "-c", command)) {
       OutputStream out = execWatch.getInput();
-      CountingOutputStream countingStream = new CountingOutputStream(out);
+      CountingOutputStream countingStream = new CountingOutputStream(
+          digest == null ? out : new DigestOutputStream(out, digest));
       processor.process(countingStream);
       out.close(); // also flushes
-      expected = countingStream.getBytesWritten();
+      written = countingStream.getBytesWritten();
       exitFuture = execWatch.exitCode();
     }
 
@@ -101,41 +172,123 @@ public class PodUpload {
     if (!Utils.waitUntilReady(exitFuture, Math.max(0, uploadRequestTimeoutEnd - System.currentTimeMillis()),
         TimeUnit.MILLISECONDS)) {
       LOG.debug("failed to complete upload before timeout expired");
-      return false;
+      return null;
     }
     Integer exitCode = exitFuture.getNow(null);
     if (exitCode != null && exitCode.intValue() != 0) {
       LOG.debug("upload process failed with exit code {}", exitCode);
-      return false;
+      return null;
     }
+    return new Transfer(written, digest == null ? null : toHex(digest.digest()));
+  }
 
-    ByteArrayOutputStream byteCount = new ByteArrayOutputStream();
-    try (ExecWatch countWatch = operation.writingOutput(byteCount).exec("sh", "-c",
-        String.format("wc -c < %s", shellQuote(file)))) {
-      CompletableFuture<Integer> countExitFuture = countWatch.exitCode();
-      if (!Utils.waitUntilReady(countExitFuture, Math.max(0, uploadRequestTimeoutEnd - System.currentTimeMillis()),
-          TimeUnit.MILLISECONDS) || !Integer.valueOf(0).equals(countExitFuture.getNow(null))) {
-        LOG.debug("failed to validate the upload size, exit code {}", countExitFuture.getNow(null));
-        return false;
+  public static boolean uploadFileData(PodOperationsImpl operation, InputStream inputStream)
+      throws IOException {
+    if (operation.getContext().isResumable()) {
+      // the data may have to be read again, so it's kept in a local file for the duration of the upload
+      Path spool = Files.createTempFile("fabric8-upload", null);
+      try {
+        Files.copy(inputStream, spool, StandardCopyOption.REPLACE_EXISTING);
+        return uploadResumable(operation, operation.getContext().getFile(), spool);
+      } finally {
+        Files.deleteIfExists(spool);
       }
-      String remoteSize = new String(byteCount.toByteArray(), StandardCharsets.UTF_8);
-      if (!String.valueOf(expected).equals(remoteSize.trim())) {
-        LOG.debug("upload file size validation failed, expected {}, but was {}", expected, remoteSize);
+    }
+    return upload(operation, operation.getContext().getFile(), os -> InputStreamPumper.transferTo(inputStream, os::write));
+  }
+
+  /**
+   * Appends the data missing from the remote file, then verifies the whole file with a single checksum exec.
+   * <p>
+   * The remote file is only resumed if its content is a prefix of the source. Otherwise, or if the resumed file
+   * doesn't pass the verification, it's truncated and the source is uploaded again in full, once.
+   */
+  private static boolean uploadResumable(PodOperationsImpl operation, String file, Path source) throws IOException {
+    long uploadRequestTimeoutEnd = uploadDeadline(operation);
+    long offset = remoteSize(operation, file, uploadRequestTimeoutEnd);
+    if (offset > Files.size(source)) {
+      LOG.debug("the remote file {} is larger than the data to upload, uploading it again", file);
+      offset = 0;
+    }
+    Boolean uploaded = uploadFrom(operation, file, source, offset, uploadRequestTimeoutEnd);
+    if (uploaded == null) {
+      uploaded = uploadFrom(operation, file, source, 0, uploadRequestTimeoutEnd);
+    }
+    return uploaded;
+  }
+
+  /**
+   * Uploads the source from the offset, appending to the remote file, or replacing it if the offset is 0.
+   *
+   * @return whether the upload succeeded, or null if the remote file didn't match the source and has to be uploaded
+   *         again in full
+   */
+  private static Boolean uploadFrom(PodOperationsImpl operation, String file, Path source, long offset,
+      long uploadRequestTimeoutEnd) throws IOException {
+    MessageDigest digest = sha256();
+    try (InputStream in = new DigestInputStream(Files.newInputStream(source), digest)) {
+      if (offset > 0) {
+        // read rather than skip the uploaded part, so that it's included in the checksum
+        MessageDigest prefix = sha256();
+        long skipped = 0;
+        byte[] buffer = new byte[8192];
+        while (skipped < offset) {
+          int read = in.read(buffer, 0, (int) Math.min(buffer.length, offset - skipped));
+          if (read < 0) {
+            throw new IOException("The size of " + source + " changed during the upload");
+          }
+          prefix.update(buffer, 0, read);
+          skipped += read;
+        }
+        if (!execSucceeds(operation, verifyPrefixCommand(shellQuote(file), offset, toHex(prefix.digest())),
+            uploadRequestTimeoutEnd)) {
+          LOG.debug("the remote file {} doesn't match the data to upload, uploading it again", file);
+          return null;
+        }
+        LOG.debug("resuming the upload of {} from byte {}", file, offset);
+      }
+
+      Transfer transfer = write(operation, createExecCommandForAppend(file, offset), uploadRequestTimeoutEnd, false,
+          os -> InputStreamPumper.transferTo(in, os::write));
+      if (transfer == null) {
         return false;
       }
+      if (!execSucceeds(operation, verifyCommand(shellQuote(file), offset + transfer.size, toHex(digest.digest())),
+          uploadRequestTimeoutEnd)) {
+        LOG.debug("upload checksum validation failed for {}", file);
+        return offset > 0 ? null : Boolean.FALSE;
+      }
+      return true;
     }
-    return true;
   }
 
-  public static boolean uploadFileData(PodOperationsImpl operation, InputStream inputStream)
-      throws IOException {
-    return upload(operation, operation.getContext().getFile(), os -> InputStreamPumper.transferTo(inputStream, os::write));
+  private static boolean execSucceeds(PodOperationsImpl operation, String command, long uploadRequestTimeoutEnd) {
+    try (ExecWatch execWatch = operation.redirectingInput().exec("sh", "-c", command)) {
+      return waitForSuccess(execWatch.exitCode(), uploadRequestTimeoutEnd);
+    }
+  }
+
+  private static long remoteSize(PodOperationsImpl operation, String file, long uploadRequestTimeoutEnd) {
+    ByteArrayOutputStream byteCount = new ByteArrayOutputStream();
+    try (ExecWatch countWatch = operation.writingOutput(byteCount).exec("sh", "-c",
+        String.format("if [ -f %1$s ]; then wc -c < %1$s; else echo 0; fi", shellQuote(file)))) {
+      if (waitForSuccess(countWatch.exitCode(), uploadRequestTimeoutEnd)) {
+        return Long.parseLong(new String(byteCount.toByteArray(), StandardCharsets.UTF_8).trim());
+      }
+    } catch (NumberFormatException e) {
+      LOG.debug("unexpected size of the remote file {}", file, e);
+    }
+    return 0;
   }
 
   private static boolean uploadTar(PodOperationsImpl operation, String directory,
       UploadProcessor<TarArchiveOutputStream> processor)
       throws IOException {
 
+    if (operation.getContext().isCompressed()) {
+      return uploadVerifiedTar(operation, directory, processor);
+    }
+
     String fileName = String.format("/tmp/fabric8-%s.tar", UUID.randomUUID());
 
     boolean uploaded = upload(operation, fileName, os -> {
@@ -146,14 +299,7 @@ public class PodUpload {
     });
 
     if (!uploaded) {
-      // best effort delete of the failed upload
-      try (ExecWatch rm = operation.writingOutput(new ByteArrayOutputStream()).exec("sh", "-c",
-          String.format("rm %s", fileName))) {
-        if (!Utils.waitUntilReady(rm.exitCode(), operation.getRequestConfig().getUploadRequestTimeout(), TimeUnit.MILLISECONDS)
-            || !Integer.valueOf(0).equals(rm.exitCode().getNow(null))) {
-          LOG.warn("delete of temporary tar file {} may not have completed", fileName);
-        }
-      }
+      deleteQuietly(operation, fileName);
       return false;
     }
 
@@ -168,24 +314,188 @@ public class PodUpload {
 
   }
 
+  /**
+   * Uploads the tar, optionally compressed, then verifies its checksum and extracts it with a single exec.
+   */
+  private static boolean uploadVerifiedTar(PodOperationsImpl operation, String directory,
+      UploadProcessor<TarArchiveOutputStream> processor) throws IOException {
+    boolean compressed = operation.getContext().isCompressed();
+    String fileName = String.format("/tmp/fabric8-%s.tar%s", UUID.randomUUID(), compressed ? ".gz" : "");
+    long uploadRequestTimeoutEnd = uploadDeadline(operation);
+
+    Transfer transfer = write(operation, createExecCommandForUpload(fileName), uploadRequestTimeoutEnd, true, os -> {
+      try (final TarArchiveOutputStream tar = new TarArchiveOutputStream(
+          compressed ? new GZIPOutputStream(os) : os)) {
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        processor.process(tar);
+      }
+    });
+
+    if (transfer == null) {
+      deleteQuietly(operation, fileName);
+      return false;
+    }
+
+    final String command = verifyAndExtractTarCommand(directory, fileName, transfer, compressed);
+
+    try (ExecWatch execWatch = operation.redirectingInput().exec("sh", "-c", command)) {
+      if (!waitForSuccess(execWatch.exitCode(), uploadRequestTimeoutEnd)) {
+        LOG.debug("failed to verify or extract {}", fileName);
+        return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Splits the files of the directory by size between the streams, each one uploaded as a separate tar.
+   */
+  private static boolean uploadTarParallel(PodOperationsImpl operation, String directory, File source, int streams)
+      throws IOException {
+    List<List<TarEntry>> parts = partition(source, streams);
+    List<CompletableFuture<Boolean>> uploads = new ArrayList<>(parts.size());
+    for (List<TarEntry> part : parts) {
+      uploads.add(CompletableFuture.supplyAsync(() -> {
+        try {
+          return uploadVerifiedTar(operation, directory, tar -> {
+            for (TarEntry entry : part) {
+              addEntryToTar(entry.name, entry.file, tar);
+            }
+          });
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, operation.getOperationContext().getExecutor()));
+    }
+    try {
+      boolean uploaded = true;
+      for (CompletableFuture<Boolean> upload : uploads) {
+        uploaded &= upload.join();
+      }
+      return uploaded;
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static final class TarEntry {
+
+    private final String name;
+    private final File file;
+
+    private TarEntry(String name, File file) {
+      this.name = name;
+      this.file = file;
+    }
+  }
+
+  /**
+   * Assigns each file to the part with the smallest total size, largest files first. Directory entries all go to the
+   * first part, the others create the parent directories they need when extracted.
+   */
+  private static List<List<TarEntry>> partition(File source, int streams) {
+    List<TarEntry> directories = new ArrayList<>();
+    List<TarEntry> files = new ArrayList<>();
+    collectEntries(source.listFiles(), "", directories, files);
+    files.sort(Comparator.comparingLong((TarEntry entry) -> entry.file.length()).reversed());
+
+    int count = Math.max(1, Math.min(streams, files.size()));
+    List<List<TarEntry>> parts = new ArrayList<>(count);
+    long[] sizes = new long[count];
+    for (int i = 0; i < count; i++) {
+      parts.add(new ArrayList<>());
+    }
+    parts.get(0).addAll(directories);
+    for (TarEntry file : files) {
+      int smallest = 0;
+      for (int i = 1; i < count; i++) {
+        if (sizes[i] < sizes[smallest]) {
+          smallest = i;
+        }
+      }
+      parts.get(smallest).add(file);
+      sizes[smallest] += file.file.length();
+    }
+    return parts;
+  }
+
+  private static void collectEntries(File[] children, String prefix, List<TarEntry> directories, List<TarEntry> files) {
+    for (File child : children) {
+      String name = prefix + child.getName();
+      if (child.isDirectory()) {
+        directories.add(new TarEntry(name, child));
+        collectEntries(child.listFiles(), name + TAR_PATH_DELIMITER, directories, files);
+      } else if (child.isFile()) {
+        files.add(new TarEntry(name, child));
+      }
+    }
+  }
+
+  private static void deleteQuietly(PodOperationsImpl operation, String fileName) {
+    // best effort delete of the failed upload
+    try (ExecWatch rm = operation.writingOutput(new ByteArrayOutputStream()).exec("sh", "-c",
+        String.format("rm %s", fileName))) {
+      if (!Utils.waitUntilReady(rm.exitCode(), operation.getRequestConfig().getUploadRequestTimeout(), TimeUnit.MILLISECONDS)
+          || !Integer.valueOf(0).equals(rm.exitCode().getNow(null))) {
+        LOG.warn("delete of temporary tar file {} may not have completed", fileName);
+      }
+    }
+  }
+
   static String extractTarCommand(String directory, String tar) {
     return String.format("mkdir -p %1$s; tar -C %1$s -xmf %2$s; e=$?; rm %2$s; exit $e", shellQuote(directory), tar);
   }
 
+  private static String verifyAndExtractTarCommand(String directory, String tar, Transfer transfer,
+      boolean compressed) {
+    return String.format("%3$s && mkdir -p %1$s && tar -C %1$s -xm%4$sf %2$s; e=$?; rm %2$s; exit $e",
+        shellQuote(directory), tar, verifyCommand(tar, transfer.size, transfer.checksum), compressed ? "z" : "");
+  }
+
+  /**
+   * Checks the SHA-256 checksum of the file, or only its size when sha256sum isn't available in the container.
+   *
+   * @param file the already quoted file
+   */
+  static String verifyCommand(String file, long size, String checksum) {
+    return String.format(
+        "if command -v sha256sum > /dev/null 2>&1; then set -- $(sha256sum < %1$s); [ \"$1\" = %3$s ]; "
+            + "else [ \"$(wc -c < %1$s)\" -eq %2$d ]; fi",
+        file, size, checksum);
+  }
+
+  /**
+   * Checks the SHA-256 checksum of the first bytes of the file. Fails when sha256sum isn't available in the container,
+   * as the content can't be compared.
+   *
+   * @param file the already quoted file
+   */
+  static String verifyPrefixCommand(String file, long size, String checksum) {
+    return String.format("set -- $(head -c %2$d %1$s | sha256sum); [ \"$1\" = %3$s ]", file, size, checksum);
+  }
+
   private static void addFileToTar(String fileName, File file, TarArchiveOutputStream tar)
       throws IOException {
-    tar.putArchiveEntry(new TarArchiveEntry(file, fileName));
-    if (file.isFile()) {
-      Files.copy(file.toPath(), tar);
-      tar.closeArchiveEntry();
-    } else if (file.isDirectory()) {
-      tar.closeArchiveEntry();
+    addEntryToTar(fileName, file, tar);
+    if (file.isDirectory()) {
       for (File fileInDirectory : file.listFiles()) {
         addFileToTar(fileName + TAR_PATH_DELIMITER + fileInDirectory.getName(), fileInDirectory, tar);
       }
     }
   }
 
+  private static void addEntryToTar(String fileName, File file, TarArchiveOutputStream tar)
+      throws IOException {
+    tar.putArchiveEntry(new TarArchiveEntry(file, fileName));
+    if (file.isFile()) {
+      Files.copy(file.toPath(), tar);
+    }
+    tar.closeArchiveEntry();
+  }
+
   static String createExecCommandForUpload(String file) {
     String directoryTrimmedFromFilePath = file.substring(0, file.lastIndexOf('/'));
     final String directory = directoryTrimmedFromFilePath.isEmpty() ? "/" : directoryTrimmedFromFilePath;
@@ -193,4 +503,30 @@ public class PodUpload {
         "mkdir -p %s && cat - > %s", shellQuote(directory), shellQuote(file));
   }
 
+  static String createExecCommandForAppend(String file, long offset) {
+    if (offset == 0) {
+      return createExecCommandForUpload(file);
+    }
+    String directoryTrimmedFromFilePath = file.substring(0, file.lastIndexOf('/'));
+    final String directory = directoryTrimmedFromFilePath.isEmpty() ? "/" : directoryTrimmedFromFilePath;
+    return String.format(
+        "mkdir -p %s && cat - >> %s", shellQuote(directory), shellQuote(file));
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
 }
@@ -38,8 +38,10 @@ import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
 import io.fabric8.kubernetes.client.extension.ExtensionAdapter;
 import io.fabric8.kubernetes.client.extension.SupportTestingClient;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.informers.impl.InformerRegistry;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.TokenRefreshInterceptor;
 import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.net.HttpURLConnection;
@@ -49,6 +51,7 @@ import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Predicate;
 
 public abstract class BaseClient implements Client {
@@ -83,6 +86,8 @@ public abstract class BaseClient implements Client {
   private OperationSupport operationSupport;
   private ExecutorSupplier executorSupplier;
   private Executor executor;
+  private ThreadFactory dedicatedThreadFactory;
+  private final InformerRegistry informerRegistry;
   protected KubernetesSerialization kubernetesSerialization;
 
   private OperationContext operationContext;
@@ -95,6 +100,8 @@ public abstract class BaseClient implements Client {
     this.matchingGroupPredicate = baseClient.matchingGroupPredicate;
     this.executorSupplier = baseClient.executorSupplier;
     this.executor = baseClient.executor;
+    this.dedicatedThreadFactory = baseClient.dedicatedThreadFactory;
+    this.informerRegistry = baseClient.informerRegistry;
     this.kubernetesSerialization = baseClient.kubernetesSerialization;
     setDerivedFields();
     if (baseClient.operationContext != null) {
@@ -114,6 +121,10 @@ public abstract class BaseClient implements Client {
     }
     this.executorSupplier = executorSupplier;
     this.executor = executorSupplier.get();
+    // token refreshes in the background use the executor of the client
+    this.httpClient = this.httpClient.newBuilder().tag(new TokenRefreshInterceptor.RefreshExecutor(executor)).build();
+    this.dedicatedThreadFactory = executorSupplier.getDedicatedThreadFactory();
+    this.informerRegistry = new InformerRegistry();
     this.kubernetesSerialization = kubernetesSerialization;
   }
 
@@ -360,6 +371,20 @@ public abstract class BaseClient implements Client {
     return executor;
   }
 
+  /**
+   * @return the {@link ThreadFactory} for long running blocking tasks, or null to use the default
+   */
+  public ThreadFactory getDedicatedThreadFactory() {
+    return dedicatedThreadFactory;
+  }
+
+  /**
+   * @return the informers shared by the users of this client
+   */
+  public InformerRegistry getInformerRegistry() {
+    return informerRegistry;
+  }
+
   @Override
   public String raw(String uri) {
     try {
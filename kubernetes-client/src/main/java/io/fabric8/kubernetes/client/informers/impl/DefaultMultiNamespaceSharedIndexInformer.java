@@ -0,0 +1,280 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.informers.MultiNamespaceSharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.impl.cache.MultiNamespaceReflector;
+import io.fabric8.kubernetes.client.informers.impl.cache.NamespaceScopedStore;
+import io.fabric8.kubernetes.client.informers.impl.cache.Reflector;
+import io.fabric8.kubernetes.client.informers.impl.cache.SyncableStore;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Informer for a set of namespaces.
+ * <p>
+ * Above {@link #CLUSTER_WIDE_THRESHOLD} namespaces a single cluster wide list and watch is used, and only the
+ * resources of the namespaces are stored. Otherwise each namespace has its own list and watch. The choice is made
+ * on creation, adding or removing namespaces does not change it.
+ */
+public class DefaultMultiNamespaceSharedIndexInformer<T extends HasMetadata, L extends KubernetesResourceList<T>>
+    extends DefaultSharedIndexInformer<T, L> implements MultiNamespaceSharedIndexInformer<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(DefaultMultiNamespaceSharedIndexInformer.class);
+
+  /**
+   * The number of namespaces above which a cluster wide watch is used rather than a watch per namespace
+   */
+  public static final int CLUSTER_WIDE_THRESHOLD = 20;
+
+  private final Set<String> namespaces;
+  private final Function<String, ListerWatcher<T, L>> listerWatchers;
+  private final boolean clusterWide;
+
+  /**
+   * @param apiTypeClass the resource type
+   * @param listerWatchers provides the lister watcher of a namespace, or the cluster wide one for null
+   * @param namespaces the initial namespaces
+   * @param resyncPeriod the resync period
+   * @param informerExecutor the executor
+   */
+  public DefaultMultiNamespaceSharedIndexInformer(Class<T> apiTypeClass,
+      Function<String, ListerWatcher<T, L>> listerWatchers, Collection<String> namespaces, long resyncPeriod,
+      Executor informerExecutor) {
+    this(apiTypeClass, listerWatchers, newNamespaceSet(namespaces), namespaces.size() > CLUSTER_WIDE_THRESHOLD,
+        resyncPeriod, informerExecutor);
+  }
+
+  private DefaultMultiNamespaceSharedIndexInformer(Class<T> apiTypeClass,
+      Function<String, ListerWatcher<T, L>> listerWatchers, Set<String> namespaces, boolean clusterWide,
+      long resyncPeriod, Executor informerExecutor) {
+    super(apiTypeClass, listerWatchers.apply(null), resyncPeriod, informerExecutor,
+        (listerWatcher, store) -> clusterWide
+            ? new ClusterWideReflector<>(listerWatcher, new ClusterWideStore<>(store, namespaces))
+            : new MultiNamespaceReflector<>(listerWatcher, store, listerWatchers, namespaces));
+    this.namespaces = namespaces;
+    this.listerWatchers = listerWatchers;
+    this.clusterWide = clusterWide;
+  }
+
+  private static Set<String> newNamespaceSet(Collection<String> namespaces) {
+    Set<String> result = ConcurrentHashMap.newKeySet();
+    result.addAll(namespaces);
+    return result;
+  }
+
+  public boolean isClusterWide() {
+    return clusterWide;
+  }
+
+  @Override
+  public Set<String> getNamespaces() {
+    return Collections.unmodifiableSet(namespaces);
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> addNamespace(String namespace) {
+    if (namespaces.contains(namespace)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    if (!clusterWide) {
+      namespaces.add(namespace);
+      return ((MultiNamespaceReflector<T, L>) getReflector()).addNamespace(namespace);
+    }
+    ClusterWideStore<T> store = ((ClusterWideReflector<T, L>) getReflector()).store;
+    if (!isRunning()) {
+      // will be part of the initial list
+      store.addNamespace(namespace, false);
+      return CompletableFuture.completedFuture(null);
+    }
+    // the cluster wide watch now passes the events of the namespace, the list only adds what it has not handled yet
+    log.debug("Listing added namespace {} for {}", namespace, this);
+    Map<String, String> handled = store.addNamespace(namespace, true);
+    return catchUp(listerWatchers.apply(namespace), store, handled, null)
+        .whenComplete((meta, t) -> store.caughtUp(namespace, handled))
+        .thenApply(meta -> null);
+  }
+
+  /**
+   * List the added namespace page by page, with the limit of the informer, as the reflector does
+   */
+  private CompletableFuture<ListMeta> catchUp(ListerWatcher<T, L> listerWatcher, ClusterWideStore<T> store,
+      Map<String, String> handled, String continueVal) {
+    ListOptions listOptions = new ListOptionsBuilder().withLimit(listerWatcher.getLimit()).withContinue(continueVal)
+        .build();
+    return listerWatcher.submitList(listOptions, item -> store.merge(item, handled)).thenCompose(result -> {
+      String nextContinueVal = result.getContinue();
+      if (Utils.isNotNullOrEmpty(nextContinueVal)) {
+        return catchUp(listerWatcher, store, handled, nextContinueVal);
+      }
+      return CompletableFuture.completedFuture(result);
+    });
+  }
+
+  @Override
+  public synchronized void removeNamespace(String namespace) {
+    if (!namespaces.remove(namespace)) {
+      return;
+    }
+    if (!clusterWide) {
+      ((MultiNamespaceReflector<T, L>) getReflector()).removeNamespace(namespace);
+    } else {
+      ((ClusterWideReflector<T, L>) getReflector()).store.removeNamespace(namespace);
+    }
+  }
+
+  private static class ClusterWideReflector<T extends HasMetadata, L extends KubernetesResourceList<T>>
+      extends Reflector<T, L> {
+
+    private final ClusterWideStore<T> store;
+
+    ClusterWideReflector(ListerWatcher<T, L> listerWatcher, ClusterWideStore<T> store) {
+      super(listerWatcher, store);
+      this.store = store;
+    }
+
+  }
+
+  /**
+   * The store of the cluster wide reflector, limited to the namespaces.
+   * <p>
+   * The changes of the watch and the merge of the list of an added namespace hold the same lock, so that a listed
+   * item never replaces a newer one from the watch, nor restores one that the watch has deleted in the meantime.
+   */
+  static class ClusterWideStore<T extends HasMetadata> extends NamespaceScopedStore<T> {
+
+    private final Set<String> namespaces;
+    // by namespace being listed, the resourceVersion of each key changed by the watch - null for a deletion
+    private final Map<String, Map<String, String>> catchingUp = new HashMap<>();
+
+    ClusterWideStore(SyncableStore<T> store, Set<String> namespaces) {
+      super(store, namespaces::contains);
+      this.namespaces = namespaces;
+    }
+
+    /**
+     * @return the changes handled by the watch while the namespace is listed, when catching up
+     */
+    synchronized Map<String, String> addNamespace(String namespace, boolean catchUp) {
+      namespaces.add(namespace);
+      if (!catchUp) {
+        return null;
+      }
+      Map<String, String> handled = new HashMap<>();
+      catchingUp.put(namespace, handled);
+      return handled;
+    }
+
+    synchronized void removeNamespace(String namespace) {
+      catchingUp.remove(namespace);
+      super.retainAll(key -> !namespace.equals(getByKey(key).getMetadata().getNamespace()));
+      namespaces.remove(namespace);
+    }
+
+    /**
+     * Add a listed item of a namespace being caught up, unless the watch has already handled the same or a later
+     * version of it
+     */
+    synchronized void merge(T item, Map<String, String> handled) {
+      if (catchingUp.get(item.getMetadata().getNamespace()) != handled) {
+        return; // the namespace has been removed since
+      }
+      String key = getKey(item);
+      if (handled.containsKey(key)) {
+        String resourceVersion = handled.get(key);
+        if (resourceVersion == null || !isNewer(item.getMetadata().getResourceVersion(), resourceVersion)) {
+          return;
+        }
+      }
+      super.update(item);
+    }
+
+    synchronized void caughtUp(String namespace, Map<String, String> handled) {
+      catchingUp.remove(namespace, handled);
+    }
+
+    private static boolean isNewer(String resourceVersion, String other) {
+      try {
+        return Long.parseLong(resourceVersion) > Long.parseLong(other);
+      } catch (NumberFormatException e) {
+        // not comparable, the watch will deliver the latest version
+        return false;
+      }
+    }
+
+    private void handled(T obj, String resourceVersion) {
+      Map<String, String> handled = catchingUp.get(obj.getMetadata().getNamespace());
+      if (handled != null) {
+        handled.put(getKey(obj), resourceVersion);
+      }
+    }
+
+    @Override
+    public synchronized void add(T obj) {
+      handled(obj, obj.getMetadata().getResourceVersion());
+      super.add(obj);
+    }
+
+    @Override
+    public synchronized void update(T obj) {
+      handled(obj, obj.getMetadata().getResourceVersion());
+      super.update(obj);
+    }
+
+    @Override
+    public synchronized void update(List<T> items) {
+      items.forEach(obj -> handled(obj, obj.getMetadata().getResourceVersion()));
+      super.update(items);
+    }
+
+    @Override
+    public synchronized void delete(T obj) {
+      handled(obj, null);
+      super.delete(obj);
+    }
+
+    @Override
+    public synchronized void retainAll(Predicate<String> retain) {
+      super.retainAll(key -> {
+        if (retain.test(key)) {
+          return true;
+        }
+        handled(getByKey(key), null);
+        return false;
+      });
+    }
+
+  }
+
+}
@@ -18,16 +18,20 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.EventQueuePolicy;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Store;
 import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import io.fabric8.kubernetes.client.informers.impl.cache.ConcurrentCacheImpl;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorStore;
 import io.fabric8.kubernetes.client.informers.impl.cache.Reflector;
 import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
+import io.fabric8.kubernetes.client.informers.impl.cache.SyncableStore;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +43,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -61,7 +66,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private final Reflector<T, L> reflector;
   private final Class<T> apiTypeClass;
   private final ProcessorStore<T> processorStore;
-  private final CacheImpl<T> indexer = new CacheImpl<>();
+  private volatile CacheImpl<T> indexer = new CacheImpl<>();
   private final SharedProcessor<T> processor;
   private final Executor informerExecutor;
   private final String description;
@@ -75,6 +80,14 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
       Executor informerExecutor) {
+    this(apiTypeClass, listerWatcher, resyncPeriod, informerExecutor, Reflector::new);
+  }
+
+  /**
+   * @param reflectorFactory creates the {@link Reflector} populating the store
+   */
+  protected DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
+      Executor informerExecutor, BiFunction<ListerWatcher<T, L>, SyncableStore<T>, Reflector<T, L>> reflectorFactory) {
     if (resyncPeriod < 0) {
       throw new IllegalArgumentException("Invalid resync period provided, It should be a non-negative value");
     }
@@ -88,7 +101,15 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     this.processor = new SharedProcessor<>(informerExecutor, description);
 
     processorStore = new ProcessorStore<>(this.indexer, this.processor);
-    this.reflector = new Reflector<>(listerWatcher, processorStore);
+    this.reflector = reflectorFactory.apply(listerWatcher, processorStore);
+  }
+
+  Reflector<T, L> getReflector() {
+    return reflector;
+  }
+
+  ProcessorStore<T> getProcessorStore() {
+    return processorStore;
   }
 
   /**
@@ -105,6 +126,16 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   @Override
   public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
       long resyncPeriodMillis) {
+    return addEventHandler(handler, resyncPeriodMillis, false);
+  }
+
+  @Override
+  public SharedIndexInformer<T> addCoalescingEventHandler(ResourceEventHandler<? super T> handler) {
+    return addEventHandler(handler, defaultEventHandlerResyncPeriod, true);
+  }
+
+  private SharedIndexInformer<T> addEventHandler(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
+      boolean coalesce) {
     if (stopped) {
       log.info("DefaultSharedIndexInformer#Handler was not added to {} because it has stopped already", this);
       return this;
@@ -132,9 +163,20 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
       }
     }
 
-    this.processor.addProcessorListener(handler,
-        determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis), this.indexer::list);
+    long resyncPeriod = determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis);
+    if (coalesce) {
+      this.processor.addCoalescingProcessorListener(handler, resyncPeriod, obj -> this.indexer.getKey(obj),
+          this.indexer::list);
+    } else {
+      this.processor.addProcessorListener(handler, resyncPeriod, this.indexer::list);
+    }
+
+    return this;
+  }
 
+  @Override
+  public SharedIndexInformer<T> removeEventHandler(ResourceEventHandler<? super T> handler) {
+    this.processor.removeListener(handler);
     return this;
   }
 
@@ -279,6 +321,51 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> lockFreeIndexReads() {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when changing the indexer");
+    }
+    if (!(this.indexer instanceof ConcurrentCacheImpl)) {
+      this.indexer = new ConcurrentCacheImpl<>(this.indexer);
+      this.processorStore.setCache(this.indexer);
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> streamingList() {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when changing the list behavior");
+    }
+    this.reflector.usingStreamingList();
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> watchList() {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when changing the list behavior");
+    }
+    this.reflector.usingWatchList();
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> eventQueue(int capacity, EventQueuePolicy policy) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when changing the event queue");
+    }
+    // the indexer may still be replaced, so it is not captured directly
+    this.processor.configureQueue(capacity, policy, obj -> this.indexer.getKey(obj), () -> this.indexer.list());
+    return this;
+  }
+
+  @Override
+  public InformerMetrics getMetrics() {
+    return this.processor.getMetrics();
+  }
+
   @Override
   public String toString() {
     return this.description;
@@ -0,0 +1,414 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.EventQueuePolicy;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reference counted informers shared by the users of a client.
+ * <p>
+ * Each user gets its own reference to the informer for a key, the informer is stopped once all references are
+ * stopped. Handlers added through a reference are removed when it is stopped.
+ * <p>
+ * Options that can only be set before an informer is started, such as the item store or the exception handler, are
+ * kept by each reference, and applied by the one that starts the shared informer. Setting a different option through
+ * another reference, or starting it with one, then fails rather than affecting the other users. Likewise, a reference
+ * can only remove the indexers added through it.
+ */
+public class InformerRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(InformerRegistry.class);
+
+  private static class Entry {
+    private final SharedIndexInformer<?> informer;
+    private int references;
+    // the options of the reference that started the informer, null until then
+    private Options<?> options;
+
+    Entry(SharedIndexInformer<?> informer) {
+      this.informer = informer;
+    }
+  }
+
+  /**
+   * The options of a reference that can only be applied before the informer is started
+   */
+  private static class Options<T> {
+    private ItemStore<T> itemStore;
+    private Stream<T> initialState;
+    private ExceptionHandler exceptionHandler;
+    private int eventQueueCapacity;
+    private EventQueuePolicy eventQueuePolicy;
+    private boolean lockFreeIndexReads;
+    private boolean streamingList;
+    private boolean watchList;
+
+    private void applyTo(SharedIndexInformer<T> informer) {
+      if (itemStore != null) {
+        informer.itemStore(itemStore);
+      }
+      if (initialState != null) {
+        informer.initialState(initialState);
+      }
+      if (exceptionHandler != null) {
+        informer.exceptionHandler(exceptionHandler);
+      }
+      if (eventQueuePolicy != null) {
+        informer.eventQueue(eventQueueCapacity, eventQueuePolicy);
+      }
+      if (lockFreeIndexReads) {
+        informer.lockFreeIndexReads();
+      }
+      if (streamingList) {
+        informer.streamingList();
+      }
+      if (watchList) {
+        informer.watchList();
+      }
+    }
+
+    /**
+     * @return the option set differently from those the informer was started with, or null if there is none
+     */
+    private String conflictWith(Options<?> started) {
+      if (itemStore != null && itemStore != started.itemStore) {
+        return "item store";
+      }
+      if (initialState != null) {
+        return "initial state";
+      }
+      if (exceptionHandler != null && exceptionHandler != started.exceptionHandler) {
+        return "exception handler";
+      }
+      if (eventQueuePolicy != null
+          && (eventQueueCapacity != started.eventQueueCapacity || eventQueuePolicy != started.eventQueuePolicy)) {
+        return "event queue";
+      }
+      if (lockFreeIndexReads && !started.lockFreeIndexReads) {
+        return "indexer";
+      }
+      if ((streamingList && !started.streamingList) || (watchList && !started.watchList)) {
+        return "list behavior";
+      }
+      return null;
+    }
+  }
+
+  private final Map<Object, Entry> informers = new HashMap<>();
+
+  /**
+   * Get a reference to the informer for the key, created with the supplier if there is none.
+   *
+   * @param key identifies the informer, typically the resource type, namespace and selectors
+   * @param supplier creates the informer, which should not be running
+   * @param resync the default resync period of the handlers added through the reference
+   * @return a new reference to the informer
+   */
+  public synchronized <T> SharedIndexInformer<T> acquire(Object key, Supplier<SharedIndexInformer<T>> supplier,
+      long resync) {
+    Entry entry = informers.get(key);
+    if (entry == null) {
+      entry = new Entry(supplier.get());
+      informers.put(key, entry);
+      Entry created = entry;
+      // a terminated informer can't be restarted, the next user will get a new one
+      entry.informer.stopped().whenComplete((v, t) -> remove(key, created));
+    }
+    entry.references++;
+    return new Reference<>(key, entry, (SharedIndexInformer<T>) entry.informer, resync);
+  }
+
+  /**
+   * @return the number of shared informers
+   */
+  public synchronized int size() {
+    return informers.size();
+  }
+
+  private synchronized void remove(Object key, Entry entry) {
+    informers.remove(key, entry);
+  }
+
+  private void release(Object key, Entry entry) {
+    synchronized (this) {
+      if (--entry.references > 0) {
+        return;
+      }
+      informers.remove(key, entry);
+    }
+    log.debug("Stopping the shared informer for {} as it is no longer referenced", key);
+    entry.informer.stop();
+  }
+
+  private class Reference<T> implements SharedIndexInformer<T> {
+
+    private final Object key;
+    private final Entry entry;
+    private final SharedIndexInformer<T> informer;
+    private final long resync;
+    private final Options<T> options = new Options<>();
+    private final Set<String> indexers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<ResourceEventHandler<? super T>> handlers = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+
+    Reference(Object key, Entry entry, SharedIndexInformer<T> informer, long resync) {
+      this.key = key;
+      this.entry = entry;
+      this.informer = informer;
+      this.resync = resync;
+      informer.stopped().whenComplete((v, t) -> {
+        if (t != null) {
+          stopped.completeExceptionally(t);
+        } else {
+          stopped.complete(null);
+        }
+      });
+    }
+
+    @Override
+    public SharedIndexInformer<T> addIndexers(Map<String, Function<T, List<String>>> indexers) {
+      Map<String, Function<T, List<String>>> added = new HashMap<>(indexers);
+      synchronized (InformerRegistry.this) {
+        // the same indexer may already have been added by another user with the same options
+        Map<String, Function<T, List<String>>> existing = informer.getIndexer().getIndexers();
+        added.entrySet().removeIf(e -> existing.get(e.getKey()) == e.getValue());
+        informer.addIndexers(added);
+      }
+      this.indexers.addAll(added.keySet());
+      return this;
+    }
+
+    @Override
+    public SharedIndexInformer<T> removeIndexer(String name) {
+      // the other users may rely on the indexers they added
+      if (!indexers.remove(name)) {
+        throw new KubernetesClientException(String.format(
+            "The indexer %s of the shared informer for %s was not added through this reference", name, key));
+      }
+      informer.removeIndexer(name);
+      return this;
+    }
+
+    @Override
+    public Indexer<T> getIndexer() {
+      return informer.getIndexer();
+    }
+
+    @Override
+    public SharedIndexInformer<T> addEventHandler(ResourceEventHandler<? super T> handler) {
+      return addEventHandlerWithResyncPeriod(handler, resync);
+    }
+
+    @Override
+    public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
+        long resyncPeriod) {
+      if (track(handler)) {
+        informer.addEventHandlerWithResyncPeriod(handler, resyncPeriod);
+      }
+      return this;
+    }
+
+    @Override
+    public SharedIndexInformer<T> addCoalescingEventHandler(ResourceEventHandler<? super T> handler) {
+      if (track(handler)) {
+        informer.addCoalescingEventHandler(handler);
+      }
+      return this;
+    }
+
+    private boolean track(ResourceEventHandler<? super T> handler) {
+      if (released.get()) {
+        log.info("Handler was not added to the shared informer for {} because its reference was stopped", key);
+        return false;
+      }
+      handlers.add(handler);
+      return true;
+    }
+
+    @Override
+    public SharedIndexInformer<T> removeEventHandler(ResourceEventHandler<? super T> handler) {
+      if (handlers.remove(handler)) {
+        informer.removeEventHandler(handler);
+      }
+      return this;
+    }
+
+    /**
+     * Set an option of the reference, failing if the shared informer was already started with a different one
+     */
+    private SharedIndexInformer<T> configure(Consumer<Options<T>> option) {
+      synchronized (InformerRegistry.this) {
+        option.accept(options);
+        checkOptions();
+      }
+      return this;
+    }
+
+    private void checkOptions() {
+      if (entry.options != null && entry.options != options) {
+        String conflict = options.conflictWith(entry.options);
+        if (conflict != null) {
+          throw new KubernetesClientException(String.format(
+              "The shared informer for %s was started with a different %s by another user", key, conflict));
+        }
+      }
+    }
+
+    /**
+     * Apply the options of the reference if it's the first to start the shared informer
+     */
+    private void applyOptions() {
+      synchronized (InformerRegistry.this) {
+        if (entry.options == null) {
+          options.applyTo(informer);
+          entry.options = options;
+        } else {
+          checkOptions();
+        }
+      }
+    }
+
+    @Override
+    public SharedIndexInformer<T> run() {
+      applyOptions();
+      informer.run();
+      return this;
+    }
+
+    @Override
+    public void stop() {
+      if (!released.compareAndSet(false, true)) {
+        return;
+      }
+      ResourceEventHandler<? super T> handler;
+      while ((handler = handlers.poll()) != null) {
+        informer.removeEventHandler(handler);
+      }
+      release(key, entry);
+      stopped.complete(null);
+    }
+
+    @Override
+    public String lastSyncResourceVersion() {
+      return informer.lastSyncResourceVersion();
+    }
+
+    @Override
+    public boolean isRunning() {
+      return !released.get() && informer.isRunning();
+    }
+
+    @Override
+    public Class<T> getApiTypeClass() {
+      return informer.getApiTypeClass();
+    }
+
+    @Override
+    public boolean isWatching() {
+      return !released.get() && informer.isWatching();
+    }
+
+    @Override
+    public Store<T> getStore() {
+      return informer.getStore();
+    }
+
+    @Override
+    public SharedIndexInformer<T> initialState(Stream<T> items) {
+      return configure(o -> o.initialState = items);
+    }
+
+    @Override
+    public SharedIndexInformer<T> itemStore(ItemStore<T> itemStore) {
+      return configure(o -> o.itemStore = itemStore);
+    }
+
+    @Override
+    public SharedIndexInformer<T> lockFreeIndexReads() {
+      return configure(o -> o.lockFreeIndexReads = true);
+    }
+
+    @Override
+    public SharedIndexInformer<T> streamingList() {
+      return configure(o -> o.streamingList = true);
+    }
+
+    @Override
+    public SharedIndexInformer<T> watchList() {
+      return configure(o -> o.watchList = true);
+    }
+
+    @Override
+    public SharedIndexInformer<T> eventQueue(int capacity, EventQueuePolicy policy) {
+      return configure(o -> {
+        o.eventQueueCapacity = capacity;
+        o.eventQueuePolicy = policy;
+      });
+    }
+
+    @Override
+    public InformerMetrics getMetrics() {
+      return informer.getMetrics();
+    }
+
+    @Override
+    public CompletionStage<Void> start() {
+      applyOptions();
+      return informer.start();
+    }
+
+    @Override
+    public SharedIndexInformer<T> exceptionHandler(ExceptionHandler handler) {
+      return configure(o -> o.exceptionHandler = handler);
+    }
+
+    @Override
+    public CompletionStage<Void> stopped() {
+      return stopped;
+    }
+
+    @Override
+    public String toString() {
+      return "Reference to " + informer;
+    }
+  }
+
+}
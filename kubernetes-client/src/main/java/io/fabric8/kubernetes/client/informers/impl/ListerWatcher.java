@@ -16,11 +16,13 @@
 package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * ListerWatcher is any object that knows how to perform an initial list and
@@ -34,6 +36,15 @@ public interface ListerWatcher<T extends HasMetadata, L> {
 
   CompletableFuture<L> submitList(ListOptions listOptions);
 
+  /**
+   * Perform a list, passing each item to the consumer as soon as it has been read from the response.
+   *
+   * @param listOptions the list options
+   * @param itemConsumer the consumer of items
+   * @return the future list metadata, completed after all items have been consumed
+   */
+  CompletableFuture<ListMeta> submitList(ListOptions listOptions, Consumer<T> itemConsumer);
+
   Long getLimit();
 
   int getWatchReconnectInterval();
@@ -51,6 +51,7 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
 
   private String name;
   private String namespace;
+  private boolean shared;
 
   private final KubernetesClient client;
 
@@ -70,6 +71,12 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
     return this;
   }
 
+  @Override
+  public SharedInformerFactory sharingClientInformers() {
+    this.shared = true;
+    return this;
+  }
+
   @Override
   public synchronized <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
       long resyncPeriodInMillis) {
@@ -89,7 +96,8 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
       informable = resources.inAnyNamespace();
     }
 
-    SharedIndexInformer<T> informer = informable.runnableInformer(resyncPeriodInMillis);
+    SharedIndexInformer<T> informer = shared ? informable.sharedRunnableInformer(resyncPeriodInMillis)
+        : informable.runnableInformer(resyncPeriodInMillis);
     this.informers.add(informer);
     return informer;
   }
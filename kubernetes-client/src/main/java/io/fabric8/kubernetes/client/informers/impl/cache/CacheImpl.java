@@ -25,12 +25,14 @@ import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,13 +46,13 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   public static final String NAMESPACE_INDEX = "namespace";
 
   // indexers stores index functions by their names
-  private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
   // items stores object instances
   private ItemStore<T> items;
 
   // indices stores objects' key by their indices
-  private final Map<String, Map<String, Set<String>>> indices = new HashMap<>();
+  private final Map<String, Map<String, Set<String>>> indices = new ConcurrentHashMap<>();
 
   public CacheImpl() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
@@ -61,6 +63,18 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     addIndexFunc(indexName, indexFunc);
   }
 
+  /**
+   * Create a cache using the same {@link ItemStore} and indexers as the given cache
+   *
+   * @param other the cache to copy
+   */
+  protected CacheImpl(CacheImpl<T> other) {
+    synchronized (other) {
+      this.items = other.items;
+      other.indexers.forEach(this::addIndexFunc);
+    }
+  }
+
   public void setItemStore(ItemStore<T> items) {
     this.items = items;
   }
@@ -71,7 +85,7 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return registered indexers
    */
   @Override
-  public synchronized Map<String, Function<T, List<String>>> getIndexers() {
+  public Map<String, Function<T, List<String>>> getIndexers() {
     return Collections.unmodifiableMap(indexers);
   }
 
@@ -180,30 +194,27 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public synchronized List<T> index(String indexName, T obj) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
+    return doIndex(indexName, obj);
+  }
+
+  List<T> doIndex(String indexName, T obj) {
     Function<T, List<String>> indexFunc = this.indexers.get(indexName);
-    List<String> indexKeys = indexFunc.apply(obj);
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    if (index.isEmpty()) {
+    Map<String, Set<String>> index = getIndex(indexName);
+    if (indexFunc == null || index.isEmpty()) {
       return new ArrayList<>();
     }
+    List<String> indexKeys = indexFunc.apply(obj);
 
     Set<String> returnKeySet = new HashSet<>();
     for (String indexKey : indexKeys) {
       Set<String> set = index.get(indexKey);
-      if (set.isEmpty()) {
+      if (set == null || set.isEmpty()) {
         continue;
       }
       returnKeySet.addAll(set);
     }
 
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
-      items.add(this.items.get(absoluteKey));
-    }
-    return items;
+    return getItems(returnKeySet);
   }
 
   /**
@@ -215,16 +226,16 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public synchronized List<String> indexKeys(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
+    return doIndexKeys(indexName, indexKey);
+  }
+
+  List<String> doIndexKeys(String indexName, String indexKey) {
+    Map<String, Set<String>> index = getIndex(indexName);
     Set<String> set = index.get(indexKey);
-    List<String> keys = new ArrayList<>(set.size());
-    for (String key : set) {
-      keys.add(key);
+    if (set == null) {
+      return new ArrayList<>();
     }
-    return keys;
+    return new ArrayList<>(set);
   }
 
   /**
@@ -236,52 +247,75 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public synchronized List<T> byIndex(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
+    return doByIndex(indexName, indexKey);
+  }
+
+  List<T> doByIndex(String indexName, String indexKey) {
+    Map<String, Set<String>> index = getIndex(indexName);
     Set<String> set = index.get(indexKey);
     if (set == null) {
       return Arrays.asList();
     }
-    List<T> items = new ArrayList<>(set.size());
-    for (String key : set) {
-      items.add(this.items.get(key));
+    return getItems(set);
+  }
+
+  private Map<String, Set<String>> getIndex(String indexName) {
+    Map<String, Set<String>> index = this.indices.get(indexName);
+    if (index == null) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
+    }
+    return index;
+  }
+
+  private List<T> getItems(Collection<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      T item = this.items.get(key);
+      // may be null if the read is not synchronized with a removal
+      if (item != null) {
+        result.add(item);
+      }
     }
-    return items;
+    return result;
   }
 
   /**
    * UpdateIndices modifies the objects location in the managed indexes, if there is
    * an update, you must provide an oldObj
-   *
+   * <p>
+   * The new index values are added before the stale ones are removed, so that an object
+   * whose index values have not changed is never absent from its index.
    *
    * @param oldObj old object
    * @param newObj new object
    * @param key the key
    */
   void updateIndices(T oldObj, T newObj, String key) {
-    if (oldObj != null) {
-      deleteFromIndices(oldObj, key);
-    }
-
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
       String indexName = indexEntry.getKey();
       Function<T, List<String>> indexFunc = indexEntry.getValue();
       Map<String, Set<String>> index = this.indices.get(indexName);
+      if (index == null) {
+        continue;
+      }
 
-      updateIndex(key, newObj, indexFunc, index);
+      List<String> newValues = updateIndex(key, newObj, indexFunc, index);
+      if (oldObj != null) {
+        deleteFromIndex(key, oldObj, indexFunc, index, newValues);
+      }
     }
   }
 
-  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index) {
+  private List<String> updateIndex(String key, T newObj, Function<T, List<String>> indexFunc,
+      Map<String, Set<String>> index) {
     List<String> indexValues = indexFunc.apply(newObj);
     if (indexValues != null && !indexValues.isEmpty()) {
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> new HashSet<>());
+        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> newIndexSet());
         indexSet.add(key);
       }
     }
+    return indexValues;
   }
 
   /**
@@ -294,25 +328,45 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   private void deleteFromIndices(T oldObj, String key) {
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : this.indexers.entrySet()) {
-      Function<T, List<String>> indexFunc = indexEntry.getValue();
-      List<String> indexValues = indexFunc.apply(oldObj);
-      if (indexValues == null || indexValues.isEmpty()) {
-        continue;
-      }
-
       Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
       if (index == null) {
         continue;
       }
-      for (String indexValue : indexValues) {
-        Set<String> indexSet = index.get(indexValue);
-        if (indexSet != null) {
-          indexSet.remove(key);
-        }
+      deleteFromIndex(key, oldObj, indexEntry.getValue(), index, null);
+    }
+  }
+
+  private void deleteFromIndex(String key, T oldObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index,
+      List<String> retainedValues) {
+    List<String> indexValues = indexFunc.apply(oldObj);
+    if (indexValues == null || indexValues.isEmpty()) {
+      return;
+    }
+    for (String indexValue : indexValues) {
+      if (retainedValues != null && retainedValues.contains(indexValue)) {
+        continue;
       }
+      index.computeIfPresent(indexValue, (k, indexSet) -> {
+        indexSet.remove(key);
+        return indexSet.isEmpty() ? null : indexSet;
+      });
     }
   }
 
+  /**
+   * Create the map holding the keys for each value of an index
+   */
+  Map<String, Set<String>> newIndex() {
+    return new HashMap<>();
+  }
+
+  /**
+   * Create the set holding the keys for a single index value
+   */
+  Set<String> newIndexSet() {
+    return new HashSet<>();
+  }
+
   /**
    * Add index func.
    *
@@ -320,11 +374,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param indexFunc the index func
    */
   public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    HashMap<String, Set<String>> index = new HashMap<>();
+    Map<String, Set<String>> index = newIndex();
+    items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
+
+    // publish the populated index before the function so that readers never see a partial index
     this.indices.put(indexName, index);
     this.indexers.put(indexName, indexFunc);
-
-    items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
     return this;
   }
 
@@ -388,8 +443,8 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
 
   @Override
   public synchronized void removeIndexer(String name) {
-    this.indices.remove(name);
     this.indexers.remove(name);
+    this.indices.remove(name);
   }
 
   public boolean isFullState() {
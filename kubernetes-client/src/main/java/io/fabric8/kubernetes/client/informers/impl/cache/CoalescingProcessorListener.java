@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * A {@link ProcessorListener} that delivers to its handler in its own serial executor. While a notification
+ * for a key is still pending, subsequent notifications for the same key are merged into it - keeping the
+ * original old object and the newest new object. A handler that falls behind will then see only the latest
+ * state, rather than every intermediate update.
+ *
+ * @param <T> type of ProcessorListener
+ */
+public class CoalescingProcessorListener<T> extends ProcessorListener<T> {
+  private static final Logger log = LoggerFactory.getLogger(CoalescingProcessorListener.class);
+
+  private final SerialExecutor executor;
+  private final Function<T, String> keyFunction;
+  private final Runnable onCoalesced;
+  private final Map<String, PendingNotification<T>> pending = new HashMap<>();
+
+  public CoalescingProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis,
+      Executor executor, Function<T, String> keyFunction, Runnable onCoalesced) {
+    super(handler, resyncPeriodInMillis);
+    this.executor = new SerialExecutor(executor);
+    this.keyFunction = keyFunction;
+    this.onCoalesced = onCoalesced;
+  }
+
+  @Override
+  public void add(Notification<T> notification) {
+    String key = keyFunction.apply(PendingNotification.getObject(notification));
+    PendingNotification<T> entry;
+    synchronized (pending) {
+      PendingNotification<T> existing = pending.get(key);
+      if (existing != null && existing.merge(notification)) {
+        onCoalesced.run();
+        return;
+      }
+      entry = new PendingNotification<>(notification);
+      pending.put(key, entry);
+    }
+    execute(() -> {
+      Notification<T> merged;
+      synchronized (pending) {
+        pending.remove(key, entry);
+        merged = entry.get();
+      }
+      if (merged != null) {
+        super.add(merged);
+      }
+    });
+  }
+
+  @Override
+  public void onNothing() {
+    // preserve the ordering with respect to pending notifications
+    execute(super::onNothing);
+  }
+
+  @Override
+  public void stop() {
+    executor.shutdownNow();
+    synchronized (pending) {
+      pending.clear();
+    }
+  }
+
+  private void execute(Runnable task) {
+    try {
+      executor.execute(() -> {
+        try {
+          task.run();
+        } catch (Exception ex) {
+          log.error("Failed invoking {} event handler: {}", getHandler(), ex.getMessage(), ex);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // stopped
+    }
+  }
+
+}
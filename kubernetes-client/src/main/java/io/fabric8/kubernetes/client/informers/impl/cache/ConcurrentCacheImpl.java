@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link CacheImpl} that allows for lock-free reads of the indexes.
+ * <p>
+ * Writes are still serialized on the cache, so the ordering with respect to the {@link ProcessorStore} is the same.
+ * Reads are weakly consistent - a concurrent index read may or may not reflect an in-flight write,
+ * but an object whose index values are unchanged by an update will not be missing from the results.
+ *
+ * @param <T> type for cache object
+ */
+public class ConcurrentCacheImpl<T extends HasMetadata> extends CacheImpl<T> {
+
+  public ConcurrentCacheImpl() {
+    this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
+  }
+
+  public ConcurrentCacheImpl(String indexName, Function<T, List<String>> indexFunc, Function<T, String> keyFunc) {
+    super(indexName, indexFunc, keyFunc);
+  }
+
+  /**
+   * Create a cache using the same {@link io.fabric8.kubernetes.client.informers.cache.ItemStore} and indexers as the given
+   * cache
+   *
+   * @param other the cache to copy
+   */
+  public ConcurrentCacheImpl(CacheImpl<T> other) {
+    super(other);
+  }
+
+  @Override
+  public List<T> index(String indexName, T obj) {
+    return doIndex(indexName, obj);
+  }
+
+  @Override
+  public List<String> indexKeys(String indexName, String indexKey) {
+    return doIndexKeys(indexName, indexKey);
+  }
+
+  @Override
+  public List<T> byIndex(String indexName, String indexKey) {
+    return doByIndex(indexName, indexKey);
+  }
+
+  @Override
+  Map<String, Set<String>> newIndex() {
+    return new ConcurrentHashMap<>();
+  }
+
+  @Override
+  Set<String> newIndexSet() {
+    return ConcurrentHashMap.newKeySet();
+  }
+
+}
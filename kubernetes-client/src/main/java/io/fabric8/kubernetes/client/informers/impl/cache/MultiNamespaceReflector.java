@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A {@link Reflector} for several namespaces, with a list and watch per namespace into a shared store.
+ * <br>
+ * Namespaces may be added and removed while running, without affecting the others. If any of the namespace
+ * reflectors terminates, they are all stopped.
+ */
+public class MultiNamespaceReflector<T extends HasMetadata, L extends KubernetesResourceList<T>> extends Reflector<T, L> {
+
+  private static final Logger log = LoggerFactory.getLogger(MultiNamespaceReflector.class);
+
+  private final SyncableStore<T> store;
+  private final Function<String, ListerWatcher<T, L>> listerWatchers;
+  private final Map<String, Reflector<T, L>> reflectors = new LinkedHashMap<>();
+  private final CompletableFuture<Void> startFuture = new CompletableFuture<>();
+  private final CompletableFuture<Void> stopFuture = new CompletableFuture<>();
+  private boolean started;
+  private ExceptionHandler handler;
+  private boolean streamingList;
+  private boolean watchList;
+
+  /**
+   * @param listerWatcher the cluster wide lister watcher, only used for its description
+   * @param store the shared store
+   * @param listerWatchers provides the lister watcher of a namespace
+   * @param namespaces the initial namespaces
+   */
+  public MultiNamespaceReflector(ListerWatcher<T, L> listerWatcher, SyncableStore<T> store,
+      Function<String, ListerWatcher<T, L>> listerWatchers, Collection<String> namespaces) {
+    super(listerWatcher, store);
+    this.store = store;
+    this.listerWatchers = listerWatchers;
+    namespaces.forEach(this::newReflector);
+  }
+
+  private Reflector<T, L> newReflector(String namespace) {
+    Reflector<T, L> reflector = new Reflector<>(listerWatchers.apply(namespace),
+        new NamespaceScopedStore<>(store, namespace::equals));
+    if (handler != null) {
+      reflector.setExceptionHandler(handler);
+    }
+    if (streamingList) {
+      reflector.usingStreamingList();
+    }
+    if (watchList) {
+      reflector.usingWatchList();
+    }
+    reflectors.put(namespace, reflector);
+    return reflector;
+  }
+
+  private CompletableFuture<Void> start(Reflector<T, L> reflector) {
+    reflector.getStopFuture().whenComplete((v, t) -> {
+      if (t != null) {
+        stopFuture.completeExceptionally(t);
+        stop();
+      }
+    });
+    return reflector.start();
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> start() {
+    if (!started) {
+      started = true;
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      reflectors.values().forEach(r -> futures.add(start(r)));
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((v, t) -> {
+        if (t != null) {
+          startFuture.completeExceptionally(t);
+        } else {
+          startFuture.complete(null);
+        }
+      });
+    }
+    return startFuture;
+  }
+
+  @Override
+  public CompletableFuture<Void> getStartFuture() {
+    return startFuture;
+  }
+
+  @Override
+  public void stop() {
+    List<Reflector<T, L>> toStop;
+    synchronized (this) {
+      // mark as stopped first, so that a namespace added concurrently is not started
+      stopFuture.complete(null);
+      toStop = new ArrayList<>(reflectors.values());
+    }
+    toStop.forEach(Reflector::stop);
+    startFuture.completeExceptionally(new IllegalStateException("informer manually stopped before starting"));
+  }
+
+  /**
+   * Start the list and watch of a namespace, if the reflector has started.
+   *
+   * @param namespace the namespace
+   * @return a future completed when the namespace resources have been listed
+   */
+  public synchronized CompletableFuture<Void> addNamespace(String namespace) {
+    Reflector<T, L> reflector = reflectors.get(namespace);
+    if (reflector != null) {
+      return started ? reflector.getStartFuture() : CompletableFuture.completedFuture(null);
+    }
+    reflector = newReflector(namespace);
+    if (!started || isStopped()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    log.debug("Adding namespace {} to {}", namespace, this);
+    return start(reflector);
+  }
+
+  /**
+   * Stop the watch of a namespace and remove its resources from the store.
+   *
+   * @param namespace the namespace
+   */
+  public void removeNamespace(String namespace) {
+    Reflector<T, L> reflector;
+    synchronized (this) {
+      reflector = reflectors.remove(namespace);
+    }
+    if (reflector != null) {
+      log.debug("Removing namespace {} from {}", namespace, this);
+      reflector.stop();
+      new NamespaceScopedStore<>(store, namespace::equals).retainAll(key -> false);
+    }
+  }
+
+  @Override
+  public synchronized String getLastSyncResourceVersion() {
+    String result = started ? "" : null;
+    for (Reflector<T, L> reflector : reflectors.values()) {
+      result = reflector.getLastSyncResourceVersion();
+      if (result == null) {
+        return null;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean isStopped() {
+    return stopFuture.isDone();
+  }
+
+  @Override
+  public synchronized boolean isWatching() {
+    return !isStopped() && reflectors.values().stream().allMatch(Reflector::isWatching);
+  }
+
+  @Override
+  public CompletableFuture<Void> getStopFuture() {
+    return stopFuture;
+  }
+
+  @Override
+  public synchronized void setExceptionHandler(ExceptionHandler handler) {
+    this.handler = handler;
+    reflectors.values().forEach(r -> r.setExceptionHandler(handler));
+  }
+
+  @Override
+  public synchronized void usingInitialState() {
+    // only the namespaces present at the start have an initial state
+    reflectors.values().forEach(Reflector::usingInitialState);
+  }
+
+  @Override
+  public synchronized void usingStreamingList() {
+    this.streamingList = true;
+    reflectors.values().forEach(Reflector::usingStreamingList);
+  }
+
+  @Override
+  public synchronized void usingWatchList() {
+    this.watchList = true;
+    reflectors.values().forEach(Reflector::usingWatchList);
+  }
+
+}
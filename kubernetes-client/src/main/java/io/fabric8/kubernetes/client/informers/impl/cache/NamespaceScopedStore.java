@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A view of a {@link SyncableStore} limited to the items of the matching namespaces. Changes to other items are ignored,
+ * so that several reflectors may share a store, or a cluster wide reflector may only store some namespaces.
+ */
+public class NamespaceScopedStore<T extends HasMetadata> implements SyncableStore<T> {
+
+  private final SyncableStore<T> store;
+  private final Predicate<String> namespaces;
+
+  public NamespaceScopedStore(SyncableStore<T> store, Predicate<String> namespaces) {
+    this.store = store;
+    this.namespaces = namespaces;
+  }
+
+  private boolean matches(T obj) {
+    return obj != null && namespaces.test(obj.getMetadata().getNamespace());
+  }
+
+  @Override
+  public void add(T obj) {
+    if (matches(obj)) {
+      store.add(obj);
+    }
+  }
+
+  @Override
+  public void update(T obj) {
+    if (matches(obj)) {
+      store.update(obj);
+    }
+  }
+
+  @Override
+  public void update(List<T> items) {
+    store.update(items.stream().filter(this::matches).collect(Collectors.toList()));
+  }
+
+  @Override
+  public void delete(T obj) {
+    if (matches(obj)) {
+      store.delete(obj);
+    }
+  }
+
+  @Override
+  public void resync() {
+    store.resync();
+  }
+
+  @Override
+  public void retainAll(Predicate<String> retain) {
+    store.retainAll(key -> !matches(store.getByKey(key)) || retain.test(key));
+  }
+
+  @Override
+  public List<T> list() {
+    return store.list().stream().filter(this::matches).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<String> listKeys() {
+    return list().stream().map(store::getKey).collect(Collectors.toList());
+  }
+
+  @Override
+  public T get(T object) {
+    T result = store.get(object);
+    return matches(result) ? result : null;
+  }
+
+  @Override
+  public T getByKey(String key) {
+    T result = store.getByKey(key);
+    return matches(result) ? result : null;
+  }
+
+  @Override
+  public String getKey(T obj) {
+    return store.getKey(obj);
+  }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.AddNotification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.DeleteNotification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.UpdateNotification;
+
+/**
+ * A notification for a single key that has not yet been delivered, into which subsequent
+ * notifications for the same key may be merged.
+ * <p>
+ * Not thread-safe, the caller is expected to guard access.
+ */
+class PendingNotification<T> {
+
+  private Notification<T> notification;
+
+  PendingNotification(Notification<T> notification) {
+    this.notification = notification;
+  }
+
+  /**
+   * Merge the next notification for the same key into this one, keeping the original old object and
+   * the newest new object.
+   *
+   * @param next the next notification
+   * @return true if merged, false if the next notification must be delivered separately
+   */
+  boolean merge(Notification<T> next) {
+    if (notification == null) {
+      // a previous add and delete cancelled out
+      notification = next;
+      return true;
+    }
+    if (notification instanceof DeleteNotification || next instanceof AddNotification) {
+      // a subsequent add is for a new object
+      return false;
+    }
+    if (next instanceof DeleteNotification) {
+      // if the handler never saw the add, there's nothing to delete
+      notification = notification instanceof AddNotification ? null : next;
+    } else if (notification instanceof AddNotification) {
+      notification = new AddNotification<>(next.getNewObject());
+    } else {
+      notification = new UpdateNotification<>(notification.getOldObject(), next.getNewObject());
+    }
+    return true;
+  }
+
+  /**
+   * @return the object the notification is for
+   */
+  static <T> T getObject(Notification<T> notification) {
+    return notification.getNewObject() != null ? notification.getNewObject() : notification.getOldObject();
+  }
+
+  /**
+   * @return the merged notification, or null if there is nothing to deliver
+   */
+  Notification<T> get() {
+    return notification;
+  }
+
+}
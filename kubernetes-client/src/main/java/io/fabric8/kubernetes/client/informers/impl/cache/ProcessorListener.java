@@ -50,6 +50,17 @@ public class ProcessorListener<T> {
     notification.handle(handler);
   }
 
+  public void onNothing() {
+    handler.onNothing();
+  }
+
+  /**
+   * Called when the informer is stopped
+   */
+  public void stop() {
+    // nothing to release by default
+  }
+
   public void determineNextResync(ZonedDateTime now) {
     this.nextResync = now.plus(this.resyncPeriodInMillis, ChronoUnit.MILLIS);
   }
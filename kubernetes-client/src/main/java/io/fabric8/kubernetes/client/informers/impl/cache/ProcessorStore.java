@@ -23,8 +23,8 @@ import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notif
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 /**
  * Wraps a {@link Cache} and a {@link SharedProcessor} to distribute events related to changes and syncs
@@ -41,6 +41,15 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     this.processor = processor;
   }
 
+  /**
+   * Replace the underlying cache - should only be called prior to any events being processed
+   *
+   * @param cache the new cache
+   */
+  public void setCache(CacheImpl<T> cache) {
+    this.cache = cache;
+  }
+
   @Override
   public void add(T obj) {
     update(obj);
@@ -103,20 +112,20 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
   }
 
   @Override
-  public void retainAll(Set<String> nextKeys) {
+  public void retainAll(Predicate<String> retain) {
     if (synced.compareAndSet(false, true)) {
       deferredAdd.stream().map(cache::getByKey).filter(Objects::nonNull)
           .forEach(v -> this.processor.distribute(new ProcessorListener.AddNotification<>(v), false));
       deferredAdd.clear();
     }
     List<T> current = cache.list();
-    if (nextKeys.isEmpty() && current.isEmpty()) {
-      this.processor.distribute(l -> l.getHandler().onNothing(), false);
+    if (current.isEmpty()) {
+      this.processor.distribute(ProcessorListener::onNothing, false);
       return;
     }
     current.forEach(v -> {
       String key = cache.getKey(v);
-      if (!nextKeys.contains(key)) {
+      if (!retain.test(key)) {
         cache.remove(v);
         this.processor.distribute(new ProcessorListener.DeleteNotification<>(v, true), false);
       }
@@ -17,12 +17,15 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.dsl.internal.BaseOperation;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
@@ -30,12 +33,13 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 
 public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T>> {
@@ -44,6 +48,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
   private static long MIN_TIMEOUT = TimeUnit.MINUTES.toSeconds(5);
 
+  static final String INITIAL_EVENTS_END_ANNOTATION = "k8s.io/initial-events-end";
+
   private volatile String lastSyncResourceVersion;
   private final ListerWatcher<T, L> listerWatcher;
   private final SyncableStore<T> store;
@@ -61,6 +67,12 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private CompletableFuture<Void> timeoutFuture;
 
   private boolean cachedListing = true;
+  private boolean streamingList;
+  private boolean watchList;
+
+  // set prior to starting a watch list, cleared once the initial events end or the watch closes
+  private volatile Set<String> initialEventsStaleKeys;
+  private CompletableFuture<Void> initialEventsFuture;
 
   public Reflector(ListerWatcher<T, L> listerWatcher, SyncableStore<T> store) {
     this.listerWatcher = listerWatcher;
@@ -85,8 +97,9 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (future != null) {
       future.cancel(true);
     }
-    stopWatcher();
+    // mark as stopped first so that closing the watch is not treated as a failure
     stopFuture.complete(null);
+    stopWatcher();
   }
 
   private synchronized void stopWatcher() {
@@ -115,14 +128,22 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
-    Set<String> nextKeys = new ConcurrentSkipListSet<>();
-    CompletableFuture<Void> theFuture = processList(nextKeys, null).thenCompose(result -> {
-      store.retainAll(nextKeys);
-      final String latestResourceVersion = result.getMetadata().getResourceVersion();
-      lastSyncResourceVersion = latestResourceVersion;
-      log.debug("Listing items ({}) for {} at v{}", nextKeys.size(), this, latestResourceVersion);
-      return startWatcher(latestResourceVersion);
-    }).thenAccept(w -> {
+    // track only the keys that existed prior to the list, those that are not seen will be removed
+    Set<String> staleKeys = new HashSet<>(store.listKeys());
+    CompletableFuture<? extends Watch> watchStarted;
+    if (watchList) {
+      watchStarted = startWatchList(staleKeys);
+    } else {
+      AtomicLong count = new AtomicLong();
+      watchStarted = processList(staleKeys, count, null).thenCompose(result -> {
+        store.retainAll(key -> !staleKeys.contains(key));
+        final String latestResourceVersion = result.getResourceVersion();
+        lastSyncResourceVersion = latestResourceVersion;
+        log.debug("Listing items ({}) for {} at v{}", count.get(), this, latestResourceVersion);
+        return startWatcher(latestResourceVersion, null);
+      });
+    }
+    CompletableFuture<Void> theFuture = watchStarted.thenAccept(w -> {
       if (w != null) {
         if (!isStopped()) {
           if (log.isDebugEnabled()) {
@@ -146,6 +167,10 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   }
 
   private void onException(String operation, Throwable t) {
+    if (isStopped()) {
+      log.debug("{} ended for stopped {}", operation, Reflector.this, t);
+      return;
+    }
     if (handler.retryAfterException(startFuture.isDone() && !startFuture.isCompletedExceptionally(), t)) {
       log.warn("{} failed for {}, will retry", operation, Reflector.this, t);
       reconnect();
@@ -166,29 +191,89 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         retryIntervalCalculator.nextReconnectInterval(), TimeUnit.MILLISECONDS);
   }
 
-  private CompletableFuture<L> processList(Set<String> nextKeys, String continueVal) {
-    CompletableFuture<L> futureResult = listerWatcher
-        .submitList(
-            new ListOptionsBuilder()
-                // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
-                .withResourceVersion(isCachedListing(continueVal) ? "0" : null)
-                .withLimit(listerWatcher.getLimit()).withContinue(continueVal)
-                .build());
+  private CompletableFuture<ListMeta> processList(Set<String> staleKeys, AtomicLong count, String continueVal) {
+    ListOptions listOptions = new ListOptionsBuilder()
+        // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
+        .withResourceVersion(isCachedListing(continueVal) ? "0" : null)
+        .withLimit(listerWatcher.getLimit()).withContinue(continueVal)
+        .build();
+
+    CompletableFuture<ListMeta> futureResult;
+    if (streamingList) {
+      futureResult = listerWatcher.submitList(listOptions, i -> {
+        staleKeys.remove(store.getKey(i));
+        count.incrementAndGet();
+        store.update(i);
+      });
+    } else {
+      futureResult = listerWatcher.submitList(listOptions).thenApply(result -> {
+        result.getItems().forEach(i -> staleKeys.remove(store.getKey(i)));
+        count.addAndGet(result.getItems().size());
+        store.update(result.getItems());
+        return result.getMetadata();
+      });
+    }
 
     return futureResult.thenCompose(result -> {
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        nextKeys.add(key);
-      });
-      store.update(result.getItems());
-      String nextContinueVal = result.getMetadata().getContinue();
+      String nextContinueVal = result.getContinue();
       if (Utils.isNotNullOrEmpty(nextContinueVal)) {
-        return processList(nextKeys, nextContinueVal);
+        return processList(staleKeys, count, nextContinueVal);
       }
       return CompletableFuture.completedFuture(result);
     });
   }
 
+  /**
+   * Start a watch that will send the initial state as ADDED events, terminated by a bookmark
+   * with the initial-events-end annotation.
+   *
+   * @return a future that completes when the initial events have been received
+   */
+  private synchronized CompletableFuture<? extends Watch> startWatchList(Set<String> staleKeys) {
+    CompletableFuture<Void> initialEvents = new CompletableFuture<>();
+    ListOptions options = new ListOptionsBuilder().withAllowWatchBookmarks(true)
+        .withResourceVersionMatch("NotOlderThan").build();
+    options.setAdditionalProperty(BaseOperation.SEND_INITIAL_EVENTS, true);
+    initialEventsStaleKeys = staleKeys;
+    initialEventsFuture = initialEvents;
+    log.debug("Starting watch list for {}", this);
+    // no resourceVersion means the initial state will be consistent with the most recent
+    CompletableFuture<? extends Watch> watch = startWatcher(null, options);
+    return watch.thenCompose(w -> initialEvents.thenApply(v -> w));
+  }
+
+  private synchronized void initialEventsEnded(String resourceVersion) {
+    Set<String> staleKeys = initialEventsStaleKeys;
+    if (staleKeys == null) {
+      return; // the watch list has already failed
+    }
+    store.retainAll(key -> !staleKeys.contains(key));
+    // subsequent reconnects should simply resume from the last resourceVersion
+    // the options are owned by the watch manager, so they are modified under its lock
+    Optional.ofNullable(watchFuture).ifPresent(f -> f.thenAccept(w -> w.modifyListOptions(options -> {
+      options.setResourceVersionMatch(null);
+      options.getAdditionalProperties().remove(BaseOperation.SEND_INITIAL_EVENTS);
+    })));
+    initialEventsStaleKeys = null;
+    lastSyncResourceVersion = resourceVersion;
+    log.debug("Initial events received for {} at v{}", this, resourceVersion);
+    initialEventsFuture.complete(null);
+  }
+
+  /**
+   * Fail a pending watch list if the watch has closed before the initial events ended
+   *
+   * @return true if there was a pending watch list
+   */
+  private synchronized boolean initialEventsFailed(Throwable t) {
+    if (initialEventsStaleKeys == null) {
+      return false;
+    }
+    initialEventsStaleKeys = null;
+    initialEventsFuture.completeExceptionally(t);
+    return true;
+  }
+
   private boolean isCachedListing(String continueVal) {
     // allow an initial cached listing only if there's no initial state, no limit, we haven't already sync'd, and this isn't a continue request
     return cachedListing && listerWatcher.getLimit() == null && lastSyncResourceVersion == null && continueVal == null;
@@ -200,20 +285,22 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     watchStopped(); // proactively report as stopped
   }
 
-  private synchronized CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion) {
+  private synchronized CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion,
+      ListOptions options) {
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
     log.debug("Starting watcher for {} at v{}", this, latestResourceVersion);
+    if (options == null) {
+      options = new ListOptions();
+    }
+    options.setResourceVersion(latestResourceVersion);
+    // this would match the behavior of the go client, but requires changing a lot of mock expectations
+    // so instead we'll terminate below and set a fail-safe here
+    // options.setTimeoutSeconds((long) ((Math.random() + 1) * minTimeout));
+    options.setTimeoutSeconds(minTimeout * 2);
     // there's no need to stop the old watch, that will happen automatically when this call completes
-    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(
-        new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
-            // this would match the behavior of the go client, but requires changing a lot of mock expectations
-            // so instead we'll terminate below and set a fail-safe here
-            // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
-            .withTimeoutSeconds(minTimeout * 2)
-            .build(),
-        watcher);
+    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(options, watcher);
 
     // the alternative to this is to localize the logic in the AbstractWatchManager, however since
     // we only need it for informers, it seems fine here
@@ -269,6 +356,10 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         case ERROR:
           throw new KubernetesClientException("ERROR event");
         case ADDED:
+          Set<String> staleKeys = initialEventsStaleKeys;
+          if (staleKeys != null) {
+            staleKeys.remove(store.getKey(resource));
+          }
           store.add(resource);
           break;
         case MODIFIED:
@@ -277,6 +368,14 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         case DELETED:
           store.delete(resource);
           break;
+        case BOOKMARK:
+          // only requested for a watch list
+          if (initialEventsStaleKeys != null && resource.getMetadata().getAnnotations() != null
+              && "true".equals(resource.getMetadata().getAnnotations().get(INITIAL_EVENTS_END_ANNOTATION))) {
+            initialEventsEnded(resource.getMetadata().getResourceVersion());
+            return;
+          }
+          break;
       }
       lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
     }
@@ -290,9 +389,9 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         if (log.isDebugEnabled()) {
           log.debug("Watch restarting due to http gone for {}", Reflector.this);
         }
-        // start a whole new list/watch cycle
+        // start a whole new list/watch cycle, which will replace any pending watch list
         reconnect();
-      } else {
+      } else if (!initialEventsFailed(exception)) {
         onException("watch", exception);
       }
     }
@@ -301,6 +400,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     public void onClose() {
       watchStopped();
       log.debug("Watch gracefully closed for {}", Reflector.this);
+      initialEventsFailed(
+          new KubernetesClientException("Watch closed before the initial events were received for " + Reflector.this));
     }
 
     @Override
@@ -330,4 +431,19 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     this.cachedListing = false;
   }
 
+  /**
+   * Parse the list items incrementally, passing each to the store as it is read - rather than
+   * materializing each list or page first.
+   */
+  public void usingStreamingList() {
+    this.streamingList = true;
+  }
+
+  /**
+   * Obtain the initial state from a watch with sendInitialEvents=true, rather than with a list.
+   */
+  public void usingWatchList() {
+    this.watchList = true;
+  }
+
 }
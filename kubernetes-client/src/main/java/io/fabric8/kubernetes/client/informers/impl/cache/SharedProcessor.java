@@ -15,6 +15,8 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.EventQueuePolicy;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
@@ -23,12 +25,20 @@ import org.slf4j.LoggerFactory;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -49,21 +59,61 @@ public class SharedProcessor<T> {
   private final List<ProcessorListener<T>> listeners = new ArrayList<>();
   private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
   private final SerialExecutor executor;
+  private final Executor listenerExecutor;
   private final String informerDescription;
 
+  // guards the queue state below
+  private final Object queueLock = new Object();
+  private int capacity = Integer.MAX_VALUE;
+  private volatile EventQueuePolicy policy = EventQueuePolicy.BLOCK;
+  private Function<T, String> keyFunction;
+  private Supplier<? extends Collection<T>> items;
+  private final Map<String, PendingNotification<T>> pending = new HashMap<>();
+  // keys whose add was dropped, the handlers have not seen them until the resync
+  private Set<String> droppedAdds = new HashSet<>();
+  private int queueDepth;
+  private boolean resyncRequired;
+  private boolean stopped;
+
+  private final LongAdder handlerInvocations = new LongAdder();
+  private final LongAdder handlerTimeNanos = new LongAdder();
+  private final AtomicLong maxHandlerTimeNanos = new AtomicLong();
+  private final LongAdder eventsDropped = new LongAdder();
+  private final LongAdder eventsCoalesced = new LongAdder();
+
   public SharedProcessor() {
     this(Runnable::run, "informer");
   }
 
   public SharedProcessor(Executor executor, String informerDescription) {
-    // serialexecutors are by default unbounded, we expect this behavior here
-    // because resync may flood the executor with events for large caches
-    // if we ever need to limit the queue size, we have to revisit the
-    // resync locking behavior
+    // serialexecutors are by default unbounded, the number of queued tasks is instead
+    // limited by the capacity - see configureQueue
     this.executor = new SerialExecutor(executor);
+    this.listenerExecutor = executor;
     this.informerDescription = informerDescription;
   }
 
+  /**
+   * Bound the number of queued notifications. Should be called prior to any events being distributed.
+   *
+   * @param capacity the maximum number of queued notifications
+   * @param policy what to do when the queue is full
+   * @param keyFunction the key of an item, used to coalesce notifications
+   * @param items the current items, used to resync after notifications are dropped
+   */
+  public void configureQueue(int capacity, EventQueuePolicy policy, Function<T, String> keyFunction,
+      Supplier<? extends Collection<T>> items) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The event queue capacity must be positive");
+    }
+    synchronized (queueLock) {
+      this.capacity = capacity;
+      this.policy = policy;
+      this.keyFunction = keyFunction;
+      this.items = items;
+    }
+  }
+
   /**
    * Adds the specific processorListener
    *
@@ -81,6 +131,27 @@ public class SharedProcessor<T> {
     }
   }
 
+  /**
+   * Removes the listeners of the handler, which will not be passed any further notifications
+   *
+   * @param handler the handler of the listeners to remove
+   */
+  public void removeListener(ResourceEventHandler<? super T> handler) {
+    lock.writeLock().lock();
+    try {
+      for (Iterator<ProcessorListener<T>> iter = listeners.iterator(); iter.hasNext();) {
+        ProcessorListener<T> listener = iter.next();
+        if (listener.getHandler() == handler) {
+          iter.remove();
+          syncingListeners.remove(listener);
+          listener.stop();
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
   /**
    * Distribute the object amount listeners.
    *
@@ -88,38 +159,200 @@ public class SharedProcessor<T> {
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
-    distribute(l -> l.add(obj), isSync);
+    if (!isSync && policy == EventQueuePolicy.COALESCE) {
+      coalesce(obj);
+      return;
+    }
+    synchronized (queueLock) {
+      if (!droppedAdds.isEmpty() && withhold(obj)) {
+        return;
+      }
+    }
+    distribute(l -> l.add(obj), isSync, obj);
   }
 
   /**
    * Distribute the operation to the respective listeners
    */
   public void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync) {
+    distribute(operation, isSync, null);
+  }
+
+  private void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync,
+      ProcessorListener.Notification<T> notification) {
+    synchronized (queueLock) {
+      if (!reserve(isSync, notification)) {
+        return;
+      }
+    }
     // obtain the list to call outside before submitting
-    lock.readLock().lock();
-    List<ProcessorListener<T>> toCall;
-    try {
+    List<ProcessorListener<T>> toCall = getListeners(isSync);
+    execute(() -> dispatch(toCall, operation));
+  }
+
+  private void coalesce(ProcessorListener.Notification<T> notification) {
+    String key = keyFunction.apply(PendingNotification.getObject(notification));
+    PendingNotification<T> entry;
+    synchronized (queueLock) {
+      PendingNotification<T> existing = pending.get(key);
+      if (existing != null && existing.merge(notification)) {
+        eventsCoalesced.increment();
+        return;
+      }
+      if (!reserve(false, null)) {
+        return;
+      }
+      entry = new PendingNotification<>(notification);
+      pending.put(key, entry);
+    }
+    List<ProcessorListener<T>> toCall = getListeners(false);
+    execute(() -> {
+      ProcessorListener.Notification<T> merged;
+      synchronized (queueLock) {
+        pending.remove(key, entry);
+        merged = entry.get();
+      }
+      if (merged != null) {
+        dispatch(toCall, l -> l.add(merged));
+      }
+    });
+  }
+
+  /**
+   * Withhold a notification for a key whose add was dropped, must be called holding the queueLock.
+   * <p>
+   * The pending resync will deliver the add with the latest state, so updates are not needed and
+   * a delete means there is nothing to deliver at all.
+   *
+   * @return true if the notification should not be delivered
+   */
+  private boolean withhold(ProcessorListener.Notification<T> notification) {
+    String key = keyFunction.apply(PendingNotification.getObject(notification));
+    if (!droppedAdds.contains(key)) {
+      return false;
+    }
+    if (notification instanceof ProcessorListener.DeleteNotification) {
+      droppedAdds.remove(key);
+    } else {
+      eventsDropped.increment();
+    }
+    return true;
+  }
+
+  /**
+   * Reserve room in the queue for another task, must be called holding the queueLock
+   *
+   * @param notification the notification to be queued, or null if the task is not droppable
+   * @return true if the task should be queued
+   */
+  private boolean reserve(boolean isSync, ProcessorListener.Notification<T> notification) {
+    while (queueDepth >= capacity && !stopped) {
       if (isSync) {
-        toCall = new ArrayList<>(syncingListeners);
-      } else {
-        toCall = new ArrayList<>(listeners);
+        // resync is best effort
+        eventsDropped.increment();
+        return false;
+      }
+      if (policy == EventQueuePolicy.DROP_AND_RESYNC) {
+        if (notification == null || notification instanceof ProcessorListener.DeleteNotification) {
+          break;
+        }
+        if (notification instanceof ProcessorListener.AddNotification) {
+          droppedAdds.add(keyFunction.apply(notification.getNewObject()));
+        }
+        eventsDropped.increment();
+        resyncRequired = true;
+        return false;
+      }
+      try {
+        // may be an IO thread, see EventQueuePolicy.BLOCK
+        queueLock.wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
       }
-    } finally {
-      lock.readLock().unlock();
     }
+    if (stopped) {
+      return false;
+    }
+    queueDepth++;
+    return true;
+  }
+
+  private void execute(Runnable task) {
     try {
       executor.execute(() -> {
-        for (ProcessorListener<T> listener : toCall) {
-          try {
-            operation.accept(listener);
-          } catch (Exception ex) {
-            log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
-                ex);
-          }
+        try {
+          task.run();
+        } finally {
+          release();
         }
       });
     } catch (RejectedExecutionException e) {
-      // do nothing
+      release();
+    }
+  }
+
+  private void release() {
+    boolean resync = false;
+    synchronized (queueLock) {
+      queueDepth--;
+      queueLock.notifyAll();
+      if (resyncRequired && queueDepth == 0 && !stopped) {
+        resyncRequired = false;
+        resync = true;
+        queueDepth++;
+      }
+    }
+    if (resync) {
+      // the cache already reflects the dropped notifications, so that is used for the resync
+      List<ProcessorListener<T>> toCall = getListeners(false);
+      execute(() -> {
+        log.debug("{} resyncing after dropping events", informerDescription);
+        Set<String> unseen;
+        Collection<T> current;
+        synchronized (queueLock) {
+          // notifications for the unseen keys are withheld until this point, so they are consistent with the items
+          unseen = droppedAdds;
+          droppedAdds = new HashSet<>();
+          current = items.get();
+        }
+        for (T item : current) {
+          // handlers that never saw the add get one, rather than an update
+          ProcessorListener.Notification<T> notification = unseen.contains(keyFunction.apply(item))
+              ? new ProcessorListener.AddNotification<>(item)
+              : new ProcessorListener.UpdateNotification<>(item, item);
+          dispatch(toCall, l -> l.add(notification));
+        }
+      });
+    }
+  }
+
+  private List<ProcessorListener<T>> getListeners(boolean isSync) {
+    lock.readLock().lock();
+    try {
+      if (isSync) {
+        return new ArrayList<>(syncingListeners);
+      }
+      return new ArrayList<>(listeners);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void dispatch(List<ProcessorListener<T>> toCall, Consumer<ProcessorListener<T>> operation) {
+    for (ProcessorListener<T> listener : toCall) {
+      long start = System.nanoTime();
+      try {
+        operation.accept(listener);
+      } catch (Exception ex) {
+        log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
+            ex);
+      } finally {
+        long time = System.nanoTime() - start;
+        handlerInvocations.increment();
+        handlerTimeNanos.add(time);
+        maxHandlerTimeNanos.accumulateAndGet(time, Math::max);
+      }
     }
   }
 
@@ -145,8 +378,15 @@ public class SharedProcessor<T> {
 
   public void stop() {
     executor.shutdownNow();
+    synchronized (queueLock) {
+      stopped = true;
+      pending.clear();
+      droppedAdds.clear();
+      queueLock.notifyAll();
+    }
     lock.writeLock().lock();
     try {
+      listeners.forEach(ProcessorListener::stop);
       syncingListeners.clear();
       listeners.clear();
     } finally {
@@ -160,10 +400,22 @@ public class SharedProcessor<T> {
    */
   public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
       Supplier<Collection<T>> initialItems) {
+    return addProcessorListener(new ProcessorListener<>(handler, resyncPeriodMillis), initialItems);
+  }
+
+  /**
+   * Adds a new listener that delivers to the handler independently of the other listeners, merging
+   * notifications for the same key that are still pending.
+   */
+  public ProcessorListener<T> addCoalescingProcessorListener(ResourceEventHandler<? super T> handler,
+      long resyncPeriodMillis, Function<T, String> keyFunction, Supplier<Collection<T>> initialItems) {
+    return addProcessorListener(new CoalescingProcessorListener<>(handler, resyncPeriodMillis, listenerExecutor,
+        keyFunction, eventsCoalesced::increment), initialItems);
+  }
+
+  private ProcessorListener<T> addProcessorListener(ProcessorListener<T> listener, Supplier<Collection<T>> initialItems) {
     lock.writeLock().lock();
     try {
-      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis);
-
       for (T item : initialItems.get()) {
         listener.add(new ProcessorListener.AddNotification<>(item));
       }
@@ -174,4 +426,41 @@ public class SharedProcessor<T> {
       lock.writeLock().unlock();
     }
   }
+
+  public InformerMetrics getMetrics() {
+    return new InformerMetrics() {
+
+      @Override
+      public int getQueueDepth() {
+        synchronized (queueLock) {
+          return queueDepth;
+        }
+      }
+
+      @Override
+      public long getHandlerInvocations() {
+        return handlerInvocations.sum();
+      }
+
+      @Override
+      public long getHandlerTimeNanos() {
+        return handlerTimeNanos.sum();
+      }
+
+      @Override
+      public long getMaxHandlerTimeNanos() {
+        return maxHandlerTimeNanos.get();
+      }
+
+      @Override
+      public long getEventsDropped() {
+        return eventsDropped.sum();
+      }
+
+      @Override
+      public long getEventsCoalesced() {
+        return eventsCoalesced.sum();
+      }
+    };
+  }
 }
@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.client.informers.cache.Store;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Extends a {@link Store}, but also has the responsibility of
@@ -57,7 +58,16 @@ public interface SyncableStore<T> extends Store<T> {
    *
    * @param nextKeys to retain
    */
-  void retainAll(Set<String> nextKeys);
+  default void retainAll(Set<String> nextKeys) {
+    retainAll(nextKeys::contains);
+  }
+
+  /**
+   * Retain only the values with keys that match the given predicate
+   *
+   * @param retain test of the keys to retain
+   */
+  void retainAll(Predicate<String> retain);
 
   /**
    * Process a batch of updates
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkOperationTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void resultsAreInItemOrder() {
+    List<Integer> items = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+
+    List<Integer> result = BulkOperation.run(executor, 8, items, i -> 0, i -> {
+      sleep(50 - i);
+      return i * 2;
+    });
+
+    assertThat(result).isEqualTo(items.stream().map(i -> i * 2).collect(Collectors.toList()));
+  }
+
+  @Test
+  void concurrencyIsLimited() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger max = new AtomicInteger();
+    List<Integer> items = IntStream.range(0, 30).boxed().collect(Collectors.toList());
+
+    BulkOperation.run(executor, 4, items, i -> 0, i -> {
+      max.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(5);
+      running.decrementAndGet();
+      return i;
+    });
+
+    assertThat(max.get()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void singleConcurrencyRunsOnCallingThread() {
+    Thread caller = Thread.currentThread();
+
+    List<Boolean> result = BulkOperation.run(executor, 1, Arrays.asList(1, 2, 3), i -> 0,
+        i -> Thread.currentThread() == caller);
+
+    assertThat(result).containsOnly(true);
+  }
+
+  @Test
+  void dependenciesAreCreatedFirstAndDeletedLast() {
+    HasMetadata configMap = new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata().build();
+    HasMetadata namespace = new NamespaceBuilder().withNewMetadata().withName("ns").endMetadata().build();
+    HasMetadata crd = new GenericKubernetesResourceBuilder().withApiVersion("apiextensions.k8s.io/v1")
+        .withKind("CustomResourceDefinition").withNewMetadata().withName("crd").endMetadata().build();
+    List<HasMetadata> items = Arrays.asList(configMap, namespace, crd);
+    List<String> created = new CopyOnWriteArrayList<>();
+    List<String> deleted = new CopyOnWriteArrayList<>();
+
+    List<String> result = BulkOperation.run(executor, 4, items, BulkOperation::dependenciesFirst,
+        record(created));
+    BulkOperation.run(executor, 4, items, BulkOperation::dependenciesLast, record(deleted));
+
+    assertThat(result).containsExactly("cm", "ns", "crd");
+    assertThat(created.get(2)).isEqualTo("cm");
+    assertThat(deleted.get(0)).isEqualTo("cm");
+  }
+
+  @Test
+  void failureStopsRemainingItemsAndIsThrown() {
+    AtomicInteger started = new AtomicInteger();
+    List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    assertThatThrownBy(() -> BulkOperation.run(executor, 2, items, i -> 0, i -> {
+      started.incrementAndGet();
+      if (i == 3) {
+        throw new KubernetesClientException("failed " + i);
+      }
+      return i;
+    })).isInstanceOf(KubernetesClientException.class).hasMessage("failed 3");
+
+    assertThat(started.get()).isLessThan(100);
+  }
+
+  @Test
+  void failedPhasePreventsLaterPhases() {
+    List<String> created = new CopyOnWriteArrayList<>();
+    HasMetadata configMap = new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata().build();
+    HasMetadata namespace = new NamespaceBuilder().withNewMetadata().withName("ns").endMetadata().build();
+
+    assertThatThrownBy(() -> BulkOperation.run(executor, 4, Arrays.asList(configMap, namespace),
+        BulkOperation::dependenciesFirst, item -> {
+          if (item == namespace) {
+            throw new KubernetesClientException("failed");
+          }
+          return record(created).apply(item);
+        })).isInstanceOf(KubernetesClientException.class);
+
+    assertThat(created).isEmpty();
+  }
+
+  @Test
+  void emptyItems() {
+    assertThat(BulkOperation.run(executor, 4, Collections.emptyList(), i -> 0, Function.identity())).isEmpty();
+  }
+
+  private static Function<HasMetadata, String> record(List<String> names) {
+    return item -> {
+      names.add(item.getMetadata().getName());
+      return item.getMetadata().getName();
+    };
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
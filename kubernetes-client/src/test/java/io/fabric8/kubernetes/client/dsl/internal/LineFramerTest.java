@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineFramerTest {
+
+  private final List<String> lines = new ArrayList<>();
+  private final LineFramer framer = new LineFramer(
+      (bytes, offset, length) -> lines.add(new String(bytes, offset, length, StandardCharsets.UTF_8)));
+
+  @Test
+  void multipleLinesInOneBuffer() {
+    framer.feed(ByteBuffer.wrap("{\"a\":1}\n{\"b\":2}\n{\"c\"".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(lines).containsExactly("{\"a\":1}", "{\"b\":2}");
+
+    framer.feed(ByteBuffer.wrap(":3}\n".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(lines).containsExactly("{\"a\":1}", "{\"b\":2}", "{\"c\":3}");
+  }
+
+  @Test
+  void multiByteCharacterSplitAcrossBuffers() {
+    byte[] bytes = "{\"name\":\"\u00e9\u4e2d\"}\n".getBytes(StandardCharsets.UTF_8);
+    for (byte b : bytes) {
+      framer.feed(ByteBuffer.wrap(new byte[] { b }));
+    }
+
+    assertThat(lines).containsExactly("{\"name\":\"\u00e9\u4e2d\"}");
+  }
+
+  @Test
+  void directAndSlicedBuffers() {
+    byte[] bytes = "xx{\"a\":1}\n{\"b\"".getBytes(StandardCharsets.UTF_8);
+    framer.feed(ByteBuffer.wrap(bytes, 2, bytes.length - 2).slice());
+    ByteBuffer direct = ByteBuffer.allocateDirect(8);
+    direct.put(":2}\n\n".getBytes(StandardCharsets.UTF_8)).flip();
+    framer.feed(direct);
+
+    assertThat(lines).containsExactly("{\"a\":1}", "{\"b\":2}", "");
+    assertThat(direct.hasRemaining()).isFalse();
+  }
+
+}
@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal.uploadable;
 
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.TtyExecErrorable;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
 import io.fabric8.kubernetes.client.utils.InputStreamPumper;
@@ -31,10 +32,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -92,6 +97,104 @@ class PodUploadTest {
     uploadDirectoryAndVerify(() -> PodUpload.upload(operation, toUpload), 5120);
   }
 
+  @Test
+  void upload_withCompressedDirectory_shouldVerifyAndExtractInOneExec() throws Exception {
+    final Path toUpload = new File(PodUpload.class.getResource("/upload").getFile())
+        .toPath();
+    Mockito.when(this.operation.getContext().getDir()).thenReturn("/mock/dir");
+    Mockito.when(this.operation.getContext().isCompressed()).thenReturn(true);
+
+    assertThat(PodUpload.upload(operation, toUpload)).isTrue();
+
+    ArgumentCaptor<String[]> captorUpload = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput().terminateOnError(), Mockito.times(1)).exec(captorUpload.capture());
+    assertThat(captorUpload.getValue()[2]).startsWith("mkdir -p '/tmp' && cat - > '/tmp/fabric8-").endsWith(".tar.gz'");
+
+    ArgumentCaptor<String[]> captorExtract = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput()).exec(captorExtract.capture());
+    assertThat(captorExtract.getValue()[2])
+        .startsWith("if command -v sha256sum > /dev/null 2>&1; then set -- $(sha256sum < /tmp/fabric8-")
+        .contains(" && mkdir -p '/mock/dir' && tar -C '/mock/dir' -xmzf /tmp/fabric8-");
+    Mockito.verify(operation, Mockito.never()).writingOutput(Mockito.any());
+  }
+
+  @Test
+  void upload_withParallelStreams_shouldUploadATarPerStream(@TempDir Path toUpload) throws Exception {
+    Files.write(toUpload.resolve("a"), new byte[300]);
+    Files.write(toUpload.resolve("b"), new byte[200]);
+    Files.createDirectory(toUpload.resolve("c"));
+    Files.write(toUpload.resolve("c").resolve("d"), new byte[100]);
+    Mockito.when(this.operation.getContext().getDir()).thenReturn("/mock/dir");
+    Mockito.when(this.operation.getContext().getCopyStreams()).thenReturn(2);
+    Mockito.when(this.operation.getOperationContext().getExecutor()).thenReturn(Runnable::run);
+
+    assertThat(PodUpload.upload(operation, toUpload)).isTrue();
+
+    ArgumentCaptor<String[]> captorUpload = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput().terminateOnError(), Mockito.times(2)).exec(captorUpload.capture());
+    ArgumentCaptor<String[]> captorExtract = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput(), Mockito.times(2)).exec(captorExtract.capture());
+    assertThat(captorExtract.getAllValues())
+        .allSatisfy(command -> assertThat(command[2]).contains("tar -C '/mock/dir' -xmf /tmp/fabric8-"));
+  }
+
+  @Test
+  void uploadFileData_withResumableUpload_shouldAppendMissingBytes() throws Exception {
+    byte[] data = "test data".getBytes(StandardCharsets.UTF_8);
+    Mockito.when(this.operation.getContext().getFile()).thenReturn("/mock/file");
+    Mockito.when(this.operation.getContext().isResumable()).thenReturn(true);
+    Mockito.when(this.operation.writingOutput(Mockito.any())).then((Answer<TtyExecErrorable>) invocation -> {
+      OutputStream out = invocation.getArgument(0);
+      out.write("4\n".getBytes(StandardCharsets.UTF_8));
+      return operation;
+    });
+
+    assertThat(PodUpload.uploadFileData(operation, new ByteArrayInputStream(data))).isTrue();
+
+    ArgumentCaptor<String[]> captorSize = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation, Mockito.times(1)).exec(captorSize.capture());
+    assertEquals("if [ -f '/mock/file' ]; then wc -c < '/mock/file'; else echo 0; fi", captorSize.getValue()[2]);
+
+    ArgumentCaptor<String[]> captorUpload = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput().terminateOnError(), Mockito.times(1)).exec(captorUpload.capture());
+    assertEquals("mkdir -p '/mock' && cat - >> '/mock/file'", captorUpload.getValue()[2]);
+
+    ArgumentCaptor<String[]> captorVerify = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput(), Mockito.times(2)).exec(captorVerify.capture());
+    assertEquals(PodUpload.verifyPrefixCommand("'/mock/file'", 4, sha256(Arrays.copyOf(data, 4))),
+        captorVerify.getAllValues().get(0)[2]);
+    assertEquals(PodUpload.verifyCommand("'/mock/file'", 9, sha256(data)), captorVerify.getAllValues().get(1)[2]);
+  }
+
+  @Test
+  void uploadFileData_withResumableUploadAndDifferentRemoteData_shouldUploadAgain() throws Exception {
+    byte[] data = "test data".getBytes(StandardCharsets.UTF_8);
+    Mockito.when(this.operation.getContext().getFile()).thenReturn("/mock/file");
+    Mockito.when(this.operation.getContext().isResumable()).thenReturn(true);
+    Mockito.when(this.operation.writingOutput(Mockito.any())).then((Answer<TtyExecErrorable>) invocation -> {
+      OutputStream out = invocation.getArgument(0);
+      out.write("4\n".getBytes(StandardCharsets.UTF_8));
+      return operation;
+    });
+    // the remote prefix doesn't match
+    Mockito.when(this.operation.redirectingInput().exec(Mockito.any())).then(invocation -> {
+      ExecWatch watch = Mockito.mock(ExecWatch.class);
+      String command = invocation.getArgument(2);
+      Mockito.when(watch.exitCode()).thenReturn(CompletableFuture.completedFuture(command.startsWith("set --") ? 1 : 0));
+      return watch;
+    });
+
+    assertThat(PodUpload.uploadFileData(operation, new ByteArrayInputStream(data))).isTrue();
+
+    ArgumentCaptor<String[]> captorUpload = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput().terminateOnError(), Mockito.times(1)).exec(captorUpload.capture());
+    assertEquals("mkdir -p '/mock' && cat - > '/mock/file'", captorUpload.getValue()[2]);
+
+    ArgumentCaptor<String[]> captorVerify = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(operation.redirectingInput(), Mockito.times(2)).exec(captorVerify.capture());
+    assertEquals(PodUpload.verifyCommand("'/mock/file'", 9, sha256(data)), captorVerify.getAllValues().get(1)[2]);
+  }
+
   @Test
   void transferTo() throws Exception {
     final ByteArrayInputStream input = new ByteArrayInputStream("I'LL BE COPIED".getBytes(Charset.defaultCharset()));
@@ -136,6 +239,11 @@ class PodUploadTest {
     assertThat(result).isEqualTo("mkdir -p '/tmp/f\'\\'\'o\'\\'\'o' && cat - > '/tmp/f\'\\'\'o\'\\'\'o/c\'\\'\'p.log'");
   }
 
+  private static String sha256(byte[] data) throws Exception {
+    String checksum = new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(data)).toString(16);
+    return String.format("%64s", checksum).replace(' ', '0');
+  }
+
   void uploadFileAndVerify(PodUploadTester<Boolean> fileUploadMethodToTest, boolean stream, long size)
       throws IOException, InterruptedException {
     Mockito.when(this.operation.getContext().getFile()).thenReturn("/mock/file");
@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.client.RequestConfig;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.TokenRefreshInterceptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,9 +34,11 @@ import org.mockito.MockedConstruction;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BaseClientTest {
@@ -128,6 +131,12 @@ class BaseClientTest {
     }
   }
 
+  @Test
+  @DisplayName("token refreshes in the background should use the executor of the client")
+  void tagsHttpClientWithExecutor() {
+    verify(httpClient.newBuilder()).tag(isA(TokenRefreshInterceptor.RefreshExecutor.class));
+  }
+
   @Test
   void supportsGeneric() {
     try (MockedConstruction<OperationSupport> ignore = mockConstruction(OperationSupport.class,
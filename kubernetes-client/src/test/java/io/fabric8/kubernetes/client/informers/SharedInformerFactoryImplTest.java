@@ -21,6 +21,8 @@ import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.impl.BaseClient;
+import io.fabric8.kubernetes.client.informers.impl.InformerRegistry;
 import io.fabric8.kubernetes.client.informers.impl.SharedInformerFactoryImpl;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
@@ -147,4 +149,40 @@ class SharedInformerFactoryImplTest {
     assertThat(sharedIndexInformerVSvc.getApiTypeClass()).isEqualTo(VirtualService.class);
   }
 
+  @Test
+  void testSharedIndexInformerForSharedBetweenFactories() {
+    // Given
+    SharedInformerFactory first = new SharedInformerFactoryImpl(mockBaseClient).sharingClientInformers();
+    SharedInformerFactory second = new SharedInformerFactoryImpl(mockBaseClient).sharingClientInformers();
+    InformerRegistry registry = mockBaseClient.adapt(BaseClient.class).getInformerRegistry();
+
+    // When
+    SharedIndexInformer<Pod> firstInformer = first.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    SharedIndexInformer<Pod> secondInformer = second.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+
+    // Then
+    assertThat(firstInformer.getIndexer()).isSameAs(secondInformer.getIndexer());
+    assertThat(registry.size()).isEqualTo(1);
+    first.stopAllRegisteredInformers();
+    assertThat(registry.size()).isEqualTo(1);
+    second.stopAllRegisteredInformers();
+    assertThat(registry.size()).isZero();
+  }
+
+  @Test
+  void testSharedIndexInformerForNotSharedByDefault() {
+    // Given
+    SharedInformerFactory first = new SharedInformerFactoryImpl(mockBaseClient);
+    SharedInformerFactory second = new SharedInformerFactoryImpl(mockBaseClient);
+    InformerRegistry registry = mockBaseClient.adapt(BaseClient.class).getInformerRegistry();
+
+    // When
+    SharedIndexInformer<Pod> firstInformer = first.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    SharedIndexInformer<Pod> secondInformer = second.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+
+    // Then
+    assertThat(firstInformer.getIndexer()).isNotSameAs(secondInformer.getIndexer());
+    assertThat(registry.size()).isZero();
+  }
+
 }
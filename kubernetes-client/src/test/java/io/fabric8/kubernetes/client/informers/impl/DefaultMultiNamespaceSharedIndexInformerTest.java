@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.impl.DefaultMultiNamespaceSharedIndexInformer.ClusterWideStore;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorStore;
+import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultMultiNamespaceSharedIndexInformerTest {
+
+  private CacheImpl<Pod> cache;
+  private Set<String> namespaces;
+  private ClusterWideStore<Pod> store;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CacheImpl<>();
+    namespaces = new HashSet<>(Collections.singletonList("ns1"));
+    store = new ClusterWideStore<>(new ProcessorStore<>(cache, Mockito.mock(SharedProcessor.class)), namespaces);
+  }
+
+  private static Pod pod(String namespace, String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata()
+        .withNamespace(namespace)
+        .withName(name)
+        .withResourceVersion(resourceVersion)
+        .endMetadata()
+        .build();
+  }
+
+  @Test
+  void add_whenNamespaceNotWatched_thenIgnore() {
+    store.add(pod("ns1", "a", "1"));
+    store.add(pod("ns2", "a", "1"));
+
+    assertThat(cache.listKeys()).containsExactly("ns1/a");
+  }
+
+  @Test
+  void merge_whenWatchHandledSameOrLaterVersion_thenKeepWatched() {
+    Map<String, String> handled = store.addNamespace("ns2", true);
+    store.update(pod("ns2", "a", "5"));
+    store.update(pod("ns2", "b", "5"));
+
+    store.merge(pod("ns2", "a", "4"), handled);
+    store.merge(pod("ns2", "b", "6"), handled);
+    store.merge(pod("ns2", "c", "3"), handled);
+
+    assertThat(cache.getByKey("ns2/a").getMetadata().getResourceVersion()).isEqualTo("5");
+    assertThat(cache.getByKey("ns2/b").getMetadata().getResourceVersion()).isEqualTo("6");
+    assertThat(cache.getByKey("ns2/c").getMetadata().getResourceVersion()).isEqualTo("3");
+  }
+
+  @Test
+  void merge_whenWatchDeletedDuringCatchUp_thenDoNotRestore() {
+    Map<String, String> handled = store.addNamespace("ns2", true);
+    store.add(pod("ns2", "a", "5"));
+    store.delete(pod("ns2", "a", "6"));
+
+    store.merge(pod("ns2", "a", "5"), handled);
+
+    assertThat(cache.getByKey("ns2/a")).isNull();
+  }
+
+  @Test
+  void merge_whenRelistRemovedDuringCatchUp_thenDoNotRestore() {
+    Map<String, String> handled = store.addNamespace("ns2", true);
+    store.merge(pod("ns2", "a", "5"), handled);
+    store.update(Arrays.asList(pod("ns1", "a", "7"), pod("ns2", "b", "7")));
+    store.retainAll(key -> !key.equals("ns2/a"));
+
+    store.merge(pod("ns2", "a", "5"), handled);
+
+    assertThat(cache.listKeys()).containsExactlyInAnyOrder("ns1/a", "ns2/b");
+  }
+
+  @Test
+  void merge_whenNamespaceRemoved_thenIgnore() {
+    Map<String, String> handled = store.addNamespace("ns2", true);
+    store.merge(pod("ns2", "a", "5"), handled);
+    store.add(pod("ns1", "a", "5"));
+
+    store.removeNamespace("ns2");
+    store.merge(pod("ns2", "b", "5"), handled);
+
+    assertThat(namespaces).containsExactly("ns1");
+    assertThat(cache.listKeys()).containsExactly("ns1/a");
+  }
+
+  @Test
+  void merge_whenCaughtUp_thenIgnore() {
+    Map<String, String> handled = store.addNamespace("ns2", true);
+    store.caughtUp("ns2", handled);
+
+    store.merge(pod("ns2", "a", "5"), handled);
+    store.add(pod("ns2", "b", "5"));
+
+    assertThat(cache.listKeys()).containsExactly("ns2/b");
+  }
+
+}
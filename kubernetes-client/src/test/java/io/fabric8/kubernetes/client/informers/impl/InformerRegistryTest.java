@@ -0,0 +1,198 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InformerRegistryTest {
+
+  private InformerRegistry registry;
+  private SharedIndexInformer<Pod> informer;
+  private CompletableFuture<Void> stopped;
+  private Supplier<SharedIndexInformer<Pod>> supplier;
+  private Indexer<Pod> indexer;
+
+  @BeforeEach
+  void setUp() {
+    registry = new InformerRegistry();
+    informer = mock(SharedIndexInformer.class);
+    stopped = new CompletableFuture<>();
+    when(informer.stopped()).thenReturn(stopped);
+    indexer = mock(Indexer.class);
+    when(informer.getIndexer()).thenReturn(indexer);
+    supplier = mock(Supplier.class);
+    when(supplier.get()).thenReturn(informer);
+  }
+
+  @Test
+  void acquire_whenSameKey_thenShareInformer() {
+    // When
+    registry.acquire("pods", supplier, 0);
+    registry.acquire("pods", supplier, 0);
+
+    // Then
+    verify(supplier, times(1)).get();
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  void stop_whenAllReferencesStopped_thenStopInformer() {
+    // Given
+    SharedIndexInformer<Pod> first = registry.acquire("pods", supplier, 0);
+    SharedIndexInformer<Pod> second = registry.acquire("pods", supplier, 0);
+
+    // When
+    first.stop();
+    first.stop();
+
+    // Then
+    verify(informer, never()).stop();
+    assertThat(first.stopped()).isCompleted();
+    assertThat(second.stopped()).isNotCompleted();
+
+    // When
+    second.close();
+
+    // Then
+    verify(informer).stop();
+    assertThat(registry.size()).isZero();
+  }
+
+  @Test
+  void stop_whenHandlersAdded_thenRemoveOnlyThoseOfTheReference() {
+    // Given
+    ResourceEventHandler<Pod> firstHandler = mock(ResourceEventHandler.class);
+    ResourceEventHandler<Pod> secondHandler = mock(ResourceEventHandler.class);
+    SharedIndexInformer<Pod> first = registry.acquire("pods", supplier, 1000L);
+    SharedIndexInformer<Pod> second = registry.acquire("pods", supplier, 0);
+    first.addEventHandler(firstHandler);
+    second.addEventHandler(secondHandler);
+
+    // When
+    first.stop();
+
+    // Then
+    verify(informer).addEventHandlerWithResyncPeriod(firstHandler, 1000L);
+    verify(informer).addEventHandlerWithResyncPeriod(secondHandler, 0);
+    verify(informer).removeEventHandler(firstHandler);
+    verify(informer, never()).removeEventHandler(secondHandler);
+  }
+
+  @Test
+  void start_whenOptionsSetThroughReferences_thenApplyThoseOfTheFirstToStart() {
+    // Given
+    ItemStore<Pod> firstStore = mock(ItemStore.class);
+    ItemStore<Pod> secondStore = mock(ItemStore.class);
+    ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    SharedIndexInformer<Pod> first = registry.acquire("pods", supplier, 0);
+    SharedIndexInformer<Pod> second = registry.acquire("pods", supplier, 0);
+    first.itemStore(firstStore).exceptionHandler(exceptionHandler);
+    second.itemStore(secondStore);
+
+    // When
+    first.start();
+
+    // Then
+    verify(informer).itemStore(firstStore);
+    verify(informer).exceptionHandler(exceptionHandler);
+    assertThatThrownBy(second::start)
+        .isInstanceOf(KubernetesClientException.class)
+        .hasMessageContaining("different item store");
+    verify(informer, never()).itemStore(secondStore);
+    verify(informer, times(1)).start();
+
+    // When
+    SharedIndexInformer<Pod> third = registry.acquire("pods", supplier, 0).itemStore(firstStore);
+    third.run();
+
+    // Then
+    verify(informer).run();
+    assertThatThrownBy(() -> third.exceptionHandler(mock(ExceptionHandler.class)))
+        .isInstanceOf(KubernetesClientException.class)
+        .hasMessageContaining("different exception handler");
+  }
+
+  @Test
+  void removeIndexer_whenAddedThroughAnotherReference_thenFail() {
+    // Given
+    SharedIndexInformer<Pod> first = registry.acquire("pods", supplier, 0);
+    SharedIndexInformer<Pod> second = registry.acquire("pods", supplier, 0);
+    first.addIndexers(Collections.singletonMap("node", pod -> Collections.singletonList(pod.getSpec().getNodeName())));
+
+    // When
+    assertThatThrownBy(() -> second.removeIndexer("node")).isInstanceOf(KubernetesClientException.class);
+    first.removeIndexer("node");
+
+    // Then
+    verify(informer, times(1)).removeIndexer("node");
+  }
+
+  @Test
+  void addIndexers_whenSameIndexerAddedThroughAnotherReference_thenAddOnce() {
+    // Given
+    Map<String, Function<Pod, List<String>>> indexers = Collections.singletonMap("node",
+        pod -> Collections.singletonList(pod.getSpec().getNodeName()));
+    SharedIndexInformer<Pod> first = registry.acquire("pods", supplier, 0);
+    SharedIndexInformer<Pod> second = registry.acquire("pods", supplier, 0);
+    first.addIndexers(indexers);
+    when(indexer.getIndexers()).thenReturn(indexers);
+
+    // When
+    second.addIndexers(indexers);
+
+    // Then
+    verify(informer).addIndexers(indexers);
+    verify(informer).addIndexers(Collections.emptyMap());
+    assertThatThrownBy(() -> second.removeIndexer("node")).isInstanceOf(KubernetesClientException.class);
+  }
+
+  @Test
+  void acquire_whenInformerTerminated_thenCreateNewInformer() {
+    // Given
+    registry.acquire("pods", supplier, 0);
+
+    // When
+    stopped.completeExceptionally(new RuntimeException());
+    registry.acquire("pods", supplier, 0);
+
+    // Then
+    verify(supplier, times(2)).get();
+  }
+
+}
@@ -149,6 +149,43 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testIndexUpdatesRemoveStaleValues() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Pod testPod = new PodBuilder().withNewMetadata().withNamespace("test").withName("test-pod").endMetadata().build();
+    podCache.put(testPod);
+
+    Pod movedPod = new PodBuilder(testPod).editMetadata().withNamespace("other").endMetadata().build();
+    podCache.put(movedPod);
+
+    assertEquals(0, podCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+    assertEquals(0, podCache.indexKeys(Cache.NAMESPACE_INDEX, "test").size());
+    assertEquals(1, podCache.byIndex(Cache.NAMESPACE_INDEX, "other").size());
+  }
+
+  @Test
+  void testConcurrentCache() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    String nodeIndex = "node-index";
+    podCache.addIndexers(Collections.singletonMap(nodeIndex, pod -> Collections.singletonList(pod.getSpec().getNodeName())));
+
+    Pod testPod = new PodBuilder()
+        .withNewMetadata().withNamespace("test").withName("test-pod").endMetadata()
+        .withNewSpec().withNodeName("test-node").endSpec()
+        .build();
+    podCache.put(testPod);
+
+    ConcurrentCacheImpl<Pod> concurrentCache = new ConcurrentCacheImpl<>(podCache);
+
+    assertEquals(1, concurrentCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+    assertEquals(Collections.singletonList("test/test-pod"), concurrentCache.indexKeys(nodeIndex, "test-node"));
+    assertEquals(1, concurrentCache.index(nodeIndex, testPod).size());
+
+    concurrentCache.remove(testPod);
+    assertEquals(0, concurrentCache.byIndex(nodeIndex, "test-node").size());
+    assertEquals(0, concurrentCache.list().size());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
@@ -18,8 +18,16 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -61,4 +69,58 @@ class ProcessorListenerTest {
     assertTrue(deleteNotificationReceived);
 
   }
+
+  @Test
+  void testCoalescingNotificationHandling() {
+    Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    List<String> events = new ArrayList<>();
+    AtomicInteger coalesced = new AtomicInteger();
+    ProcessorListener<Pod> listener = new CoalescingProcessorListener<>(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        events.add("add " + obj.getMetadata().getResourceVersion());
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        events.add("update " + oldObj.getMetadata().getResourceVersion() + " " + newObj.getMetadata().getResourceVersion());
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        events.add("delete " + obj.getMetadata().getResourceVersion());
+      }
+    }, 0, tasks::add, Cache::metaNamespaceKeyFunc, coalesced::incrementAndGet);
+
+    Pod v1 = pod("1");
+    Pod v2 = pod("2");
+    Pod v3 = pod("3");
+    Pod v4 = pod("4");
+
+    listener.add(new ProcessorListener.AddNotification<>(v1));
+    runAll(tasks);
+    listener.add(new ProcessorListener.UpdateNotification<>(v1, v2));
+    listener.add(new ProcessorListener.UpdateNotification<>(v2, v3));
+    listener.add(new ProcessorListener.UpdateNotification<>(v3, v4));
+    runAll(tasks);
+    listener.add(new ProcessorListener.DeleteNotification<>(v4));
+    // a delete followed by an add is not merged
+    listener.add(new ProcessorListener.AddNotification<>(v1));
+    runAll(tasks);
+
+    assertEquals(Arrays.asList("add 1", "update 1 4", "delete 4", "add 1"), events);
+    assertEquals(2, coalesced.get());
+  }
+
+  private static void runAll(Queue<Runnable> tasks) {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static Pod pod(String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName("foo").withNamespace("default").withResourceVersion(resourceVersion)
+        .endMetadata().build();
+  }
 }
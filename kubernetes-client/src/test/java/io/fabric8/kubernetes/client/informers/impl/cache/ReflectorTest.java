@@ -16,23 +16,32 @@
 
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.dsl.internal.BaseOperation;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.exceptions.verification.TooFewActualInvocations;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.atLeast;
@@ -156,4 +165,74 @@ class ReflectorTest {
     });
   }
 
+  @Test
+  void testWatchList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    SyncableStore<Pod> mockStore = Mockito.mock(SyncableStore.class);
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.usingWatchList();
+
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    AbstractWatchManager<Pod> manager = Mockito.mock(AbstractWatchManager.class);
+    Mockito.doAnswer(invocation -> {
+      invocation.<Consumer<ListOptions>> getArgument(0).accept(options.getValue());
+      return null;
+    }).when(manager).modifyListOptions(Mockito.any());
+    Mockito.when(mock.submitWatch(options.capture(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(manager));
+
+    CompletableFuture<Void> future = reflector.start();
+
+    assertEquals(Boolean.TRUE, options.getValue().getAdditionalProperties().get(BaseOperation.SEND_INITIAL_EVENTS));
+    assertEquals("NotOlderThan", options.getValue().getResourceVersionMatch());
+    assertTrue(options.getValue().getAllowWatchBookmarks());
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").endMetadata().build();
+    reflector.getWatcher().eventReceived(Watcher.Action.ADDED, pod);
+
+    // not synced until the initial events end
+    assertFalse(future.isDone());
+
+    Pod bookmark = new PodBuilder().withNewMetadata().withResourceVersion("2")
+        .addToAnnotations(Reflector.INITIAL_EVENTS_END_ANNOTATION, "true").endMetadata().build();
+    reflector.getWatcher().eventReceived(Watcher.Action.BOOKMARK, bookmark);
+
+    assertTrue(future.isDone());
+    assertTrue(reflector.isWatching());
+    assertEquals("2", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mockStore).add(pod);
+    Mockito.verify(mockStore).retainAll(Mockito.<Predicate<String>> any());
+    Mockito.verify(mock, Mockito.never()).submitList(Mockito.any());
+    // reconnects should not request the initial events again
+    assertNull(options.getValue().getAdditionalProperties().get(BaseOperation.SEND_INITIAL_EVENTS));
+    assertNull(options.getValue().getResourceVersionMatch());
+  }
+
+  @Test
+  void testWatchListClosedBeforeInitialEventsEnd() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    SyncableStore<Pod> mockStore = Mockito.mock(SyncableStore.class);
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.usingWatchList();
+
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    CompletableFuture<Void> future = reflector.start();
+    assertFalse(future.isDone());
+
+    reflector.getWatcher().onClose(new WatcherException("closed"));
+
+    // the start should fail, rather than waiting for the initial events forever
+    assertThrows(CompletionException.class, future::join);
+    assertTrue(reflector.isStopped());
+    Mockito.verify(mockStore, Mockito.never()).retainAll(Mockito.any());
+
+    // a late bookmark is ignored
+    Pod bookmark = new PodBuilder().withNewMetadata().withResourceVersion("2")
+        .addToAnnotations(Reflector.INITIAL_EVENTS_END_ANNOTATION, "true").endMetadata().build();
+    reflector.getWatcher().eventReceived(Watcher.Action.BOOKMARK, bookmark);
+    Mockito.verify(mockStore, Mockito.never()).retainAll(Mockito.any());
+  }
+
 }
@@ -17,10 +17,20 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.EventQueuePolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class SharedProcessorTest {
   @Test
@@ -62,6 +72,141 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testCoalesce() {
+    Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer");
+    sharedProcessor.configureQueue(10, EventQueuePolicy.COALESCE, Cache::metaNamespaceKeyFunc, Collections::emptyList);
+    List<String> events = new ArrayList<>();
+    sharedProcessor.addProcessorListener(new RecordingHandler(events), 0, Collections::emptyList);
+
+    Pod v1 = pod("foo", "1");
+    Pod v2 = pod("foo", "2");
+    Pod v3 = pod("foo", "3");
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(v1), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(v1, v2), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(v2, v3), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("bar", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("bar", "1")), false);
+
+    assertEquals(2, sharedProcessor.getMetrics().getQueueDepth());
+    runAll(tasks);
+
+    assertEquals(Collections.singletonList("add foo 3"), events);
+    assertEquals(3, sharedProcessor.getMetrics().getEventsCoalesced());
+    assertEquals(0, sharedProcessor.getMetrics().getQueueDepth());
+  }
+
+  @Test
+  void testDropAndResync() {
+    Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer");
+    Pod foo = pod("foo", "1");
+    Pod bar = pod("bar", "1");
+    sharedProcessor.configureQueue(1, EventQueuePolicy.DROP_AND_RESYNC, Cache::metaNamespaceKeyFunc,
+        () -> Arrays.asList(foo, bar));
+    List<String> events = new ArrayList<>();
+    sharedProcessor.addProcessorListener(new RecordingHandler(events), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(foo), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(bar), false);
+    // deletes are not dropped
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("baz", "1")), false);
+
+    assertEquals(1, sharedProcessor.getMetrics().getEventsDropped());
+    runAll(tasks);
+
+    // bar was never seen, so it is resynced as an add
+    assertEquals(Arrays.asList("add foo 1", "delete baz 1", "update foo 1", "add bar 1"), events);
+    assertEquals(4, sharedProcessor.getMetrics().getHandlerInvocations());
+  }
+
+  @Test
+  void testDropAndResyncWithholdsUnseen() {
+    Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer");
+    Pod foo = pod("foo", "1");
+    List<Pod> items = new ArrayList<>(Arrays.asList(foo, pod("bar", "2")));
+    sharedProcessor.configureQueue(1, EventQueuePolicy.DROP_AND_RESYNC, Cache::metaNamespaceKeyFunc, () -> items);
+    List<String> events = new ArrayList<>();
+    sharedProcessor.addProcessorListener(new RecordingHandler(events), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(foo), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("bar", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("baz", "1")), false);
+    // deliver foo, which queues the resync
+    tasks.poll().run();
+    // the resync is now queued, updates for the unseen bar are withheld even though there is room
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("bar", "1"), pod("bar", "2")), false);
+    // baz was deleted before the handler saw it, so there is nothing to deliver
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("baz", "1")), false);
+    runAll(tasks);
+
+    assertEquals(Arrays.asList("add foo 1", "update foo 1", "add bar 2"), events);
+    assertEquals(3, sharedProcessor.getMetrics().getEventsDropped());
+  }
+
+  @Test
+  void testBlock() throws InterruptedException {
+    Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "informer");
+    sharedProcessor.configureQueue(1, EventQueuePolicy.BLOCK, Cache::metaNamespaceKeyFunc, Collections::emptyList);
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    sharedProcessor.addProcessorListener(new RecordingHandler(events), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    // resync events are dropped rather than blocking
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "1"), pod("foo", "1")), true);
+    assertEquals(1, sharedProcessor.getMetrics().getEventsDropped());
+
+    Thread distributor = new Thread(
+        () -> sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("bar", "1")), false));
+    distributor.start();
+    distributor.join(100);
+    assertTrue(distributor.isAlive());
+
+    runAll(tasks);
+    distributor.join(1000);
+    runAll(tasks);
+
+    assertEquals(Arrays.asList("add foo 1", "add bar 1"), events);
+  }
+
+  private static void runAll(Queue<Runnable> tasks) {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion)
+        .endMetadata().build();
+  }
+
+  private static class RecordingHandler implements ResourceEventHandler<Pod> {
+    private final List<String> events;
+
+    RecordingHandler(List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void onAdd(Pod obj) {
+      events.add("add " + obj.getMetadata().getName() + " " + obj.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onUpdate(Pod oldObj, Pod newObj) {
+      events.add("update " + newObj.getMetadata().getName() + " " + newObj.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      events.add("delete " + obj.getMetadata().getName() + " " + obj.getMetadata().getResourceVersion());
+    }
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The server-side tabular representation of a list of resources, with the columns printed by kubectl get.
+ */
+@JsonDeserialize(using = com.fasterxml.jackson.databind.JsonDeserializer.None.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({
+    "apiVersion",
+    "kind",
+    "metadata",
+    "columnDefinitions",
+    "rows"
+})
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+public class Table implements KubernetesResource {
+
+  public static final String API_VERSION = "meta.k8s.io/v1";
+  public static final String KIND = "Table";
+
+  /**
+   * Media type requesting a {@link Table} from the API server
+   */
+  public static final String ACCEPT = "application/json;as=Table;g=meta.k8s.io;v=v1";
+
+  @JsonProperty("apiVersion")
+  private String apiVersion = API_VERSION;
+  @JsonProperty("kind")
+  private String kind = KIND;
+  @JsonProperty("metadata")
+  private ListMeta metadata;
+  @JsonProperty("columnDefinitions")
+  private List<TableColumnDefinition> columnDefinitions = new ArrayList<>();
+  @JsonProperty("rows")
+  private List<TableRow> rows = new ArrayList<>();
+
+  /**
+   * @param name the column name, as in {@link TableColumnDefinition#getName()}
+   * @return the index of the column in the cells of the rows, or -1 if there is no such column
+   */
+  public int getColumnIndex(String name) {
+    for (int i = 0; i < columnDefinitions.size(); i++) {
+      if (name.equalsIgnoreCase(columnDefinitions.get(i).getName())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param row the row index
+   * @param column the column name
+   * @return the cell value, or null if there is no such column
+   */
+  public Object getCell(int row, String column) {
+    int index = getColumnIndex(column);
+    return index < 0 ? null : rows.get(row).getCell(index);
+  }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A column of a {@link Table}.
+ */
+@JsonDeserialize(using = com.fasterxml.jackson.databind.JsonDeserializer.None.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({
+    "name",
+    "type",
+    "format",
+    "description",
+    "priority"
+})
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+public class TableColumnDefinition implements KubernetesResource {
+
+  @JsonProperty("name")
+  private String name;
+  /**
+   * An OpenAPI type, such as string, integer, number or boolean
+   */
+  @JsonProperty("type")
+  private String type;
+  @JsonProperty("format")
+  private String format;
+  @JsonProperty("description")
+  private String description;
+  /**
+   * 0 for the columns shown by default, higher for the ones shown with wide output
+   */
+  @JsonProperty("priority")
+  private Integer priority;
+
+}
@@ -16,10 +16,12 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -28,7 +30,6 @@ import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -96,26 +97,27 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    JsonNode node = jp.readValueAsTree();
-    if (node.isObject()) {
-      return fromObjectNode(jp, node);
-    } else if (node.isArray()) {
-      return fromArrayNode(jp, node);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+      return fromObject(jp, ctxt);
+    } else if (token == JsonToken.START_ARRAY) {
+      return fromArray(jp, ctxt);
+    } else if (token == JsonToken.VALUE_NULL) {
+      return null;
     }
-    Object object = node.traverse(jp.getCodec()).readValueAs(Object.class);
+    Object object = jp.readValueAs(Object.class);
     if (object == null) {
       return null;
     }
     return new RawExtension(object);
   }
 
-  private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-    Iterator<JsonNode> iterator = node.elements();
+  private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
     List<HasMetadata> list = new ArrayList<>();
-    while (iterator.hasNext()) {
-      JsonNode jsonNode = iterator.next();
-      if (jsonNode.isObject()) {
-        KubernetesResource resource = fromObjectNode(jp, jsonNode);
+    JsonToken token;
+    while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+      if (token == JsonToken.START_OBJECT) {
+        KubernetesResource resource = fromObject(jp, ctxt);
         if (!(resource instanceof HasMetadata)) {
           throw new JsonMappingException(jp, "Cannot parse a nested array containing a non-HasMetadata resource");
         }
@@ -127,34 +129,67 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     return new KubernetesListBuilder().withItems(list).build();
   }
 
-  private KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-    TypeKey key = createKey(node);
+  /**
+   * Buffers the fields of the object only until both the apiVersion and kind are known, then binds the
+   * buffered and remaining fields directly to the resolved type.
+   */
+  private KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    TokenBuffer buffer = ctxt.bufferForInputBuffering(jp);
+    buffer.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    while (token == JsonToken.FIELD_NAME && (apiVersion == null || kind == null)) {
+      String name = jp.currentName();
+      JsonToken valueToken = jp.nextToken();
+      if (valueToken == JsonToken.VALUE_STRING) {
+        if (API_VERSION.equals(name)) {
+          apiVersion = jp.getText();
+        } else if (KIND.equals(name)) {
+          kind = jp.getText();
+        }
+      }
+      buffer.writeFieldName(name);
+      buffer.copyCurrentStructure(jp);
+      if (apiVersion == null || kind == null) {
+        token = jp.nextToken();
+      }
+    }
+
+    Class<? extends KubernetesResource> resourceType = getResourceType(jp, mapping.createKey(apiVersion, kind));
+    JsonParser resourceParser;
+    if (token == JsonToken.FIELD_NAME) {
+      // the rest of the fields are read directly from the original parser
+      resourceParser = JsonParserSequence.createFlattened(false, buffer.asParser(jp), jp);
+    } else {
+      buffer.writeEndObject();
+      resourceParser = buffer.asParser(jp);
+    }
+    resourceParser.nextToken();
+    return jp.getCodec().readValue(resourceParser, resourceType);
+  }
+
+  private Class<? extends KubernetesResource> getResourceType(JsonParser jp, TypeKey key) throws JsonMappingException {
     Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
     if (resourceType == null) {
       if (key == null) {
         // just a wrapper around a map
         // if this raw mapping typed as HasMetadata, a failure will result
-        return jp.getCodec().treeToValue(node, RawExtension.class);
+        return RawExtension.class;
       }
       // this is not quite correct as not all resources have metadata - see LocalResourceAccessReview
-      return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
+      return GenericKubernetesResource.class;
     } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
-      return jp.getCodec().treeToValue(node, resourceType);
+      return resourceType;
     }
     throw new JsonMappingException(jp, String.format(
         "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
         resourceType.getName()));
   }
 
-  private TypeKey createKey(JsonNode node) {
-    JsonNode apiVersion = node.get(API_VERSION);
-    JsonNode kind = node.get(KIND);
-
-    return mapping.createKey(
-        apiVersion != null ? apiVersion.textValue() : null,
-        kind != null ? kind.textValue() : null);
-  }
-
   /**
    * Registers a Custom Resource Definition Kind
    */
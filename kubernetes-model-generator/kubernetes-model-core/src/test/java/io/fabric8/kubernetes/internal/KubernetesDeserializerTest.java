@@ -15,9 +15,14 @@
  */
 package io.fabric8.kubernetes.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer.TypeKey;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
@@ -25,6 +30,8 @@ import io.fabric8.kubernetes.model.annotation.Version;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class KubernetesDeserializerTest {
@@ -127,6 +134,71 @@ class KubernetesDeserializerTest {
     assertThat(clazz).isNull();
   }
 
+  @Test
+  void shouldDeserializeWhenKindIsFirst() throws Exception {
+    // given
+    String json = "{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\",\"metadata\":{\"name\":\"cm\"},\"data\":{\"key\":\"value\"}}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(ConfigMap.class);
+    ConfigMap configMap = (ConfigMap) resource;
+    assertThat(configMap.getMetadata().getName()).isEqualTo("cm");
+    assertThat(configMap.getData()).containsEntry("key", "value");
+  }
+
+  @Test
+  void shouldDeserializeWhenKindIsLast() throws Exception {
+    // given
+    String json = "{\"metadata\":{\"name\":\"cm\",\"labels\":{\"a\":\"b\"}},\"data\":{\"key\":\"value\"},"
+        + "\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\"}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(ConfigMap.class);
+    ConfigMap configMap = (ConfigMap) resource;
+    assertThat(configMap.getMetadata().getLabels()).containsEntry("a", "b");
+    assertThat(configMap.getData()).containsEntry("key", "value");
+  }
+
+  @Test
+  void shouldDeserializeUnknownKindAsGenericResource() throws Exception {
+    // given
+    String json = "{\"kind\":\"Custom\",\"apiVersion\":\"custom/v1\",\"spec\":{\"replicas\":1}}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(GenericKubernetesResource.class);
+    assertThat(((GenericKubernetesResource) resource).getAdditionalProperties())
+        .containsKey("spec");
+  }
+
+  @Test
+  void shouldDeserializeWithoutKindAsRawExtension() throws Exception {
+    // given
+    String json = "{\"apiVersion\":\"v1\",\"key\":[1,2]}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(RawExtension.class);
+    assertThat(((RawExtension) resource).getValue()).isInstanceOf(Map.class);
+  }
+
+  @Test
+  void shouldDeserializeArrayAsList() throws Exception {
+    // given
+    String json = "[{\"kind\":\"Pod\",\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"pod\"}},"
+        + "{\"metadata\":{\"name\":\"cm\"},\"kind\":\"ConfigMap\",\"apiVersion\":\"v1\"}]";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(KubernetesList.class);
+    assertThat(((KubernetesList) resource).getItems())
+        .hasSize(2)
+        .satisfies(items -> assertThat(items.get(0)).isInstanceOf(Pod.class))
+        .satisfies(items -> assertThat(items.get(1)).isInstanceOf(ConfigMap.class));
+  }
+
   @Group("")
   @Kind("Hitchhiker")
   @Version("42")
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableKubernetesMockClient
+class AsyncOperationTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  @Test
+  void getReturnsItem() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(200, configMap("cm1")).once();
+
+    ConfigMap result = await(client.configMaps().withName("cm1").async().get());
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+  }
+
+  @Test
+  void getReturnsNullWhenNotFound() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(404, "").once();
+
+    assertThat(await(client.configMaps().async().withName("cm1").get())).isNull();
+  }
+
+  @Test
+  void getCompletesExceptionallyOnError() {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(500, "").once();
+
+    CompletableFuture<ConfigMap> future = client.configMaps().withName("cm1").async().get();
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertThat(e.getCause()).isInstanceOf(KubernetesClientException.class);
+    assertThat(((KubernetesClientException) e.getCause()).getCode()).isEqualTo(500);
+  }
+
+  @Test
+  void getWithoutNameCompletesExceptionally() {
+    CompletableFuture<ConfigMap> future = client.configMaps().async().get();
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertThat(e.getCause()).isInstanceOf(KubernetesClientException.class);
+  }
+
+  @Test
+  void create() throws Exception {
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(201, configMap("cm1")).once();
+
+    ConfigMap result = await(client.configMaps().resource(configMap("cm1")).async().create());
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+    assertThat(server.getLastRequest().getMethod()).isEqualTo("POST");
+  }
+
+  @Test
+  void serverSideApply() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cm1?fieldManager=fabric8")
+        .andReturn(200, configMap("cm1")).once();
+
+    ConfigMap result = await(client.configMaps().async().resource(configMap("cm1")).serverSideApply());
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+    assertThat(server.getLastRequest().getHeader("Content-Type")).startsWith("application/apply-patch+yaml");
+  }
+
+  @Test
+  void patchDoesNotFetchTheItem() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(200, configMap("cm1"))
+        .once();
+
+    ConfigMap result = await(client.configMaps().withName("cm1").async()
+        .patch(PatchContext.of(PatchType.JSON_MERGE), "{\"data\":{\"key\":\"value\"}}"));
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+    RecordedRequest request = server.getLastRequest();
+    assertThat(request.getHeader("Content-Type")).startsWith("application/merge-patch+json");
+  }
+
+  @Test
+  void deleteNamed() throws Exception {
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(200, configMap("cm1"))
+        .once();
+
+    List<StatusDetails> result = await(client.configMaps().withName("cm1").async().delete());
+
+    assertThat(result).singleElement().extracting(StatusDetails::getName).isEqualTo("cm1");
+  }
+
+  @Test
+  void deleteNamedNotFound() throws Exception {
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(404, "").once();
+
+    assertThat(await(client.configMaps().withName("cm1").async().delete())).isEmpty();
+  }
+
+  @Test
+  void list() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps")
+        .andReturn(200, new ConfigMapListBuilder().addToItems(configMap("cm1"), configMap("cm2")).build()).once();
+
+    assertThat(await(client.configMaps().async().list()).getItems()).hasSize(2);
+  }
+
+  private static ConfigMap configMap(String name) {
+    return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("test").endMetadata().build();
+  }
+
+  private static <T> T await(CompletableFuture<T> future) throws Exception {
+    return future.get(10, TimeUnit.SECONDS);
+  }
+
+}
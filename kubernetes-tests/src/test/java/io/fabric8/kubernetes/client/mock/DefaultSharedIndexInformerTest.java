@@ -45,6 +45,8 @@ import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.mock.crd.Animal;
 import io.fabric8.kubernetes.client.mock.crd.AnimalSpec;
 import io.fabric8.kubernetes.client.mock.crd.CronTab;
@@ -238,6 +240,63 @@ class DefaultSharedIndexInformerTest {
     assertEquals(endResourceVersion, podInformer.lastSyncResourceVersion());
   }
 
+  @Test
+  void testFactoriesWithDifferentItemStores() throws Exception {
+    // Given
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=0")
+        .andReturn(200, new PodListBuilder().withNewMetadata()
+            .withResourceVersion("1000")
+            .endMetadata()
+            .addNewItem()
+            .withNewMetadata()
+            .withNamespace("test")
+            .withName("pod1")
+            .withResourceVersion("1000")
+            .endMetadata()
+            .endItem()
+            .build())
+        .always();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=1000&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .always();
+    BasicItemStore<Pod> firstStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+    BasicItemStore<Pod> secondStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+    SharedInformerFactory other = client.informers();
+
+    // When
+    factory.inNamespace("test").sharedIndexInformerFor(Pod.class, RESYNC_PERIOD).itemStore(firstStore);
+    other.inNamespace("test").sharedIndexInformerFor(Pod.class, RESYNC_PERIOD).itemStore(secondStore);
+    factory.startAllRegisteredInformers().get(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    other.startAllRegisteredInformers().get(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+
+    // Then, each factory has its own informer and store
+    assertThat(firstStore.keySet()).containsExactly("test/pod1");
+    assertThat(secondStore.keySet()).containsExactly("test/pod1");
+    other.stopAllRegisteredInformers();
+
+    // Given
+    SharedInformerFactory sharingFirst = client.informers().inNamespace("test").sharingClientInformers();
+    SharedInformerFactory sharingSecond = client.informers().inNamespace("test").sharingClientInformers();
+    BasicItemStore<Pod> sharedStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+    sharingFirst.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD).itemStore(sharedStore);
+    SharedIndexInformer<Pod> conflicting = sharingSecond.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD)
+        .itemStore(new BasicItemStore<>(Cache::metaNamespaceKeyFunc));
+
+    // When
+    sharingFirst.startAllRegisteredInformers().get(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+
+    // Then, the shared informer uses the store of the factory that started it, the other one can't start
+    assertThat(sharedStore.keySet()).containsExactly("test/pod1");
+    KubernetesClientException exception = assertThrows(KubernetesClientException.class, conflicting::start);
+    assertThat(exception.getMessage()).contains("different item store");
+    sharingSecond.stopAllRegisteredInformers();
+    sharingFirst.stopAllRegisteredInformers();
+  }
+
   @Test
   @DisplayName("Pod Informer should watch in all namespaces")
   void testAllNamespacedInformer() throws InterruptedException {
@@ -1204,6 +1263,82 @@ class DefaultSharedIndexInformerTest {
     assertEquals(0, foundExistingAnimal.getCount());
   }
 
+  @Test
+  void testStreamingListWithLimit() {
+    // Given
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?limit=1")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withContinue("1").withResourceVersion("1000").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion("999").endMetadata()
+            .endItem()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?limit=1&continue=1")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1000").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod2").withNamespace("test").withResourceVersion("1000").endMetadata()
+            .endItem()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=1000&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .always();
+
+    // When
+    SharedIndexInformer<Pod> podInformer = client.pods().inNamespace("test").withLimit(1L).runnableInformer(0)
+        .streamingList();
+    podInformer.run();
+
+    // Then
+    assertEquals(2, podInformer.getStore().list().size());
+    assertEquals("v1", podInformer.getStore().getByKey("test/pod2").getApiVersion());
+    assertEquals("1000", podInformer.lastSyncResourceVersion());
+    podInformer.stop();
+  }
+
+  @Test
+  @DisplayName("Pod Informer using a watch list should start over when the watch fails before the initial events end")
+  void testWatchListFailureBeforeInitialEventsEnd() throws Exception {
+    // Given
+    String watchListPath = "/api/v1/namespaces/test/pods?resourceVersionMatch=NotOlderThan&timeoutSeconds=600"
+        + "&allowWatchBookmarks=true&sendInitialEvents=true&watch=true";
+    server.expect()
+        .withPath(watchListPath)
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(WATCH_EVENT_EMIT_TIME)
+        .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1")
+            .withResourceVersion("1000").endMetadata().build(), "ADDED"))
+        .waitFor(OUTDATED_WATCH_EVENT_EMIT_TIME)
+        .andEmit(outdatedEvent)
+        .done()
+        .once();
+    server.expect()
+        .withPath(watchListPath)
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(WATCH_EVENT_EMIT_TIME)
+        .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod2")
+            .withResourceVersion("1001").endMetadata().build(), "ADDED"))
+        .waitFor(WATCH_EVENT_EMIT_TIME)
+        .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withResourceVersion("1002")
+            .addToAnnotations("k8s.io/initial-events-end", "true").endMetadata().build(), "BOOKMARK"))
+        .done()
+        .always();
+
+    // When
+    SharedIndexInformer<Pod> podInformer = client.pods().inNamespace("test").runnableInformer(0).watchList();
+    podInformer.start().toCompletableFuture().get(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+
+    // Then
+    assertThat(podInformer.getStore().listKeys()).containsExactly("test/pod2");
+    assertEquals("1002", podInformer.lastSyncResourceVersion());
+    podInformer.stop();
+  }
+
   private KubernetesResource getAnimal(String name, String order, String resourceVersion) {
     AnimalSpec animalSpec = new AnimalSpec();
     animalSpec.setOrder(order);
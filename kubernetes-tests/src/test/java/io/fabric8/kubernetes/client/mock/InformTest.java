@@ -20,18 +20,28 @@ import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ListMetaBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.WatchEventBuilder;
 import io.fabric8.kubernetes.api.model.apps.ReplicaSetBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.MultiNamespaceSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ReducedStateItemStore;
+import io.fabric8.kubernetes.client.informers.impl.DefaultMultiNamespaceSharedIndexInformer;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
@@ -39,8 +49,13 @@ import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -505,4 +520,272 @@ class InformTest {
     informer.stop();
   }
 
+  @Test
+  void testInformMetadataOnly() throws InterruptedException {
+    // Given
+    PartialObjectMetadata secret = new PartialObjectMetadata();
+    secret.setMetadata(new ObjectMetaBuilder().withName("secret1").withNamespace("test").withResourceVersion("1").build());
+    PartialObjectMetadataList list = new PartialObjectMetadataList();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("1").build());
+    list.setItems(Arrays.asList(secret));
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/secrets?labelSelector=my-label&resourceVersion=0")
+        .andReturn(HttpURLConnection.HTTP_OK, list)
+        .once();
+
+    server.expect()
+        .withPath(
+            "/api/v1/namespaces/test/secrets?labelSelector=my-label&resourceVersion=1&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(EVENT_WAIT_PERIOD_MS)
+        .andEmit(new WatchEvent(secret, "DELETED"))
+        .done()
+        .once();
+    final CountDownLatch deleteLatch = new CountDownLatch(1);
+    final CountDownLatch addLatch = new CountDownLatch(1);
+    final ResourceEventHandler<PartialObjectMetadata> handler = new ResourceEventHandler<PartialObjectMetadata>() {
+
+      @Override
+      public void onAdd(PartialObjectMetadata obj) {
+        addLatch.countDown();
+      }
+
+      @Override
+      public void onDelete(PartialObjectMetadata obj, boolean deletedFinalStateUnknown) {
+        deleteLatch.countDown();
+      }
+
+      @Override
+      public void onUpdate(PartialObjectMetadata oldObj, PartialObjectMetadata newObj) {
+
+      }
+
+    };
+    // When
+    SharedIndexInformer<PartialObjectMetadata> informer = client.secrets().inNamespace("test").withLabel("my-label")
+        .metadataOnly().inform(handler);
+
+    // Then
+    assertTrue(deleteLatch.await(10, TimeUnit.SECONDS));
+    assertTrue(addLatch.await(10, TimeUnit.SECONDS));
+    assertEquals(PartialObjectMetadata.ACCEPT, server.getLastRequest().getHeader("Accept"));
+
+    informer.stop();
+  }
+
+  @Test
+  void testMultiNamespaceInformer() throws Exception {
+    // Given
+    for (String namespace : Arrays.asList("ns1", "ns2", "ns3")) {
+      Pod pod = new PodBuilder().withNewMetadata()
+          .withNamespace(namespace)
+          .withName("pod-" + namespace)
+          .withResourceVersion("1")
+          .endMetadata()
+          .build();
+      server.expect()
+          .withPath("/api/v1/namespaces/" + namespace + "/pods?resourceVersion=0")
+          .andReturn(HttpURLConnection.HTTP_OK,
+              new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(pod).build())
+          .once();
+      server.expect()
+          .withPath("/api/v1/namespaces/" + namespace
+              + "/pods?resourceVersion=1&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+          .andUpgradeToWebSocket()
+          .open()
+          .done()
+          .once();
+    }
+    final CountDownLatch deleteLatch = new CountDownLatch(1);
+    final ResourceEventHandler<Pod> handler = new ResourceEventHandler<Pod>() {
+
+      @Override
+      public void onAdd(Pod obj) {
+
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        assertEquals("pod-ns1", obj.getMetadata().getName());
+        deleteLatch.countDown();
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+
+      }
+
+    };
+
+    // When
+    MultiNamespaceSharedIndexInformer<Pod> informer = client.pods()
+        .multiNamespaceInformer(Arrays.asList("ns1", "ns2"), 0);
+    informer.addEventHandler(handler);
+    informer.start().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    // Then
+    assertEquals(2, informer.getStore().list().size());
+
+    informer.addNamespace("ns3").toCompletableFuture().get(10, TimeUnit.SECONDS);
+    assertEquals(3, informer.getStore().list().size());
+
+    informer.removeNamespace("ns1");
+    assertTrue(deleteLatch.await(10, TimeUnit.SECONDS));
+    assertEquals(new HashSet<>(Arrays.asList("ns2", "ns3")), informer.getNamespaces());
+    assertEquals(2, informer.getStore().list().size());
+    assertNull(informer.getStore().getByKey("ns1/pod-ns1"));
+
+    informer.stop();
+  }
+
+  @Test
+  void testClusterWideMultiNamespaceInformer() throws Exception {
+    // Given
+    server.expect()
+        .withPath("/api/v1/pods?resourceVersion=0")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("1").endMetadata()
+            .withItems(pod("ns0", "1"), pod("ns1", "1"), pod("other", "1")).build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/pods?resourceVersion=1&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(100)
+        .andEmit(new WatchEventBuilder().withType(Watcher.Action.ERROR.name())
+            .withObject(new StatusBuilder().withCode(HttpURLConnection.HTTP_GONE).build())
+            .build())
+        .done()
+        .once();
+    // ns1 has been deleted meanwhile
+    server.expect()
+        .withPath("/api/v1/pods")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("2").endMetadata()
+            .withItems(pod("ns0", "1"), pod("extra", "1"), pod("other", "1")).build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/pods?resourceVersion=2&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .always();
+    server.expect()
+        .withPath("/api/v1/namespaces/extra/pods")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("1").endMetadata()
+            .withItems(pod("extra", "1")).build())
+        .once();
+    final CountDownLatch removedLatch = new CountDownLatch(1);
+    final CountDownLatch relistLatch = new CountDownLatch(1);
+    final ResourceEventHandler<Pod> handler = new ResourceEventHandler<Pod>() {
+
+      @Override
+      public void onAdd(Pod obj) {
+
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        if (obj.getMetadata().getName().equals("pod-ns1")) {
+          relistLatch.countDown();
+        } else {
+          assertEquals("pod-ns0", obj.getMetadata().getName());
+          removedLatch.countDown();
+        }
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+
+      }
+
+    };
+
+    // When
+    MultiNamespaceSharedIndexInformer<Pod> informer = client.pods()
+        .multiNamespaceInformer(clusterWideNamespaces(), 0);
+    informer.addEventHandler(handler);
+    informer.start().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    // Then
+    assertTrue(((DefaultMultiNamespaceSharedIndexInformer<Pod, ?>) informer).isClusterWide());
+    assertEquals("1", informer.getStore().getByKey("ns0/pod-ns0").getMetadata().getResourceVersion());
+    assertNull(informer.getStore().getByKey("other/pod-other"));
+
+    informer.addNamespace("extra").toCompletableFuture().get(10, TimeUnit.SECONDS);
+    assertEquals("1", informer.getStore().getByKey("extra/pod-extra").getMetadata().getResourceVersion());
+
+    informer.removeNamespace("ns0");
+    assertTrue(removedLatch.await(10, TimeUnit.SECONDS));
+    assertNull(informer.getStore().getByKey("ns0/pod-ns0"));
+
+    // the relist only keeps the pods of the current namespaces
+    assertTrue(relistLatch.await(10, TimeUnit.SECONDS));
+    assertEquals(Collections.singletonList("extra/pod-extra"), informer.getStore().listKeys());
+
+    informer.stop();
+  }
+
+  @Test
+  void testClusterWideMultiNamespaceInformerListsAddedNamespaceInPages() throws Exception {
+    // Given
+    server.expect()
+        .withPath("/api/v1/pods?limit=1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("1").endMetadata()
+            .build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/pods?resourceVersion=1&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .always();
+    server.expect()
+        .withPath("/api/v1/namespaces/extra/pods?limit=1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("1").withContinue("1").endMetadata()
+            .withItems(pod("extra", "1")).build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/extra/pods?limit=1&continue=1")
+        .andReturn(HttpURLConnection.HTTP_OK, new PodListBuilder()
+            .withNewMetadata().withResourceVersion("1").endMetadata()
+            .withItems(new PodBuilder(pod("extra", "1")).editMetadata().withName("pod-extra-2").endMetadata().build())
+            .build())
+        .once();
+
+    // When
+    // withLimit is only typed as an Informable
+    FilterWatchListDeletable<Pod, PodList, PodResource> pods = client.pods();
+    pods = (FilterWatchListDeletable<Pod, PodList, PodResource>) pods.withLimit(1L);
+    MultiNamespaceSharedIndexInformer<Pod> informer = pods.multiNamespaceInformer(clusterWideNamespaces(), 0);
+    informer.start().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    informer.addNamespace("extra").toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    // Then
+    assertEquals(Arrays.asList("extra/pod-extra", "extra/pod-extra-2"),
+        informer.getStore().listKeys().stream().sorted().collect(Collectors.toList()));
+
+    informer.stop();
+  }
+
+  private static List<String> clusterWideNamespaces() {
+    return IntStream.rangeClosed(0, DefaultMultiNamespaceSharedIndexInformer.CLUSTER_WIDE_THRESHOLD)
+        .mapToObj(i -> "ns" + i)
+        .collect(Collectors.toList());
+  }
+
+  private static Pod pod(String namespace, String resourceVersion) {
+    return new PodBuilder().withNewMetadata()
+        .withNamespace(namespace)
+        .withName("pod-" + namespace)
+        .withResourceVersion(resourceVersion)
+        .endMetadata()
+        .build();
+  }
+
 }
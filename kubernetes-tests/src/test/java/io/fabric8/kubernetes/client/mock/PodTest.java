@@ -19,10 +19,14 @@ package io.fabric8.kubernetes.client.mock;
 import io.fabric8.kubernetes.api.model.DeleteOptionsBuilder;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.Table;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.policy.v1.EvictionBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -73,6 +77,7 @@ import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -130,6 +135,46 @@ class PodTest {
     assertEquals(3, podList.getItems().size());
   }
 
+  @Test
+  void testListAsTable() throws InterruptedException {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?includeObject=None")
+        .andReturn(200, "{\"kind\":\"Table\",\"apiVersion\":\"meta.k8s.io/v1\","
+            + "\"metadata\":{\"resourceVersion\":\"5\"},"
+            + "\"columnDefinitions\":[{\"name\":\"Name\",\"type\":\"string\",\"priority\":0},"
+            + "{\"name\":\"Restarts\",\"type\":\"integer\",\"priority\":0}],"
+            + "\"rows\":[{\"cells\":[\"pod1\",0]},{\"cells\":[\"pod2\",3]}]}")
+        .once();
+
+    Table table = client.pods().listAsTable(new ListOptions(), false);
+
+    assertEquals(Table.ACCEPT, server.getLastRequest().getHeader("Accept"));
+    assertEquals("5", table.getMetadata().getResourceVersion());
+    assertEquals(2, table.getRows().size());
+    assertEquals(1, table.getColumnIndex("restarts"));
+    assertEquals("pod2", table.getCell(1, "Name"));
+    assertEquals(3, table.getCell(1, "Restarts"));
+    assertNull(table.getRows().get(0).getObject());
+  }
+
+  @Test
+  void testGetMetadataOnly() {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(200, new PartialObjectMetadataBuilder().withNewMetadata()
+            .withName("pod1")
+            .withNamespace("test")
+            .withResourceVersion("3")
+            .endMetadata()
+            .build())
+        .once();
+
+    PartialObjectMetadata pod = client.pods().metadataOnly().withName("pod1").get();
+
+    assertEquals(PartialObjectMetadata.ACCEPT, server.getLastRequest().getHeader("Accept"));
+    assertEquals("3", pod.getMetadata().getResourceVersion());
+  }
+
   @Test
   void testListWithLabels() {
     server.expect()
@@ -767,6 +812,73 @@ class PodTest {
     }
   }
 
+  @Test
+  void testPortForwardSharesWebSocketBetweenConnections() throws IOException {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1/portforward?ports=123&ports=123")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(100)
+        .andEmit(portForwardEncode(0, "12")) // first data channel info
+        .andEmit(portForwardEncode(1, "12")) // first error channel info
+        .andEmit(portForwardEncode(2, "12")) // second data channel info
+        .andEmit(portForwardEncode(3, "12")) // second error channel info
+        .waitFor(10)
+        .andEmit(portForwardEncode(0, "Hello"))
+        .waitFor(10)
+        .andEmit(portForwardEncode(2, "World"))
+        .done()
+        .once();
+
+    try (
+        LocalPortForward portForward = client.pods().withName("pod1").portForward(123, null, 0, 2);
+        SocketChannel first = SocketChannel.open();
+        SocketChannel second = SocketChannel.open()) {
+      assertTrue(first.connect(new InetSocketAddress("localhost", portForward.getLocalPort())));
+      assertTrue(second.connect(new InetSocketAddress("localhost", portForward.getLocalPort())));
+
+      assertEquals("Hello", readFully(first));
+      assertEquals("World", readFully(second));
+      assertEquals(1, server.getRequestCount());
+      assertFalse(portForward.errorOccurred());
+    }
+  }
+
+  @Test
+  void testPortForwardKeepsDataForStreamsNotYetTaken() throws IOException {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1/portforward?ports=123&ports=123")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(100)
+        .andEmit(portForwardEncode(0, "12")) // first data channel info
+        .andEmit(portForwardEncode(1, "12")) // first error channel info
+        .andEmit(portForwardEncode(2, "12")) // second data channel info
+        .andEmit(portForwardEncode(3, "12")) // second error channel info
+        .waitFor(10)
+        .andEmit(portForwardEncode(2, "Banner"))
+        .andEmit(portForwardEncode(3, "Connection refused"))
+        .waitFor(500)
+        .andEmit(portForwardEncode(0, "Hello"))
+        .done()
+        .once();
+
+    try (
+        LocalPortForward portForward = client.pods().withName("pod1").portForward(123, null, 0, 2);
+        SocketChannel first = SocketChannel.open();
+        SocketChannel second = SocketChannel.open()) {
+      assertTrue(first.connect(new InetSocketAddress("localhost", portForward.getLocalPort())));
+      Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> !portForward.getServerThrowables().isEmpty());
+
+      // the second stream got its data and error before any local connection took it
+      assertTrue(second.connect(new InetSocketAddress("localhost", portForward.getLocalPort())));
+      assertEquals("Banner", readFully(second));
+      assertEquals("Hello", readFully(first));
+      assertEquals(1, server.getRequestCount());
+      assertTrue(portForward.errorOccurred());
+    }
+  }
+
   @Test
   void testPortForwardWithChannel() throws InterruptedException, IOException {
 
@@ -1073,12 +1185,34 @@ class PodTest {
     watch.close();
   }
 
+  private static String readFully(SocketChannel channel) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(1024);
+    int read;
+    do {
+      try {
+        read = channel.read(buffer);
+      } catch (IOException io) {
+        // On windows an exception is thrown when connection is reset during read
+        if (!io.getMessage().startsWith("An existing connection was forcibly closed")) {
+          throw io;
+        }
+        read = -1;
+      }
+    } while (read >= 0);
+    buffer.flip();
+    return ByteString.of(buffer).utf8();
+  }
+
   private static String portForwardEncode(boolean dataChannel, String str) {
+    return portForwardEncode(dataChannel ? 0 : 1, str);
+  }
+
+  private static String portForwardEncode(int channel, String str) {
     try {
       byte[] data = str.getBytes(StandardCharsets.UTF_8);
       byte[] msg = new byte[data.length + 1];
       System.arraycopy(data, 0, msg, 1, data.length);
-      msg[0] = dataChannel ? (byte) 0 : (byte) 1;
+      msg[0] = (byte) channel;
       return new String(msg, StandardCharsets.UTF_8);
     } catch (Exception e) {
       throw new IllegalStateException(e);
@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
@@ -104,6 +106,21 @@ public class ResourceListTest {
     assertThrows(KubernetesClientException.class, listOp::createOrReplace);
   }
 
+  @Test
+  void testCreateOrReplaceCreatesNamespacesFirst() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("test").and().build();
+
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, namespace).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod1).once();
+
+    List<HasMetadata> response = client.resourceList(pod1, namespace).createOrReplace();
+
+    assertThat(response).containsExactly(pod1, namespace);
+    assertEquals("/api/v1/namespaces", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/test/pods", server.takeRequest().getPath());
+  }
+
   @Test
   void testCreateWithExplicitNamespace() throws InterruptedException {
     Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();